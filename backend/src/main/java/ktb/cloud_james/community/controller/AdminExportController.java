@@ -0,0 +1,59 @@
+package ktb.cloud_james.community.controller;
+
+import ktb.cloud_james.community.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 관리자 데이터 내보내기 API 컨트롤러
+ * - 응답은 NDJSON 스트림 (application/x-ndjson, 한 줄에 한 건)
+ * - 예: curl -H "Authorization: Bearer {token}" https://.../api/admin/export/posts > posts.ndjson
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@Slf4j
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    /**
+     * 게시글 + 통계 전체 내보내기 (삭제된 게시글 포함)
+     */
+    @GetMapping("/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts(@AuthenticationPrincipal Long userId) {
+        exportService.checkAdmin(userId);
+        log.info("게시글 내보내기 시작 - userId: {}", userId);
+
+        return ndjson("posts.ndjson", out -> exportService.exportPosts(out));
+    }
+
+    /**
+     * 댓글 전체 내보내기 (삭제된 댓글 포함)
+     */
+    @GetMapping("/comments")
+    public ResponseEntity<StreamingResponseBody> exportComments(@AuthenticationPrincipal Long userId) {
+        exportService.checkAdmin(userId);
+        log.info("댓글 내보내기 시작 - userId: {}", userId);
+
+        return ndjson("comments.ndjson", out -> exportService.exportComments(out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(String filename, StreamingResponseBody body) {
+        return ResponseEntity
+                .ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
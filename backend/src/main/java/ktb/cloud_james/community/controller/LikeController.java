@@ -2,22 +2,28 @@ package ktb.cloud_james.community.controller;
 
 import ktb.cloud_james.community.dto.common.ApiResponse;
 import ktb.cloud_james.community.dto.like.LikeResponseDto;
+import ktb.cloud_james.community.dto.like.LikerListResponseDto;
 import ktb.cloud_james.community.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 좋아요 API 컨트롤러
- * - 좋아요 추가/취소
+ * - 좋아요 토글 (POST), 좋아요 (PUT), 좋아요 취소 (DELETE)
+ * - 좋아요 누른 사용자 목록 (GET /likes)
  */
 @RestController
-@RequestMapping("/api/posts/{postId}/like")
+@RequestMapping("/api/posts/{postId}")
 @Slf4j
 @RequiredArgsConstructor
 public class LikeController {
@@ -29,8 +35,9 @@ public class LikeController {
      * - 좋아요 안 눌려있음 → 추가 (INSERT, isLiked: true, likeCount +1)
      * - 이미 좋아요 누름 → 취소 (DELETE, isLiked: false, likeCount -1)
      * - 클라이언트는 무조건 POST만 날리면 됨 (서버가 알아서 판단)
+     * - 타임아웃 후 재시도하면 상태가 다시 뒤집힘 → 재시도하는 클라이언트는 PUT/DELETE 사용
      */
-    @PostMapping
+    @PostMapping("/like")
     public ResponseEntity<ApiResponse<LikeResponseDto>> like(
             @PathVariable Long postId,
             @AuthenticationPrincipal Long userId
@@ -41,4 +48,55 @@ public class LikeController {
         return ResponseEntity
                 .ok(ApiResponse.success("like_updated", response));
     }
+
+    /**
+     * 좋아요 API (멱등)
+     * - PUT /api/posts/{postId}/like → 항상 isLiked: true (이미 눌려 있으면 변경 없음)
+     * - 재시도/동시 요청도 같은 결과 (중복 INSERT 예외 없음)
+     */
+    @PutMapping("/like")
+    public ResponseEntity<ApiResponse<LikeResponseDto>> putLike(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal Long userId
+    ) {
+
+        LikeResponseDto response = likeService.putLike(userId, postId);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("like_updated", response));
+    }
+
+    /**
+     * 좋아요 취소 API (멱등)
+     * - DELETE /api/posts/{postId}/like → 항상 isLiked: false (이미 취소되어 있으면 변경 없음)
+     */
+    @DeleteMapping("/like")
+    public ResponseEntity<ApiResponse<LikeResponseDto>> deleteLike(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal Long userId
+    ) {
+
+        LikeResponseDto response = likeService.deleteLike(userId, postId);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("like_updated", response));
+    }
+
+    /**
+     * 좋아요 누른 사용자 목록 API (인피니티 스크롤)
+     * - 첫 페이지: GET /api/posts/{postId}/likes?limit=20
+     * - 다음 페이지: GET /api/posts/{postId}/likes?cursor=응답의 pagination.cursor&limit=20
+     */
+    @GetMapping("/likes")
+    public ResponseEntity<ApiResponse<LikerListResponseDto>> getLikers(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+
+        LikerListResponseDto response = likeService.getLikers(postId, cursor, limit);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("likers_retrieved", response));
+    }
 }
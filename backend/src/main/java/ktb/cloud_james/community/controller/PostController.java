@@ -1,16 +1,26 @@
 package ktb.cloud_james.community.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import ktb.cloud_james.community.dto.common.ApiResponse;
 import ktb.cloud_james.community.dto.post.*;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.global.util.ClientUtil;
+import ktb.cloud_james.community.service.PostSearchService;
 import ktb.cloud_james.community.service.PostService;
+import ktb.cloud_james.community.service.ViewHistoryService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * 게시글 API 컨트롤러
@@ -23,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
+    private final ViewHistoryService viewHistoryService;
+    private final PostSearchService postSearchService;
 
     /**
      * 게시글 작성 API 사용법:
@@ -48,17 +60,84 @@ public class PostController {
     /**
      * 게시글 목록 조회 API (인피니티 스크롤) 사용법:
      * - 첫 페이지: GET /api/posts?limit=20
-     * - 다음 페이지: GET /api/posts?lastSeenId=21&limit=10
+     * - 다음 페이지: GET /api/posts?before=21&limit=10 (lastSeenId=21도 동일, 둘을 함께 보내면 400)
+     * - 새 게시글 불러오기: GET /api/posts?after=40&limit=10 → 40보다 새 게시글 중 가까운 10건 (응답은 최신순)
+     *   → 더 위쪽은 응답의 pagination.firstSeenId를 after로 전달 (pagination.hasNewer)
+     * - 날짜로 이동: GET /api/posts?from=2025-10-01 (그날까지 작성된 게시글부터) 또는 from=2025-10-01 18:00:00
+     * - 인기순: GET /api/posts?sort=hot&limit=20 → 다음 페이지는 응답의 pagination.cursor 전달 (&cursor=...)
      * Headers: (일반적인 SNS는 비로그인도 볼 수 있지만, 이 커뮤니티는 기획상 로그인해야만 확인이 가능하다. -> 확장은 쉽게 가능)
      * - Authorization: Bearer {access_token} (필수)
+     * - If-None-Match: 이전 응답의 ETag (최신순 캐시 구간이면 변경 없을 때 DB 조회 없이 304)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<PostListResponseDto>> getPostList(
             @RequestParam(required = false) Long lastSeenId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) String from,
             @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal Long userId,
+            WebRequest webRequest
+    ) {
+        // lastSeenId는 before의 기존 이름 → 둘 다 보내면 어느 쪽이 기준인지 모호하므로 거부
+        if (lastSeenId != null && before != null) {
+            log.warn("게시글 목록 조회 실패 - 커서 중복 지정: lastSeenId={}, before={}", lastSeenId, before);
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        Long beforeId = before != null ? before : lastSeenId;
+
+        // 최신순은 본문을 만들기 전에 ETag 비교 (304면 조회/직렬화 생략)
+        if ("latest".equals(sort)) {
+            String etag = postService.getPostListETag(beforeId, after, from, limit, userId);
+            if (etag != null && webRequest.checkNotModified(etag)) {
+                return null;
+            }
+        }
+
+        PostListResponseDto response = switch (sort) {
+            case "latest" -> postService.getPostList(beforeId, after, from, limit, userId);
+            case "hot" -> postService.getHotPostList(cursor, limit, userId);
+            default -> throw new CustomException(ErrorCode.INVALID_REQUEST);
+        };
+
+        return ResponseEntity
+                .ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success("posts_retrieved", response));
+    }
+
+    /**
+     * 게시글 요약 일괄 조회 API
+     * - GET /api/posts/batch?ids=12,7,30 (최대 50개, 응답은 요청 순서)
+     * - 조회수는 증가하지 않음 (스크롤 위치 복원, 북마크 목록용)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<PostBatchResponseDto>> getPostsByIds(
+            @RequestParam List<Long> ids,
             @AuthenticationPrincipal Long userId
     ) {
-        PostListResponseDto response = postService.getPostList(lastSeenId, limit, userId);
+        PostBatchResponseDto response = postService.getPostsByIds(ids, userId);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("posts_retrieved", response));
+    }
+
+    /**
+     * 게시글 검색 API
+     * - GET /api/posts/search?q=검색어&cursor=...&limit=20
+     * - 제목/본문 검색, 관련도(BM25) 순, 다음 페이지는 응답의 pagination.cursor 사용
+     * - 서버 시작 직후 색인 준비 중에는 503 (search_index_not_ready)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PostListResponseDto>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal Long userId
+    ) {
+        PostListResponseDto response = postSearchService.search(q, cursor, limit, userId);
 
         return ResponseEntity
                 .ok(ApiResponse.success("posts_retrieved", response));
@@ -66,17 +145,43 @@ public class PostController {
 
     /**
      * 게시글 상세 조회 API
+     * - If-None-Match: 이전 응답의 ETag (조회수 외 변경 없으면 304, 조회수는 그대로 증가)
      */
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostDetailResponseDto>> getPostDetail(
             @PathVariable Long postId,
-            @AuthenticationPrincipal Long userId
+            @AuthenticationPrincipal Long userId,
+            HttpServletRequest request,
+            WebRequest webRequest
+    ) {
+
+        PostDetailResponseDto response = postService.getPostDetail(postId, userId, ClientUtil.fingerprint(request));
+
+        // 304면 본문 직렬화 생략
+        if (webRequest.checkNotModified(postService.getPostDetailETag(response))) {
+            return null;
+        }
+
+        return ResponseEntity
+                .ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success("post_retrieved", response));
+    }
+
+    /**
+     * 게시글 조회 곡선 API (1시간 단위)
+     * - GET /api/posts/{postId}/views/hourly?hours=24 (기본 24시간, 최대 168시간)
+     */
+    @GetMapping("/{postId}/views/hourly")
+    public ResponseEntity<ApiResponse<PostViewHistoryResponseDto>> getHourlyViews(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Integer hours
     ) {
 
-        PostDetailResponseDto response = postService.getPostDetail(postId, userId);
+        PostViewHistoryResponseDto response = viewHistoryService.getHourlyViews(postId, hours);
 
         return ResponseEntity
-                .ok(ApiResponse.success("post_retrieved", response));
+                .ok(ApiResponse.success("post_views_retrieved", response));
     }
 
     /**
@@ -6,7 +6,9 @@ import ktb.cloud_james.community.dto.auth.NicknameCheckResponseDto;
 import ktb.cloud_james.community.dto.auth.SignUpRequestDto;
 import ktb.cloud_james.community.dto.auth.SignUpResponseDto;
 import ktb.cloud_james.community.dto.common.ApiResponse;
+import ktb.cloud_james.community.dto.post.PostListResponseDto;
 import ktb.cloud_james.community.dto.user.*;
+import ktb.cloud_james.community.service.PostService;
 import ktb.cloud_james.community.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final PostService postService;
 
     /**
      * 회원가입 API
@@ -82,6 +85,24 @@ public class UserController {
                 .ok(ApiResponse.success("user_info_retrieved", response));
     }
 
+    /**
+     * 작성자별 게시글 목록 API (프로필 페이지)
+     * - 첫 페이지: GET /api/users/{userId}/posts?limit=20
+     * - 다음 페이지: GET /api/users/{userId}/posts?lastSeenId=21&limit=20
+     */
+    @GetMapping("/{userId}/posts")
+    public ResponseEntity<ApiResponse<PostListResponseDto>> getUserPosts(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long lastSeenId,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal Long currentUserId
+    ) {
+        PostListResponseDto response = postService.getUserPostList(userId, lastSeenId, limit, currentUserId);
+
+        return ResponseEntity
+                .ok(ApiResponse.success("posts_retrieved", response));
+    }
+
     /**
      * 회원정보 수정 API (닉네임 + 프로필 이미지)
      */
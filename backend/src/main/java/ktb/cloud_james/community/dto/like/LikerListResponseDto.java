@@ -0,0 +1,62 @@
+package ktb.cloud_james.community.dto.like;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좋아요 누른 사용자 목록 응답 DTO
+ * - 인피니티 스크롤용 (최근에 누른 순)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LikerListResponseDto {
+
+    // 사용자 목록
+    private List<LikerDto> likers;
+
+    // 페이징 정보
+    private PaginationInfo pagination;
+
+    // 캐시 항목은 여러 요청이 공유 → 조회 시 마스킹을 끝낸 상태로 보관, 이후 수정하지 않음
+    @Getter
+    @AllArgsConstructor
+    public static class LikerDto {
+        @JsonIgnore
+        private Long likeId;                 // 커서 (내부 처리용)
+
+        private Long userId;
+        private String nickname;
+        private String profileImage;
+
+        @JsonIgnore
+        private Boolean isDeleted;           // 탈퇴 여부 (내부 처리용)
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime likedAt;       // 좋아요 누른 시각
+
+        // 탈퇴한 회원이면 닉네임/이미지 변경
+        public void maskDeletedUser() {
+            if (isDeleted != null && isDeleted) {
+                this.nickname = "탈퇴한 회원";
+                this.profileImage = null;
+            }
+        }
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class PaginationInfo {
+
+        private Long cursor;     // 다음 페이지 요청 시 사용할 커서 (마지막 항목의 좋아요 ID)
+        private Boolean hasNext; // 다음 페이지 존재 여부
+        private Integer limit;   // 페이지당 사용자 수
+    }
+}
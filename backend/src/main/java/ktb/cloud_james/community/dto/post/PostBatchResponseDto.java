@@ -0,0 +1,22 @@
+package ktb.cloud_james.community.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 요약 일괄 조회 응답 DTO
+ * - posts: 요청한 ID 순서 (중복 제거)
+ * - missingIds: 존재하지 않거나 삭제된 게시글 ID (북마크 정리 등에 활용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostBatchResponseDto {
+
+    private List<PostListResponseDto.PostSummaryDto> posts;
+
+    private List<Long> missingIds;
+}
@@ -0,0 +1,24 @@
+package ktb.cloud_james.community.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 중 사용자와 무관한 부분 (내부 전용, 상세 캐시에 보관)
+ * - 본문/이미지/작성자 정보는 수정·삭제·회원정보 변경 때만 바뀜
+ * - 통계와 좋아요 여부는 PostDetailOverlayDto로 요청마다 따로 조회
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailContentDto {
+    private Long postId;
+    private String title;
+    private String content;
+    private String imageUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long authorId; // 작성자 여부 판별 + 회원정보 변경 시 캐시 무효화용
+    private PostDetailResponseDto.AuthorInfo author;
+}
@@ -0,0 +1,15 @@
+package ktb.cloud_james.community.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 상세 중 요청마다 조회하는 부분 (내부 전용)
+ * - 통계 (post_stats PK 조회) + 현재 사용자의 좋아요 여부 (post_likes 유니크 인덱스 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailOverlayDto {
+    private PostDetailResponseDto.StatsInfo stats;
+    private Boolean isLiked;
+}
@@ -2,6 +2,7 @@ package ktb.cloud_james.community.dto.post;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -61,6 +62,7 @@ public class PostDetailResponseDto {
     /**
      * 통계 정보
      * - viewsCount는 이미 +1 반영된 값
+     * - uniqueViewerCount는 고유 방문자 수 추정치 (기능 비활성화 시 응답에서 제외)
      */
     @Getter
     @Builder
@@ -69,5 +71,16 @@ public class PostDetailResponseDto {
         private Long likeCount;
         private Long commentCount;
         private Long viewCount;  // 조회 시 자동 증가된 값
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long uniqueViewerCount;
+
+        @JsonIgnore
+        private byte[] uniqueViewerSketch; // 저장된 스케치 (내부 처리용)
+
+        // QueryDSL 프로젝션용 (고유 방문자 기능 비활성화 시 스케치 미조회)
+        public StatsInfo(Long likeCount, Long commentCount, Long viewCount) {
+            this(likeCount, commentCount, viewCount, null, null);
+        }
     }
 }
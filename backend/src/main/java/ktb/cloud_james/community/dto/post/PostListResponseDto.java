@@ -2,8 +2,10 @@ package ktb.cloud_james.community.dto.post;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -25,9 +27,11 @@ public class PostListResponseDto {
     private PaginationInfo pagination;
 
     // 개별 게시글 요약 정보 - 화면에 보여지는 정보들
+    // - equals: 피드 캐시 재조회 결과가 이전과 같은지 비교 (같으면 캐시 버전 유지 → ETag 유지)
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
+    @EqualsAndHashCode
     public static class PostSummaryDto {
         private Long postId;
         private String title;                // 제목
@@ -40,10 +44,31 @@ public class PostListResponseDto {
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         private LocalDateTime createdAt;      // 게시글 작성일시
 
+        private String excerpt;              // 본문 미리보기 (앞 100자)
+        private Integer wordCount;           // 본문 단어(어절) 수
+        private String thumbnailUrl;         // 메인 이미지 (없으면 null)
+
         private Long likeCount;
         private Long commentCount;
         private Long viewCount;
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean isLiked;              // 현재 사용자 좋아요 여부 (비로그인/미표시면 생략)
+
+        // QueryDSL 프로젝션용 (좋아요 여부는 조회 후 LikedPostCacheService가 표시)
+        public PostSummaryDto(Long postId, String title, String authorNickname, String authorProfileImage,
+                              Boolean isAuthorDeleted, LocalDateTime createdAt,
+                              String excerpt, Integer wordCount, String thumbnailUrl,
+                              Long likeCount, Long commentCount, Long viewCount) {
+            this(postId, title, authorNickname, authorProfileImage, isAuthorDeleted, createdAt,
+                    excerpt, wordCount, thumbnailUrl, likeCount, commentCount, viewCount, null);
+        }
+
+        // 좋아요 여부를 붙인 복사본 (피드 캐시 항목은 여러 사용자가 공유하므로 직접 수정하지 않음)
+        public PostSummaryDto withLiked(boolean liked) {
+            return toBuilder().isLiked(liked).build();
+        }
+
         // 탈퇴한 회원이면 닉네임/이미지 변경
         public void maskDeletedUser() {
             if (isAuthorDeleted != null && isAuthorDeleted) {
@@ -57,9 +82,18 @@ public class PostListResponseDto {
     @Builder
     @AllArgsConstructor
     public static class PaginationInfo {
-        private Long lastSeenId; // 다음 페이지 요청 시 사용할 ID
+        private Long lastSeenId; // 다음 페이지 요청 시 사용할 ID (latest, before로 전달)
         private Boolean hasNext; // 다음 페이지 존재 여부
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long firstSeenId; // 더 새 게시글 요청 시 사용할 ID (latest, after로 전달)
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean hasNewer; // 더 새 게시글 존재 여부 (after 요청일 때만)
         private Integer limit;   // 페이지당 게시글 수
-        private String sort;     // 정렬 기준 (latest)
+        private String sort;     // 정렬 기준 (latest, hot)
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String cursor;   // 다음 페이지 요청 시 사용할 커서 (hot, 불투명 문자열)
     }
 }
@@ -0,0 +1,19 @@
+package ktb.cloud_james.community.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 랭킹 계산용 통계 (내부 전용, 응답에 사용하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class PostRankingSourceDto {
+    private Long postId;
+    private LocalDateTime createdAt;
+    private Long likeCount;
+    private Long commentCount;
+    private Long viewCount;
+}
@@ -0,0 +1,20 @@
+package ktb.cloud_james.community.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인용 게시글 원문 (내부 전용, 응답에 사용하지 않음)
+ * - title/content는 버전 조회(findSearchVersions)에서는 null
+ * - updatedAt: 수정 시각 (없으면 작성 시각), 색인 버전으로 사용
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchSourceDto {
+    private Long postId;
+    private String title;
+    private String content;
+    private LocalDateTime updatedAt;
+}
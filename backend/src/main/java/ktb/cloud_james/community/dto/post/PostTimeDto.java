@@ -0,0 +1,16 @@
+package ktb.cloud_james.community.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 ID + 작성 시각 (내부 전용, 시각 → ID 색인 적재용)
+ */
+@Getter
+@AllArgsConstructor
+public class PostTimeDto {
+    private Long postId;
+    private LocalDateTime createdAt;
+}
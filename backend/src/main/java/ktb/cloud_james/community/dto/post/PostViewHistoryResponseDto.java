@@ -0,0 +1,37 @@
+package ktb.cloud_james.community.dto.post;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 조회 곡선 응답 DTO
+ * - 최근 N시간의 1시간 단위 조회수 (오래된 시간 → 최신 시간 순, 빈 시간은 0)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostViewHistoryResponseDto {
+
+    private Long postId;
+
+    private Integer hours;          // 조회 구간 길이 (시간)
+
+    private Long totalViewCount;    // 구간 내 조회수 합계
+
+    private List<HourlyView> views;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class HourlyView {
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime hour;  // 구간 시작 시각
+
+        private Long viewCount;
+    }
+}
@@ -23,13 +23,20 @@ public class Post {
     @Column(name = "title", nullable = false, length = 26)
     private String title;
 
+    // 본문은 post_contents 테이블 (PostContent) - 소유자/삭제 여부 확인 시 본문을 읽지 않도록 분리
+
     /**
-     * @Lob + columnDefinition
-     * JPA에게 이건 대용량 데이터야라고 알림 + 정확한 DB 타입 지정
+     * 피드 카드용 요약 (작성/수정 시 계산, 목록 조회는 본문/이미지 테이블을 읽지 않음)
+     * - excerpt/wordCount가 null이면 아직 백필 전인 기존 게시글
      */
-    @Lob
-    @Column(name = "content", nullable = false, columnDefinition = "LONGTEXT")
-    private String content;
+    @Column(name = "excerpt", length = 200)
+    private String excerpt;
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl; // 메인 이미지 URL (없으면 null)
 
     /**
      * @ManyToOne: N:1 관계 (Post 여러 개 -> User 한 명)
@@ -56,10 +63,12 @@ public class Post {
     private LocalDateTime deletedAt;
 
     @Builder
-    public Post(User user, String title, String content) {
+    public Post(User user, String title, String excerpt, Integer wordCount, String thumbnailUrl) {
         this.user = user;
         this.title = title;
-        this.content = content;
+        this.excerpt = excerpt;
+        this.wordCount = wordCount;
+        this.thumbnailUrl = thumbnailUrl;
     }
 
     // ========== 비즈니스 메서드 ==========
@@ -69,9 +78,16 @@ public class Post {
         this.title = title;
     }
 
-    // 게시글 내용 수정
-    public void updateContent(String content) {
-        this.content = content;
+    // 본문 수정 시 요약 갱신 + 수정 시각 갱신 (본문은 PostContent에 있어 요약이 같으면 posts 행이 바뀌지 않음)
+    public void updateSummary(String excerpt, Integer wordCount) {
+        this.excerpt = excerpt;
+        this.wordCount = wordCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 메인 이미지 변경 (삭제 시 null)
+    public void updateThumbnail(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
     }
 
     public void softDelete() {
@@ -0,0 +1,65 @@
+package ktb.cloud_james.community.entity;
+
+import jakarta.persistence.*;
+import ktb.cloud_james.community.global.util.ContentCodec;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (posts와 1:1, 본문만 별도 테이블)
+ *
+ * 배경:
+ * - posts 행에 LONGTEXT가 있으면 소유자/삭제 여부 확인용 findById까지 본문 전체를 읽음
+ * - 본문은 상세 조회(+ 검색 색인, 내보내기)에서만 필요
+ *
+ * 저장 형식:
+ * - body는 ContentCodec으로 인코딩된 바이트 (기준 크기 이상이면 DEFLATE 압축)
+ * - rawLength: 원문 UTF-8 바이트 수 (압축률/읽은 바이트 지표용)
+ */
+@Entity
+@Table(name = "post_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 프록시/리플렉션용 기본 생성자 자동 생성
+public class PostContent {
+
+    // PostStats와 같이 Post의 ID를 그대로 PK로 사용
+    @Id
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @Column(name = "encoding", nullable = false)
+    private Integer encoding;
+
+    @Column(name = "raw_length", nullable = false)
+    private Integer rawLength;
+
+    @Lob
+    @Column(name = "body", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] body;
+
+    public PostContent(Post post, String content, int compressThreshold) {
+        this.post = post;
+        updateContent(content, compressThreshold);
+    }
+
+    // ========== 비즈니스 메서드 ==========
+
+    // 본문 수정 (다시 인코딩)
+    public void updateContent(String content, int compressThreshold) {
+        ContentCodec.Encoded encoded = ContentCodec.encode(content, compressThreshold);
+        this.encoding = encoded.getEncoding();
+        this.rawLength = encoded.getRawLength();
+        this.body = encoded.getBody();
+    }
+
+    // 디코딩된 본문
+    public String getContent() {
+        return ContentCodec.decode(encoding, body);
+    }
+}
@@ -49,6 +49,16 @@ public class PostStats {
     @Column(name = "comment_count", nullable = false)
     private Long commentCount = 0L;
 
+    /**
+     * 고유 방문자 수 (HyperLogLog 추정치) + 스케치 (레지스터 1024바이트)
+     * - 스케줄러가 JdbcTemplate으로만 갱신 → JPA INSERT/UPDATE 대상에서 제외 (DB 기본값 0 / NULL)
+     */
+    @Column(name = "unique_viewer_count", nullable = false, insertable = false, updatable = false)
+    private Long uniqueViewerCount = 0L;
+
+    @Column(name = "unique_viewer_sketch", length = 1024, insertable = false, updatable = false)
+    private byte[] uniqueViewerSketch;
+
     /**
      * Builder 없이 생성자만 제공
      * PostStats는 Post와 함께 생성되어야 하므로 Post만 받는 단순 생성자로 충분
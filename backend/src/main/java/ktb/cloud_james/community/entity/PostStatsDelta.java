@@ -0,0 +1,42 @@
+package ktb.cloud_james.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 증가분 스테이징 테이블 (멀티 서버 모드)
+ *
+ * 동작:
+ * - 각 서버는 자기 캐시의 증가분을 post_stats 대신 이 테이블에 INSERT (서버마다 행 분리 → 락 경합 없음)
+ * - 락을 획득한 서버 하나만 주기적으로 합산하여 post_stats에 반영 후 삭제 (fold)
+ * - 조회 시에는 post_stats.view_count + 이 테이블의 해당 게시글 합계 = 전체 서버 기준 조회수
+ *
+ * 쓰기는 JdbcTemplate 다중 행 INSERT로 처리하고, 엔티티는 조회(합계) 용도로만 사용
+ */
+@Entity
+@Table(name = "post_stats_delta")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 프록시/리플렉션용 기본 생성자 자동 생성
+public class PostStatsDelta {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY) // MySQL DB의 AUTO_INCREMENT 사용
+    @Column(name = "delta_id", nullable = false, updatable = false)
+    private Long id;
+
+    // 증가분을 발행한 서버 식별자 (운영 추적용)
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "view_delta", nullable = false)
+    private Long viewDelta;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
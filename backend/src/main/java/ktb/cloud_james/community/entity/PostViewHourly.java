@@ -0,0 +1,63 @@
+package ktb.cloud_james.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 게시글 시간대별 조회수 (1시간 단위 롤업)
+ *
+ * - PK (post_id, bucket_hour): 게시글별 시간 순 클러스터링 → 조회 곡선은 PK 범위 스캔 1회
+ * - 쓰기는 동기화 주기에 JdbcTemplate 다중 행 UPSERT (ON DUPLICATE KEY UPDATE)로만 처리, 엔티티는 조회 용도
+ */
+@Entity
+@Table(name = "post_view_hourly")
+@IdClass(PostViewHourly.PostViewHourlyId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 프록시/리플렉션용 기본 생성자 자동 생성
+public class PostViewHourly {
+
+    @Id
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private Long postId;
+
+    // 구간 시작 시각 (분/초 = 0)
+    @Id
+    @Column(name = "bucket_hour", nullable = false, updatable = false)
+    private LocalDateTime bucketHour;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;
+
+    /**
+     * 복합 키 클래스 (@IdClass)
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class PostViewHourlyId implements Serializable {
+        private Long postId;
+        private LocalDateTime bucketHour;
+
+        public PostViewHourlyId(Long postId, LocalDateTime bucketHour) {
+            this.postId = postId;
+            this.bucketHour = bucketHour;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PostViewHourlyId that)) return false;
+            return Objects.equals(postId, that.postId) && Objects.equals(bucketHour, that.bucketHour);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, bucketHour);
+        }
+    }
+}
@@ -37,6 +37,10 @@ public enum ErrorCode {
     // ========== 게시글 관련 ==========
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "post_not_found"),
     NOT_POST_AUTHOR(HttpStatus.FORBIDDEN, "not_post_author"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "invalid_cursor"),
+    TOO_MANY_IDS(HttpStatus.BAD_REQUEST, "too_many_ids"),
+    SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "search_index_not_ready"),
+    FEED_SEEK_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "feed_seek_not_ready"),
 
     // ========== 사용자 관련 ==========
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "user_not_found"),
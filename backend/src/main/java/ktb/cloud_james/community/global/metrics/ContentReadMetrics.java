@@ -0,0 +1,53 @@
+package ktb.cloud_james.community.global.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 본문 읽기 지표 (post_contents)
+ *
+ * - 본문을 읽는 경로(상세, 검색 색인, 내보내기)마다 읽은 바이트 기록
+ *  - stored: DB에서 실제로 읽은 바이트 (압축 후)
+ *  - raw: 원문 UTF-8 바이트 (본문 분리/압축 전 posts.content LONGTEXT를 읽었다면 읽었을 양)
+ * - 주기적으로 요청당 평균과 절감률을 로그로 남기고 초기화
+ * - 본문 분리 후 findById(수정/삭제/댓글/좋아요 권한 확인)는 본문을 전혀 읽지 않으므로 여기 기록되지 않음
+ */
+@Component
+@Slf4j
+public class ContentReadMetrics {
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+
+    /**
+     * 본문 한 건 읽음
+     * @param stored DB에서 읽은 바이트
+     * @param raw 원문 바이트
+     */
+    public void record(long stored, long raw) {
+        reads.increment();
+        storedBytes.add(stored);
+        rawBytes.add(raw);
+    }
+
+    /**
+     * 지표 보고 (기본 10분마다)
+     */
+    @Scheduled(fixedDelayString = "${post.content.metrics-interval:600000}")
+    public void report() {
+        long count = reads.sumThenReset();
+        long stored = storedBytes.sumThenReset();
+        long raw = rawBytes.sumThenReset();
+        if (count == 0) {
+            return;
+        }
+
+        log.info("게시글 본문 읽기 - {}건, 건당 평균 {}B (원문 {}B), 전체 {}KB (원문 {}KB), 절감 {}%",
+                count, stored / count, raw / count, stored / 1024, raw / 1024,
+                raw == 0 ? 0 : Math.round(100.0 * (raw - stored) / raw));
+    }
+}
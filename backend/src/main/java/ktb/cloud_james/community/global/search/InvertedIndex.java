@@ -0,0 +1,489 @@
+package ktb.cloud_james.community.global.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 인메모리 역색인 (BM25 랭킹)
+ *
+ * 구조:
+ * - 단어 → 포스팅 리스트 (문서 ID 오름차순 long[] + 단어 빈도 int[], 문서마다 객체를 만들지 않음)
+ * - 문서 ID → 문서 정보 (토큰 수, 버전, 포함 단어 목록) : 삭제/교체 시 포스팅에서 빼기 위한 정방향 색인
+ * - 읽기/쓰기 락 하나로 보호 (검색은 동시에, 색인 변경은 배타적으로)
+ *  - 파일 저장은 락 안에서 배열 복사만, 파일 쓰기는 락 밖 (저장 중에도 색인 변경이 대기하지 않음)
+ *
+ * 검색:
+ * - 검색어 단어를 모두 포함하는 문서만 (AND), 가장 짧은 포스팅부터 교집합
+ * - BM25: idf(t) × tf × (k1 + 1) / (tf + k1 × (1 - b + b × 문서길이 / 평균길이))
+ * - (점수 내림차순, 문서 ID 내림차순) 순서, 이전 페이지 마지막 (점수, ID) 이후부터 limit건 (keyset)
+ *
+ * 파일 형식 (세그먼트 1개, 정수는 가변 길이 인코딩, ID는 직전 값과의 차이로 저장):
+ *   MAGIC(int) FORMAT(int)
+ *   문서 수, [ID 차이, 토큰 수, 버전] × 문서 수
+ *   단어 수, [단어(UTF), 포스팅 수, [ID 차이, 빈도] × 포스팅 수] × 단어 수
+ *   CRC32(long)
+ */
+public class InvertedIndex {
+
+    private static final int MAGIC = 0x50534958; // "PSIX"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+    private long modCount; // 변경 횟수 (스냅샷 저장 필요 여부 판단)
+
+    /**
+     * 문서 색인 (같은 ID가 있으면 교체)
+     * @param version 문서 버전 (수정 시각 등), 이미 더 새로운 버전이 색인되어 있으면 무시
+     * @return 반영 여부
+     */
+    public boolean put(long docId, List<String> tokens, long version) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Doc existing = docs.get(docId);
+            if (existing != null) {
+                if (existing.version > version) {
+                    return false;
+                }
+                removeInternal(docId, existing);
+            }
+
+            String[] terms = new String[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), PostingList::new);
+                list.put(docId, entry.getValue());
+                terms[i++] = list.term; // 사전의 단어 인스턴스 공유
+            }
+
+            docs.put(docId, new Doc(tokens.size(), version, terms));
+            totalLength += tokens.size();
+            modCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 삭제 (없으면 false)
+    public boolean remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            Doc existing = docs.get(docId);
+            if (existing == null) {
+                return false;
+            }
+            removeInternal(docId, existing);
+            modCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * @param queryTokens 검색어 토큰 (중복 무시)
+     * @param after 이전 페이지의 마지막 결과 (첫 페이지는 null)
+     * @param limit 최대 결과 수
+     */
+    public List<Hit> search(List<String> queryTokens, Hit after, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(queryTokens));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return List.of(); // 없는 단어가 하나라도 있으면 결과 없음 (AND)
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            int docCount = docs.size();
+            double averageLength = (double) totalLength / docCount;
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (docCount - lists[i].size + 0.5) / (lists[i].size + 0.5));
+            }
+
+            // 상위 limit건만 유지하는 최소 힙 (가장 낮은 순위가 맨 앞)
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Hit.RANK_ORDER.reversed());
+            PostingList shortest = lists[0];
+
+            for (int p = 0; p < shortest.size; p++) {
+                long docId = shortest.ids[p];
+                Doc doc = docs.get(docId);
+                double lengthNorm = K1 * (1 - B + B * doc.length / averageLength);
+
+                double score = 0;
+                boolean matched = true;
+                for (int i = 0; i < lists.length; i++) {
+                    int tf = i == 0 ? shortest.tfs[p] : lists[i].frequency(docId);
+                    if (tf == 0) {
+                        matched = false;
+                        break;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+                if (!matched) {
+                    continue;
+                }
+
+                Hit hit = new Hit(docId, score);
+                if (after != null && Hit.RANK_ORDER.compare(hit, after) <= 0) {
+                    continue; // 이전 페이지까지 이미 반환한 순위
+                }
+                top.add(hit);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.RANK_ORDER);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 문서 ID → 버전 (DB와 비교하여 다시 색인할 문서를 고를 때 사용)
+    public Map<Long, Long> versions() {
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> versions = new HashMap<>(docs.size() * 2);
+            docs.forEach((docId, doc) -> versions.put(docId, doc.version));
+            return versions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getModCount() {
+        lock.readLock().lock();
+        try {
+            return modCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 파일로 저장 (임시 파일에 쓴 뒤 교체 → 저장 중 종료되어도 이전 파일 유지)
+     * - 읽기 락은 문서/포스팅 배열을 복사하는 동안만 (put/remove는 커밋 후 요청 스레드에서 쓰기 락을 잡음)
+     * - 포스팅 배열은 제자리에서 삽입/삭제되므로 참조가 아닌 복사본을 씀
+     * @return 저장 시점(복사 시점)의 변경 횟수
+     */
+    public long writeTo(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long savedModCount;
+        long[] docIds;
+        int[] docLengths;
+        long[] docVersions;
+        String[] terms;
+        long[][] termIds;
+        int[][] termTfs;
+
+        lock.readLock().lock();
+        try {
+            docIds = docs.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            docLengths = new int[docIds.length];
+            docVersions = new long[docIds.length];
+            for (int d = 0; d < docIds.length; d++) {
+                Doc doc = docs.get(docIds[d]);
+                docLengths[d] = doc.length;
+                docVersions[d] = doc.version;
+            }
+
+            terms = new String[postings.size()];
+            termIds = new long[terms.length][];
+            termTfs = new int[terms.length][];
+            int t = 0;
+            for (PostingList list : postings.values()) {
+                terms[t] = list.term;
+                termIds[t] = Arrays.copyOf(list.ids, list.size);
+                termTfs[t] = Arrays.copyOf(list.tfs, list.size);
+                t++;
+            }
+            savedModCount = modCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try (OutputStream raw = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16)) {
+            CheckedOutputStream checked = new CheckedOutputStream(raw, new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            writeVarLong(out, docIds.length);
+            long previous = 0;
+            for (int d = 0; d < docIds.length; d++) {
+                writeVarLong(out, docIds[d] - previous);
+                writeVarLong(out, docLengths[d]);
+                writeVarLong(out, docVersions[d]);
+                previous = docIds[d];
+            }
+
+            writeVarLong(out, terms.length);
+            for (int t = 0; t < terms.length; t++) {
+                out.writeUTF(terms[t]);
+                writeVarLong(out, termIds[t].length);
+                previous = 0;
+                for (int p = 0; p < termIds[t].length; p++) {
+                    writeVarLong(out, termIds[t][p] - previous);
+                    writeVarLong(out, termTfs[t][p]);
+                    previous = termIds[t][p];
+                }
+            }
+
+            out.flush();
+            new DataOutputStream(raw).writeLong(checked.getChecksum().getValue());
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return savedModCount;
+    }
+
+    /**
+     * 파일에서 읽기
+     * @throws IOException 형식이 다르거나 체크섬이 맞지 않으면 (손상된 파일)
+     */
+    public static InvertedIndex readFrom(Path file) throws IOException {
+        InvertedIndex index = new InvertedIndex();
+
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            CheckedInputStream checked = new CheckedInputStream(raw, new CRC32());
+            DataInputStream in = new DataInputStream(checked);
+
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 색인 파일 형식: " + file);
+            }
+
+            int docCount = (int) readVarLong(in);
+            long[] docIds = new long[docCount];
+            long[] lengths = new long[docCount];
+            long[] versions = new long[docCount];
+            long previous = 0;
+            for (int i = 0; i < docCount; i++) {
+                docIds[i] = previous + readVarLong(in);
+                lengths[i] = readVarLong(in);
+                versions[i] = readVarLong(in);
+                previous = docIds[i];
+            }
+
+            // 포스팅을 읽으며 문서별 포함 단어 목록(정방향 색인) 복원
+            Map<Long, List<String>> termsByDoc = new HashMap<>(docCount * 2);
+            int termCount = (int) readVarLong(in);
+            for (int t = 0; t < termCount; t++) {
+                PostingList list = new PostingList(in.readUTF());
+                int size = (int) readVarLong(in);
+                list.ensureCapacity(size);
+                previous = 0;
+                for (int p = 0; p < size; p++) {
+                    long docId = previous + readVarLong(in);
+                    list.ids[p] = docId;
+                    list.tfs[p] = (int) readVarLong(in);
+                    previous = docId;
+                    termsByDoc.computeIfAbsent(docId, id -> new ArrayList<>()).add(list.term);
+                }
+                list.size = size;
+                index.postings.put(list.term, list);
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if (new DataInputStream(raw).readLong() != expected) {
+                throw new IOException("색인 파일 체크섬 불일치: " + file);
+            }
+
+            for (int i = 0; i < docCount; i++) {
+                List<String> terms = termsByDoc.getOrDefault(docIds[i], List.of());
+                index.docs.put(docIds[i], new Doc((int) lengths[i], versions[i], terms.toArray(new String[0])));
+                index.totalLength += lengths[i];
+            }
+        }
+        return index;
+    }
+
+    private void removeInternal(long docId, Doc doc) {
+        for (String term : doc.terms) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(docId) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        docs.remove(docId);
+        totalLength -= doc.length;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 가변 길이 정수");
+    }
+
+    /**
+     * 검색 결과 (문서 ID + BM25 점수)
+     */
+    public static class Hit {
+
+        // 순위 순서: 점수 높은 순 → 같으면 ID 큰(최신) 순, compare 결과가 클수록 뒤 순위
+        static final Comparator<Hit> RANK_ORDER = Comparator.comparingDouble((Hit hit) -> hit.score).reversed()
+                .thenComparing(Comparator.comparingLong((Hit hit) -> hit.docId).reversed());
+
+        private final long docId;
+        private final double score;
+
+        public Hit(long docId, double score) {
+            this.docId = docId;
+            this.score = score;
+        }
+
+        public long getDocId() {
+            return docId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * 문서 정보 (토큰 수, 버전, 포함 단어)
+     */
+    private static class Doc {
+        private final int length;
+        private final long version;
+        private final String[] terms;
+
+        private Doc(int length, long version, String[] terms) {
+            this.length = length;
+            this.version = version;
+            this.terms = terms;
+        }
+    }
+
+    /**
+     * 단어 하나의 포스팅 리스트 (문서 ID 오름차순)
+     * - 새 글은 ID가 가장 크므로 대부분 끝에 추가 (수정된 글만 중간 삽입)
+     */
+    private static class PostingList {
+        private final String term;
+        private long[] ids = new long[4];
+        private int[] tfs = new int[4];
+        private int size;
+
+        private PostingList(String term) {
+            this.term = term;
+        }
+
+        private void put(long docId, int tf) {
+            int index = size > 0 && ids[size - 1] < docId ? -(size + 1) : Arrays.binarySearch(ids, 0, size, docId);
+            if (index >= 0) {
+                tfs[index] = tf;
+                return;
+            }
+
+            int insertAt = -(index + 1);
+            ensureCapacity(size + 1);
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(tfs, insertAt, tfs, insertAt + 1, size - insertAt);
+            ids[insertAt] = docId;
+            tfs[insertAt] = tf;
+            size++;
+        }
+
+        private boolean remove(long docId) {
+            int index = Arrays.binarySearch(ids, 0, size, docId);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(tfs, index + 1, tfs, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        // 문서에 없는 단어면 0
+        private int frequency(long docId) {
+            int index = Arrays.binarySearch(ids, 0, size, docId);
+            return index >= 0 ? tfs[index] : 0;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > ids.length) {
+                int newLength = Math.max(capacity, ids.length * 2);
+                ids = Arrays.copyOf(ids, newLength);
+                tfs = Arrays.copyOf(tfs, newLength);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ktb.cloud_james.community.global.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저 (한글 bigram + 영문/숫자 단어)
+ *
+ * 배경:
+ * - 한국어는 조사/어미가 붙어 띄어쓰기 단위로 자르면 "게시글을", "게시글이"가 서로 다른 단어가 됨
+ * - 형태소 분석기 없이도 부분 일치가 되도록 한글 구간은 2글자씩 겹쳐 자름 (bigram)
+ *   예: "게시글을" → [게시, 시글, 글을] / 검색어 "게시글" → [게시, 시글] → 모두 포함하므로 일치
+ *
+ * 규칙:
+ * 1. NFKC 정규화 + 소문자화 (전각 문자, 대소문자 통일)
+ * 2. 글자/숫자가 아닌 문자에서 분리
+ * 3. 한글/한자/가나 구간 → bigram (1글자 구간은 그대로), 그 외 영문/숫자 구간 → 단어 그대로
+ *
+ * 중복 토큰은 그대로 반환 (문서 쪽에서 단어 빈도 계산에 사용)
+ */
+public final class NgramTokenizer {
+
+    private static final int MAX_WORD_LENGTH = 32; // 이보다 긴 영문/숫자 단어는 색인하지 않음 (URL, 해시 등)
+
+    private NgramTokenizer() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int runStart = -1;
+        boolean runCjk = false;
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(codePoint);
+            boolean cjk = wordChar && isCjk(codePoint);
+
+            // 구간 경계: 글자가 아니거나 한글 ↔ 영문 전환
+            if (runStart >= 0 && (!wordChar || cjk != runCjk)) {
+                emit(normalized.substring(runStart, i), runCjk, tokens);
+                runStart = -1;
+            }
+            if (wordChar && runStart < 0) {
+                runStart = i;
+                runCjk = cjk;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (runStart >= 0) {
+            emit(normalized.substring(runStart), runCjk, tokens);
+        }
+        return tokens;
+    }
+
+    private static void emit(String run, boolean cjk, List<String> tokens) {
+        if (!cjk) {
+            if (run.length() <= MAX_WORD_LENGTH) {
+                tokens.add(run);
+            }
+            return;
+        }
+
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int j = 0; j + 1 < codePoints.length; j++) {
+            tokens.add(new String(codePoints, j, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,24 @@
+package ktb.cloud_james.community.global.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 식별 유틸리티
+ * - 비로그인 방문자를 구분하기 위한 키 생성 (고유 방문자 수 집계용, 인증 용도 아님)
+ */
+public final class ClientUtil {
+
+    private ClientUtil() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 클라이언트 핑거프린트 ("IP|User-Agent")
+     * - IP는 getRemoteAddr()만 사용 (X-Forwarded-For는 클라이언트가 임의로 보낼 수 있음 → 방문자 수 부풀리기 가능)
+     * - 프록시/로드밸런서 뒤에서는 server.forward-headers-strategy로 신뢰하는 프록시가 보낸 헤더만 remoteAddr에 반영
+     */
+    public static String fingerprint(HttpServletRequest request) {
+        String userAgent = request.getHeader("User-Agent");
+        return request.getRemoteAddr() + "|" + (userAgent != null ? userAgent : "");
+    }
+}
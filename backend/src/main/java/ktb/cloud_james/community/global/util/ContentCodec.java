@@ -0,0 +1,111 @@
+package ktb.cloud_james.community.global.util;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 인코딩 (post_contents.body)
+ *
+ * - RAW(0): UTF-8 원문 그대로
+ * - DEFLATE(1): UTF-8 → DEFLATE 압축 (기준 크기 이상이고, 압축 결과가 실제로 작을 때만)
+ *
+ * 짧은 글은 압축 이득보다 CPU/헤더 비용이 커서 원문 저장
+ */
+public final class ContentCodec {
+
+    public static final int RAW = 0;
+    public static final int DEFLATE = 1;
+
+    private ContentCodec() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 본문 인코딩
+     * @param threshold 이 바이트 수 이상이면 압축 시도
+     */
+    public static Encoded encode(String content, int threshold) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < threshold) {
+            return new Encoded(RAW, raw, raw.length);
+        }
+
+        byte[] compressed = deflate(raw);
+        if (compressed.length >= raw.length) {
+            return new Encoded(RAW, raw, raw.length); // 이미 압축된 형태의 글(난수, base64 등)
+        }
+        return new Encoded(DEFLATE, compressed, raw.length);
+    }
+
+    /**
+     * 본문 디코딩
+     * @param encoding 저장된 인코딩 (RAW, DEFLATE)
+     */
+    public static String decode(int encoding, byte[] body) {
+        return switch (encoding) {
+            case RAW -> new String(body, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(body), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("unknown content encoding: " + encoding);
+        };
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("truncated compressed content");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("corrupted compressed content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 인코딩 결과
+     */
+    @Getter
+    public static class Encoded {
+        private final int encoding;
+        private final byte[] body;
+        private final int rawLength; // 원문 UTF-8 바이트 수
+
+        private Encoded(int encoding, byte[] body, int rawLength) {
+            this.encoding = encoding;
+            this.body = body;
+            this.rawLength = rawLength;
+        }
+    }
+}
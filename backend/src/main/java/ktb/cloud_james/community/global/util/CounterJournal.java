@@ -0,0 +1,251 @@
+package ktb.cloud_james.community.global.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * 카운터 증가분 Write-Ahead 저널 (메모리 맵 세그먼트 파일)
+ *
+ * 목적:
+ * - 인메모리 카운터(조회수 등)가 DB에 반영되기 전 프로세스가 죽어도 (kill, OOM) 증가분 복구
+ * - @PreDestroy가 실행되지 않는 비정상 종료 대비
+ *
+ * 구조:
+ * - 세그먼트 파일 2개 ({name}-0.journal, {name}-1.journal)를 번갈아 사용
+ * - 레코드 16바이트 고정: [key(8) | delta(8)], key == 0 이면 빈 슬롯
+ * - 기록은 MappedByteBuffer 절대 위치 쓰기 → 시스템 콜 없음, 프로세스가 죽어도 OS 페이지 캐시에 남음
+ *   (전원 장애까지 보장하려면 force() 필요하지만 비용이 커서 사용하지 않음)
+ *
+ * 사용 흐름:
+ * 1. 증가 시 append(key, delta, apply): 저널 기록 + 인메모리 반영을 같은 구간에서 수행
+ * 2. 동기화 시작 시 seal(): 활성 세그먼트를 봉인하고 반대쪽으로 전환 (진행 중인 기록이 끝날 때까지 대기)
+ * 3. DB 반영 성공 후 truncate(봉인된 세그먼트)
+ * 4. 재시작 시 recover(): 두 세그먼트의 레코드를 key별로 합산해 반환
+ *
+ * 보장 수준: at-least-once
+ * - 봉인 직후 ~ Drain 사이에 새 세그먼트에 기록된 증가분은 이번 주기에 반영되고 저널에도 남음
+ *   → 그 사이 크래시가 나면 극소량 중복 반영 가능 (유실은 없음)
+ */
+public class CounterJournal implements Closeable {
+
+    private static final int RECORD_SIZE = 16;
+    private static final byte[] ZEROS = new byte[64 * 1024];
+
+    private final Segment[] segments;
+    private final int capacity;
+    private volatile int activeIndex = 0;
+
+    // 세그먼트가 가득 차 저널에 남기지 못한 기록 수 (인메모리 반영은 정상 수행)
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    private CounterJournal(Segment[] segments, int capacity) {
+        this.segments = segments;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 저널 열기 (디렉토리/파일 없으면 생성)
+     * @param segmentSize 세그먼트 파일 크기 (바이트, 16의 배수로 내림)
+     */
+    public static CounterJournal open(Path dir, String name, int segmentSize) throws IOException {
+        Files.createDirectories(dir);
+
+        int capacity = (segmentSize / RECORD_SIZE) * RECORD_SIZE;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("segmentSize must be >= " + RECORD_SIZE);
+        }
+
+        Segment[] segments = new Segment[2];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = Segment.open(dir.resolve(name + "-" + i + ".journal"), capacity);
+        }
+
+        return new CounterJournal(segments, capacity);
+    }
+
+    /**
+     * 저널 없이 동작하는 인스턴스 (비활성화 설정용)
+     * - append는 apply만 수행
+     */
+    public static CounterJournal disabled() {
+        return new CounterJournal(null, 0);
+    }
+
+    public boolean isEnabled() {
+        return segments != null;
+    }
+
+    /**
+     * 증가분 기록 + 인메모리 반영
+     * - apply는 저널 기록과 같은 구간에서 실행 → seal()이 끝나면 봉인된 세그먼트의 기록은 모두 인메모리에 반영된 상태
+     * - 요청 스레드는 락 없이 CAS만 사용
+     * @return apply의 반환값
+     */
+    public long append(long key, long delta, LongBinaryOperator apply) {
+        if (segments == null) {
+            return apply.applyAsLong(key, delta);
+        }
+
+        while (true) {
+            Segment segment = segments[activeIndex];
+            segment.writers.incrementAndGet();
+            try {
+                // 진입 직후 전환되었으면 새 세그먼트로 재시도
+                if (segment != segments[activeIndex]) {
+                    continue;
+                }
+
+                int position = segment.reserve(capacity);
+                if (position < 0) {
+                    overflowCount.incrementAndGet();
+                } else {
+                    // delta 먼저, key 나중에 기록 (key가 보이면 delta도 기록된 상태)
+                    segment.buffer.putLong(position + 8, delta);
+                    segment.buffer.putLong(position, key);
+                }
+
+                return apply.applyAsLong(key, delta);
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 활성 세그먼트 봉인 후 반대쪽 세그먼트로 전환
+     * - 봉인된 세그먼트에 기록 중인 스레드가 끝날 때까지 대기 (동기화 스레드만 대기, 요청 스레드는 대기 없음)
+     * @return 봉인된 세그먼트 번호 (DB 반영 성공 후 truncate에 전달), 비활성화면 -1
+     */
+    public int seal() {
+        if (segments == null) {
+            return -1;
+        }
+
+        int sealed = activeIndex;
+        activeIndex = 1 - sealed;
+
+        Segment segment = segments[sealed];
+        while (segment.writers.get() > 0) {
+            Thread.onSpinWait();
+        }
+
+        return sealed;
+    }
+
+    // 세그먼트 비우기 (사용한 구간만 0으로 초기화)
+    public void truncate(int index) {
+        if (segments == null || index < 0) {
+            return;
+        }
+        segments[index].clear(capacity);
+    }
+
+    // 모든 세그먼트 비우기 (재시작 복구 후 사용)
+    public void truncateAll() {
+        if (segments == null) {
+            return;
+        }
+        for (int i = 0; i < segments.length; i++) {
+            truncate(i);
+        }
+        activeIndex = 0;
+    }
+
+    /**
+     * 재시작 시 복구
+     * - 두 세그먼트를 전체 스캔하여 key별 delta 합산 (빈 슬롯은 건너뜀)
+     * - 동시 기록 중 크래시로 생긴 중간 빈 슬롯이 있어도 이후 레코드까지 모두 읽음
+     */
+    public Map<Long, Long> recover() {
+        Map<Long, Long> recovered = new HashMap<>();
+        if (segments == null) {
+            return recovered;
+        }
+
+        for (Segment segment : segments) {
+            for (int position = 0; position + RECORD_SIZE <= capacity; position += RECORD_SIZE) {
+                long key = segment.buffer.getLong(position);
+                if (key == 0) {
+                    continue;
+                }
+                long delta = segment.buffer.getLong(position + 8);
+                recovered.merge(key, delta, Long::sum);
+                segment.markUsed(position + RECORD_SIZE);
+            }
+        }
+
+        return recovered;
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (segments == null) {
+            return;
+        }
+        for (Segment segment : segments) {
+            segment.channel.close();
+        }
+    }
+
+    /**
+     * 세그먼트 파일 하나
+     */
+    private static class Segment {
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger position = new AtomicInteger(); // 다음 기록 위치
+        private final AtomicInteger writers = new AtomicInteger();  // 기록 중인 스레드 수
+
+        private Segment(FileChannel channel, MappedByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private static Segment open(Path path, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new Segment(channel, buffer);
+        }
+
+        // 레코드 1개 자리 확보 (가득 차면 -1)
+        private int reserve(int capacity) {
+            while (true) {
+                int current = position.get();
+                if (current + RECORD_SIZE > capacity) {
+                    return -1;
+                }
+                if (position.compareAndSet(current, current + RECORD_SIZE)) {
+                    return current;
+                }
+            }
+        }
+
+        // 복구 시 스캔한 구간을 사용 구간으로 기록 (truncate 범위 계산용)
+        private void markUsed(int end) {
+            position.accumulateAndGet(end, Math::max);
+        }
+
+        private void clear(int capacity) {
+            int used = Math.min(position.get(), capacity);
+            for (int offset = 0; offset < used; offset += ZEROS.length) {
+                buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, used - offset));
+            }
+            position.set(0);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ktb.cloud_james.community.global.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * ETag 생성 유틸리티
+ * - 조건부 GET(If-None-Match)용 약한 ETag (W/"...")
+ * - 응답 본문 전체가 아니라 본문을 결정하는 값(버전, 수정 시각, 커서 등)만으로 계산 → 본문 직렬화 전에 304 판단 가능
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 값 목록으로 약한 ETag 생성 (순서 유의, null 허용)
+     * 예: weak("feed", 42, null, 20) → W/"5d41402abc4b2a76b9719d911017c592"
+     */
+    public static String weak(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        String hash = DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + hash + "\"";
+    }
+}
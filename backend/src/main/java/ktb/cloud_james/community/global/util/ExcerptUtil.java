@@ -0,0 +1,52 @@
+package ktb.cloud_james.community.global.util;
+
+/**
+ * 피드 카드용 본문 요약 유틸리티
+ * - 작성/수정 시 한 번만 계산해 posts에 저장 (목록 조회가 본문을 읽지 않도록)
+ */
+public final class ExcerptUtil {
+
+    public static final int EXCERPT_LENGTH = 100; // 글자 수 (코드 포인트)
+    private static final String ELLIPSIS = "…";
+
+    private ExcerptUtil() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 미리보기 문구 - 공백/줄바꿈을 한 칸으로 합치고 앞부분만 (잘리면 말줄임표)
+     */
+    public static String excerpt(String content) {
+        if (content == null) {
+            return "";
+        }
+
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.codePointCount(0, normalized.length()) <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+
+        int end = normalized.offsetByCodePoints(0, EXCERPT_LENGTH - 1);
+        return normalized.substring(0, end).stripTrailing() + ELLIPSIS;
+    }
+
+    /**
+     * 단어 수 - 공백으로 구분된 덩어리 수 (한국어는 어절 단위)
+     */
+    public static int wordCount(String content) {
+        if (content == null) {
+            return 0;
+        }
+
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < content.length(); i++) {
+            boolean whitespace = Character.isWhitespace(content.charAt(i));
+            if (!whitespace && !inWord) {
+                count++;
+            }
+            inWord = !whitespace;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,127 @@
+package ktb.cloud_james.community.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog 고유 방문자 수 추정 스케치
+ *
+ * 목적:
+ * - 게시글별 "서로 다른 방문자 수"를 방문자 수와 무관하게 고정 크기(1KB)로 추정
+ * - 새로고침/크롤러가 같은 키로 반복 조회해도 값이 늘지 않음
+ *
+ * 구조:
+ * - 레지스터 2^10 = 1024개 (레지스터당 1바이트) → 표준 오차 약 1.04 / √1024 ≈ 3.3%
+ * - 64비트 해시의 상위 10비트 = 레지스터 번호, 나머지 비트의 선행 0 개수 + 1 = 레지스터 값 (최댓값만 유지)
+ * - 병합은 레지스터별 최댓값 → 순서/중복과 무관 (여러 서버, 여러 주기의 스케치를 그대로 합칠 수 있음)
+ *
+ * 동시성:
+ * - offer/merge/estimate는 인스턴스 단위 synchronized (레지스터 1개 갱신이라 임계 구역이 매우 짧음)
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 10;
+    public static final int REGISTER_COUNT = 1 << PRECISION; // 직렬화 크기 (바이트)
+
+    // 레지스터 수 1024 기준 보정 상수 (Flajolet et al.)
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * 직렬화된 레지스터에서 복원 (null 또는 크기가 다르면 빈 스케치)
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT) {
+            return new HyperLogLog();
+        }
+        return new HyperLogLog(Arrays.copyOf(bytes, REGISTER_COUNT));
+    }
+
+    /**
+     * 방문자 키 추가
+     * @return 레지스터가 바뀌었으면 true (추정치가 달라질 수 있음)
+     */
+    public boolean offer(String key) {
+        return offerHash(hash(key));
+    }
+
+    public synchronized boolean offerHash(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        // 남은 54비트의 선행 0 개수 + 1 (모두 0이어도 최대 55가 되도록 경계 비트 추가)
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    // 다른 스케치를 이 스케치에 병합 (레지스터별 최댓값)
+    public void merge(HyperLogLog other) {
+        byte[] snapshot = other.toBytes();
+        synchronized (this) {
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                if (snapshot[i] > registers[i]) {
+                    registers[i] = snapshot[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * 고유 방문자 수 추정
+     * - 추정치가 작을 때(빈 레지스터가 남아 있을 때)는 Linear Counting으로 보정
+     * - 64비트 해시라 큰 값 보정은 불필요
+     */
+    public synchronized long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double raw = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (raw <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            return Math.round(REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros));
+        }
+        return Math.round(raw);
+    }
+
+    // 직렬화 (레지스터 복사본, DB VARBINARY 저장용)
+    public synchronized byte[] toBytes() {
+        return Arrays.copyOf(registers, REGISTER_COUNT);
+    }
+
+    /**
+     * 문자열 키 64비트 해시 (FNV-1a 64 + MurmurHash3 fmix64)
+     * - FNV-1a만으로는 상위 비트 분산이 약해 fmix64로 한 번 더 섞음
+     */
+    public static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,98 @@
+package ktb.cloud_james.community.global.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 게시글 ID → 작성 시각 색인 (시각으로 ID 경계 찾기)
+ *
+ * 목적:
+ * - "이 시각 이전 게시글부터 보기"를 created_at 범위 스캔 없이 PK 커서(id < 경계)로 바꿈
+ *
+ * 구조:
+ * - ID 오름차순으로 추가되는 두 개의 int 배열 (게시글당 8바이트, 100만 건 ≈ 8MB)
+ *  - ids: INT UNSIGNED 게시글 ID (부호 없는 int로 보관)
+ *  - seconds: 기준 시각(2020-01-01) 이후 초
+ * - 작성 시각은 누적 최댓값으로 보관 → ID 순서와 시각 순서가 같아 이진 탐색 가능
+ *  - 동시 작성으로 ID와 시각 순서가 살짝 어긋난 게시글은 앞선 게시글의 시각으로 취급 (초 단위 오차)
+ *
+ * 동시성:
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 동기화)
+ */
+public class IdTimeIndex {
+
+    private static final long BASE_EPOCH_SECOND = LocalDateTime.of(2020, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private int[] ids = new int[1024];
+    private int[] seconds = new int[1024];
+    private int size;
+
+    /**
+     * 게시글 추가 (마지막 ID보다 큰 ID만)
+     * @return 추가되었으면 true
+     */
+    public boolean append(long postId, LocalDateTime createdAt) {
+        if (size > 0 && postId <= getLastId()) {
+            return false;
+        }
+
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            seconds = Arrays.copyOf(seconds, size * 2);
+        }
+
+        int second = toSecond(createdAt);
+        ids[size] = (int) postId;
+        seconds[size] = size > 0 ? Math.max(seconds[size - 1], second) : second;
+        size++;
+        return true;
+    }
+
+    /**
+     * 시각 이후(초과)에 작성된 첫 게시글 ID
+     * @return 없으면 -1 (모든 게시글이 시각 이전)
+     */
+    public long firstIdAfter(LocalDateTime time) {
+        long target = toSecondUnclamped(time);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (seconds[mid] <= target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < size ? Integer.toUnsignedLong(ids[low]) : -1;
+    }
+
+    // 마지막(가장 큰) 게시글 ID, 비어 있으면 0
+    public long getLastId() {
+        return size == 0 ? 0 : Integer.toUnsignedLong(ids[size - 1]);
+    }
+
+    // 마지막 게시글 작성 시각 (누적 최댓값), 비어 있으면 null
+    public LocalDateTime getLastTime() {
+        return size == 0 ? null
+                : LocalDateTime.ofEpochSecond(BASE_EPOCH_SECOND + seconds[size - 1], 0, ZoneOffset.UTC);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 배열 메모리 (바이트)
+    public long getSizeInBytes() {
+        return 4L * ids.length + 4L * seconds.length;
+    }
+
+    private static int toSecond(LocalDateTime time) {
+        return Math.toIntExact(toSecondUnclamped(time));
+    }
+
+    private static long toSecondUnclamped(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) - BASE_EPOCH_SECOND;
+    }
+}
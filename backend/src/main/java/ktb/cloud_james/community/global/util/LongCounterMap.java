@@ -0,0 +1,305 @@
+package ktb.cloud_james.community.global.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long → long 동시성 카운터 맵 (Open Addressing)
+ *
+ * 목적:
+ * - ConcurrentHashMap<Long, AtomicLong>는 항목마다 Node + Long(Key) + AtomicLong 객체를 만듦 (항목당 약 80바이트)
+ * - 조회수처럼 요청마다 증가하는 카운터는 항목 객체 없이 원시 배열만으로 관리 (항목당 슬롯 16바이트 / 적재율)
+ *
+ * 구조:
+ * - 스트라이프(기본 64개)로 나누고, 스트라이프마다 keys/values 병렬 배열 (선형 탐사)
+ * - key == 0 은 빈 슬롯 표시 (postId는 1부터 시작하므로 0 사용 불가)
+ * - 증가: 스트라이프 읽기 락(StampedLock) + 키 슬롯 CAS + 값 addAndGet → 증가끼리는 서로 막지 않음
+ *  - 단, 읽기 락 획득/해제도 스트라이프의 락 상태를 CAS로 갱신 → 같은 스트라이프 증가끼리는 이 지점에서 경합 (스트라이프 수로 분산)
+ * - 확장/정리: 해당 스트라이프 쓰기 락 (그 스트라이프만 잠깐 대기)
+ *
+ * 삭제:
+ * - Open Addressing 특성상 개별 삭제 대신 drain 시 값이 0인(한 주기 동안 증가 없던) 키가 많으면 스트라이프를 재구성
+ */
+public class LongCounterMap {
+
+    private static final int DEFAULT_STRIPES = 64;
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public LongCounterMap() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripeCount 스트라이프 수 (2의 거듭제곱으로 올림)
+     */
+    public LongCounterMap(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(INITIAL_STRIPE_CAPACITY);
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * key의 값에 delta를 더하고 결과 반환 (없으면 0에서 시작)
+     */
+    public long addAndGet(long key, long delta) {
+        checkKey(key);
+        long hash = mix(key);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+
+        while (true) {
+            long stamp = stripe.lock.readLock();
+            try {
+                Table table = stripe.table;
+                int slot = table.findOrInsert(key, (int) hash);
+                if (slot >= 0) {
+                    return table.values.addAndGet(slot, delta);
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+
+            // 적재율 초과 → 확장 후 재시도
+            stripe.grow();
+        }
+    }
+
+    // key의 현재 값 (없으면 0)
+    public long get(long key) {
+        checkKey(key);
+        long hash = mix(key);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+
+        long stamp = stripe.lock.readLock();
+        try {
+            Table table = stripe.table;
+            int slot = table.find(key, (int) hash);
+            return slot >= 0 ? table.values.get(slot) : 0L;
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 모든 키의 값을 원자적으로 떼어감 (getAndSet(0))
+     * - 떼어간 이후의 증가분은 그대로 남아 다음 drain 대상
+     * - 값이 0이던 키가 스트라이프의 절반 이상이면 해당 스트라이프 정리
+     * @param consumer (key, 떼어간 값) - 값이 0이 아닌 키만 전달
+     */
+    public void drain(LongLongConsumer consumer) {
+        for (Stripe stripe : stripes) {
+            int idle = 0;
+            int total;
+
+            long stamp = stripe.lock.readLock();
+            try {
+                Table table = stripe.table;
+                total = table.size.get();
+                for (int i = 0; i < table.capacity(); i++) {
+                    long key = table.keys.get(i);
+                    if (key == 0) {
+                        continue;
+                    }
+                    long value = table.values.getAndSet(i, 0);
+                    if (value != 0) {
+                        consumer.accept(key, value);
+                    } else {
+                        idle++;
+                    }
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+
+            if (idle > 0 && idle * 2 >= total) {
+                stripe.compact();
+            }
+        }
+    }
+
+    // 등록된 키 수 (정리 전까지는 값이 0인 키 포함)
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.table.size.get();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 메모리 사용량 추정 (바이트)
+     * - 슬롯당 16바이트 (keys + values) + 배열/스트라이프 헤더
+     */
+    public long estimatedMemoryBytes() {
+        long bytes = 16L + 4L * stripes.length;
+        for (Stripe stripe : stripes) {
+            bytes += 64; // Stripe + StampedLock + Table 헤더
+            bytes += 2 * (16L + 8L * stripe.table.capacity());
+        }
+        return bytes;
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+    }
+
+    // 64비트 해시 섞기 (MurmurHash3 fmix64) - 연속된 postId가 한 스트라이프에 몰리지 않도록
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @FunctionalInterface
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+
+    /**
+     * 스트라이프: 테이블 하나 + 확장/정리용 락
+     */
+    private static final class Stripe {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table;
+
+        private Stripe(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        // 적재율을 넘었으면 2배로 확장 (값이 0인 키는 이 시점에 버림)
+        private void grow() {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                if (current.size.get() < current.threshold) {
+                    return; // 다른 스레드가 이미 확장
+                }
+                table = current.rehash(current.capacity() * 2);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // 값이 0인 키 제거 (크기는 남은 키 수에 맞춰 축소)
+        private void compact() {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int live = current.countNonZero();
+                int capacity = INITIAL_STRIPE_CAPACITY;
+                while (capacity * LOAD_FACTOR <= live) {
+                    capacity <<= 1;
+                }
+                table = current.rehash(capacity);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * 선형 탐사 테이블 (capacity는 2의 거듭제곱)
+     */
+    private static final class Table {
+        private final AtomicLongArray keys;
+        private final AtomicLongArray values;
+        private final AtomicInteger size = new AtomicInteger();
+        private final int mask;
+        private final int threshold;
+
+        private Table(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicLongArray(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        private int capacity() {
+            return mask + 1;
+        }
+
+        private int find(long key, int hash) {
+            for (int i = hash & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                long current = keys.get(i);
+                if (current == key) {
+                    return i;
+                }
+                if (current == 0) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 키 슬롯 찾기 (없으면 빈 슬롯에 CAS로 등록)
+         * @return 슬롯 번호, 적재율 초과로 등록 불가하면 -1
+         */
+        private int findOrInsert(long key, int hash) {
+            for (int i = hash & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                long current = keys.get(i);
+                if (current == key) {
+                    return i;
+                }
+                if (current != 0) {
+                    continue;
+                }
+
+                if (size.get() >= threshold) {
+                    return -1;
+                }
+                if (keys.compareAndSet(i, 0, key)) {
+                    size.incrementAndGet();
+                    return i;
+                }
+                // 다른 스레드가 먼저 차지 → 같은 키면 그 슬롯 사용
+                if (keys.get(i) == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int countNonZero() {
+            int count = 0;
+            for (int i = 0; i <= mask; i++) {
+                if (keys.get(i) != 0 && values.get(i) != 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        // 쓰기 락 안에서만 호출 (동시 증가 없음)
+        private Table rehash(int capacity) {
+            Table next = new Table(capacity);
+            for (int i = 0; i <= mask; i++) {
+                long key = keys.get(i);
+                long value = values.get(i);
+                if (key == 0 || value == 0) {
+                    continue;
+                }
+                int slot = next.findOrInsert(key, (int) mix(key));
+                next.values.set(slot, value);
+            }
+            return next;
+        }
+    }
+}
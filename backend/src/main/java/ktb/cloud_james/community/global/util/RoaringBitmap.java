@@ -0,0 +1,283 @@
+package ktb.cloud_james.community.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 32비트 부호 없는 정수(0 ~ 2^32-1) 집합 - Roaring Bitmap 방식 압축 비트맵
+ *
+ * 목적:
+ * - 사용자별 "좋아요 누른 게시글 ID" 집합을 작게 보관하고 포함 여부를 빠르게 확인
+ * - HashSet<Long>은 원소마다 Node + Long 객체 (원소당 약 50바이트), 비트맵은 원소당 2바이트 이하
+ *
+ * 구조:
+ * - 값의 상위 16비트로 청크(컨테이너)를 나누고, 청크 키는 정렬 배열 (이진 탐색)
+ * - 컨테이너는 하위 16비트를 보관
+ *  - 배열 컨테이너: 정렬된 char[] (원소 4096개 이하, 원소당 2바이트)
+ *  - 비트맵 컨테이너: long[1024] (65536비트 = 8KB 고정, 원소가 4096개를 넘으면 이쪽이 더 작음)
+ *  - 원소 수가 경계를 넘나들면 컨테이너 종류를 바꿈
+ *
+ * 동시성:
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 동기화)
+ */
+public class RoaringBitmap {
+
+    private static final long MAX_VALUE = 0xFFFF_FFFFL;
+    private static final int ARRAY_MAX_SIZE = 4096; // 이보다 많으면 비트맵 컨테이너가 더 작음
+    private static final int BITMAP_WORDS = 1 << 10; // 65536비트 / 64
+
+    // 메모리 추정용 (64비트 JVM, 압축 참조 기준)
+    private static final int OBJECT_HEADER = 16;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size; // 사용 중인 청크 수
+    private int cardinality;
+
+    /**
+     * 값 추가
+     * @return 새로 추가되었으면 true (이미 있으면 false)
+     */
+    public boolean add(long value) {
+        checkValue(value);
+        char key = highBits(value);
+        int index = indexOf(key);
+
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+
+        Container container = containers[index];
+        if (!container.add(lowBits(value))) {
+            return false;
+        }
+        if (container instanceof ArrayContainer array && array.cardinality > ARRAY_MAX_SIZE) {
+            containers[index] = array.toBitmap();
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * 값 제거
+     * @return 제거되었으면 true (없었으면 false)
+     */
+    public boolean remove(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            return false;
+        }
+        int index = indexOf(highBits(value));
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index];
+        if (!container.remove(lowBits(value))) {
+            return false;
+        }
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else if (container instanceof BitmapContainer bitmap && bitmap.cardinality <= ARRAY_MAX_SIZE) {
+            containers[index] = bitmap.toArray();
+        }
+        cardinality--;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            return false;
+        }
+        int index = indexOf(highBits(value));
+        return index >= 0 && containers[index].contains(lowBits(value));
+    }
+
+    // 원소 수
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    // 대략적인 힙 사용량 (바이트, 객체 헤더/배열 여유 공간 포함)
+    public long getSizeInBytes() {
+        long bytes = OBJECT_HEADER + 2L * REFERENCE + 8
+                + ARRAY_HEADER + 2L * keys.length
+                + ARRAY_HEADER + (long) REFERENCE * containers.length;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].getSizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private static char highBits(long value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(long value) {
+        return (char) value;
+    }
+
+    private static void checkValue(long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("value must be between 0 and 2^32-1: " + value);
+        }
+    }
+
+    private interface Container {
+        boolean add(char value);
+
+        boolean remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        long getSizeInBytes();
+    }
+
+    /**
+     * 희소 청크 - 정렬된 하위 16비트 배열
+     */
+    private static class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public boolean add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return false;
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX_SIZE + 1));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            if (values.length > 8 && cardinality <= values.length / 4) {
+                values = Arrays.copyOf(values, values.length / 2); // 비트맵에서 되돌아온 큰 배열 축소
+            }
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long getSizeInBytes() {
+            return OBJECT_HEADER + REFERENCE + 4 + ARRAY_HEADER + 2L * values.length;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 밀집 청크 - 65536비트 고정 비트맵
+     */
+    private static class BitmapContainer implements Container {
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public boolean add(char value) {
+            long mask = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & mask) != 0) {
+                return false;
+            }
+            words[word] |= mask;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char value) {
+            long mask = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & mask) == 0) {
+                return false;
+            }
+            words[word] &= ~mask;
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long getSizeInBytes() {
+            return OBJECT_HEADER + REFERENCE + 4 + ARRAY_HEADER + 8L * BITMAP_WORDS;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[cardinality];
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.cardinality++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ktb.cloud_james.community.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 실행 (롤백되면 실행 안 함)
+     * - 인메모리 캐시 갱신처럼 DB에 확정된 내용만 반영해야 하는 작업용
+     * - 트랜잭션 밖에서 호출하면 즉시 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package ktb.cloud_james.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 전체 데이터 내보내기(export) 전용 Repository
+ * - 엔티티/영속성 컨텍스트 없이 JDBC ResultSet을 한 행씩 콜백으로 넘김 (행 객체를 모으지 않음)
+ * - 전진 전용(TYPE_FORWARD_ONLY) + 읽기 전용 + fetch size Integer.MIN_VALUE → Connector/J 스트리밍 모드
+ *  - 서버가 보내는 결과를 한 행씩 읽음 (기본 동작은 결과 전체를 클라이언트 메모리에 적재)
+ *  - URL의 useCursorFetch=true(서버 커서)는 쓰지 않음: 앱 전체 문장이 서버 prepare로 바뀌고,
+ *    MySQL이 첫 행을 보내기 전에 결과 전체를 임시 테이블로 만듦 (수백만 행 본문 내보내기에 불리)
+ *  - 스트리밍 중에는 같은 커넥션으로 다른 문장 실행 불가 → 내보내기 1건당 쿼리 1개만 사용
+ * - PK 순서 (InnoDB 클러스터 인덱스 순서 그대로 읽음, 정렬 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글 + 본문(인코딩된 그대로) + 통계 전체 (삭제된 게시글 포함, deleted_at으로 구분)
+     */
+    public void streamPosts(RowCallbackHandler handler) {
+        stream("""
+                SELECT p.post_id, p.user_id, p.title, p.created_at, p.updated_at, p.deleted_at,
+                       c.encoding, c.body, c.raw_length,
+                       s.view_count, s.like_count, s.comment_count
+                  FROM posts p
+                  LEFT JOIN post_contents c ON c.post_id = p.post_id
+                  LEFT JOIN post_stats s ON s.post_id = p.post_id
+                 ORDER BY p.post_id
+                """, handler);
+    }
+
+    /**
+     * 댓글 전체 (삭제된 댓글 포함, deleted_at으로 구분)
+     */
+    public void streamComments(RowCallbackHandler handler) {
+        stream("""
+                SELECT comment_id, post_id, user_id, content, created_at, updated_at, deleted_at
+                  FROM comments
+                 ORDER BY comment_id
+                """, handler);
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement =
+                    connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE); // Connector/J 행 단위 스트리밍
+            return statement;
+        }, handler);
+    }
+}
@@ -0,0 +1,49 @@
+package ktb.cloud_james.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 피드 카드 요약(excerpt, word_count) 백필 전용 Repository
+ * - V7 이전 게시글은 요약이 비어 있음 → 본문을 읽어 애플리케이션에서 계산 후 채움
+ * - PK 순서 키셋 페이징 (OFFSET 없이 배치마다 마지막 ID 이후부터)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCardBackfillRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 요약이 비어 있는 게시글 본문 (삭제된 게시글 포함 - 복구/내보내기 시에도 일관되게)
+     */
+    public List<Row> findMissing(long afterPostId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT p.post_id, c.encoding, c.body
+                  FROM posts p
+                  LEFT JOIN post_contents c ON c.post_id = p.post_id
+                 WHERE p.post_id > ? AND p.excerpt IS NULL
+                 ORDER BY p.post_id
+                 LIMIT ?
+                """,
+                (rs, rowNum) -> new Row(rs.getLong("post_id"), rs.getInt("encoding"), rs.getBytes("body")),
+                afterPostId, limit);
+    }
+
+    /**
+     * 요약 일괄 저장 (이미 채워진 행은 건너뜀 - 그 사이 수정된 게시글의 새 요약을 덮어쓰지 않음)
+     */
+    public void updateSummaries(List<Object[]> excerptWordCountPostIds) {
+        jdbcTemplate.batchUpdate("""
+                UPDATE posts
+                   SET excerpt = ?, word_count = ?
+                 WHERE post_id = ? AND excerpt IS NULL
+                """, excerptWordCountPostIds);
+    }
+
+    public record Row(long postId, int encoding, byte[] body) {
+    }
+}
@@ -0,0 +1,10 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.entity.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+// PostContent의 PK는 post_id (Post의 PK와 동일)
+@Repository
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+}
@@ -7,18 +7,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
-public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+public interface PostLikeRepository extends JpaRepository<PostLike, Long>, PostLikeRepositoryCustom {
 
     /**
-     * 특정 사용자의 특정 게시글 좋아요 조회
-     * @return Optional<PostLike> (있으면 이미 좋아요 누름, 없으면 안 누름)
+     * 사용자가 좋아요 누른 게시글 ID 전체
+     * - 좋아요 비트맵 적재용, (user_id, post_id) 인덱스만 읽음 (테이블 접근 없음)
      */
-    @Query("SELECT pl FROM PostLike pl " +
-            "WHERE pl.post.id = :postId AND pl.user.id = :userId")
-    Optional<PostLike> findByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
 
     /**
      * 게시글의 모든 좋아요 Hard Delete
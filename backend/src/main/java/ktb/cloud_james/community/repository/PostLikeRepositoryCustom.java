@@ -0,0 +1,60 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.dto.like.LikerListResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostLike 커스텀 Repository
+ * - 좋아요 토글용 쿼리 (엔티티 적재 없이 문장 2개: 상태 조회 1회 + INSERT/DELETE 1회)
+ * - 좋아요 누른 사용자 목록 (커서 기반)
+ */
+public interface PostLikeRepositoryCustom {
+
+    /**
+     * 게시글 존재 확인 + 현재 좋아요 수 + 사용자 좋아요 여부를 한 번에 조회
+     * @return 삭제되었거나 없는 게시글이면 empty
+     */
+    Optional<LikeState> findLikeState(Long postId, Long userId);
+
+    /**
+     * 좋아요 추가 (uk_post_likes_post_user 중복이면 무시)
+     * @return 실제로 추가되었으면 1, 이미 있었으면 0
+     */
+    int insertLikeIgnoringDuplicate(Long postId, Long userId);
+
+    /**
+     * 좋아요 취소
+     * @return 실제로 삭제되었으면 1, 이미 없었으면 0
+     */
+    int deleteLike(Long postId, Long userId);
+
+    /**
+     * 삭제되지 않은 게시글일 때만 좋아요 추가 (게시글 확인 + INSERT를 문장 1개로, 중복이면 무시)
+     * @return 실제로 추가되었으면 1, 이미 있었거나 게시글이 없으면 0
+     */
+    int insertLikeIfPostActive(Long postId, Long userId);
+
+    /**
+     * 삭제되지 않은 게시글일 때만 좋아요 취소 (문장 1개)
+     * @return 실제로 삭제되었으면 1, 이미 없었거나 게시글이 없으면 0
+     */
+    int deleteLikeIfPostActive(Long postId, Long userId);
+
+    /**
+     * 좋아요 누른 사용자 목록 (커서 기반, 최근에 누른 순)
+     * @param cursor 마지막으로 본 좋아요 ID (null이면 첫 페이지)
+     * @param size 조회할 행 수 (hasNext 판별용 +1은 호출하는 쪽에서 포함)
+     */
+    List<LikerListResponseDto.LikerDto> findLikersWithCursor(Long postId, Long cursor, int size);
+
+    @Getter
+    @AllArgsConstructor
+    class LikeState {
+        private final long likeCount; // post_stats.like_count (반영 대기 증감분 제외)
+        private final boolean liked;  // 사용자 좋아요 여부
+    }
+}
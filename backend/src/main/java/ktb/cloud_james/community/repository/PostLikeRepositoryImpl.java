@@ -0,0 +1,122 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.dto.like.LikerListResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostLike 커스텀 Repository 구현체
+ * - 좋아요 토글은 게시글/사용자/좋아요 엔티티가 필요 없음 → JdbcTemplate으로 키만 사용
+ * - 호출하는 쪽의 트랜잭션에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeRepositoryImpl implements PostLikeRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * posts PK + post_stats PK + uk_post_likes_post_user 포인트 조회 1회
+     */
+    @Override
+    public Optional<LikeState> findLikeState(Long postId, Long userId) {
+        return jdbcTemplate.query("""
+                        SELECT s.like_count,
+                               EXISTS(SELECT 1 FROM post_likes pl WHERE pl.post_id = p.post_id AND pl.user_id = ?) AS liked
+                          FROM posts p
+                          JOIN post_stats s ON s.post_id = p.post_id
+                         WHERE p.post_id = ? AND p.deleted_at IS NULL
+                        """,
+                (rs, rowNum) -> new LikeState(rs.getLong("like_count"), rs.getBoolean("liked")),
+                userId, postId
+        ).stream().findFirst();
+    }
+
+    /**
+     * INSERT IGNORE: 동시에 두 번 누른 경우 두 번째 INSERT는 유니크 키 충돌 대신 0행
+     * - ON DUPLICATE KEY UPDATE는 Connector/J 기본 설정(found rows)에서 중복도 1행으로 보고되어 추가 여부를 구분할 수 없음
+     */
+    @Override
+    public int insertLikeIgnoringDuplicate(Long postId, Long userId) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, ?)",
+                postId, userId, LocalDateTime.now()); // @CreationTimestamp와 같은 애플리케이션 시각
+    }
+
+    @Override
+    public int deleteLike(Long postId, Long userId) {
+        return jdbcTemplate.update(
+                "DELETE FROM post_likes WHERE post_id = ? AND user_id = ?",
+                postId, userId);
+    }
+
+    /**
+     * INSERT IGNORE ... SELECT: 게시글이 없거나 삭제되었으면 SELECT가 0행 → 아무것도 추가하지 않음
+     */
+    @Override
+    public int insertLikeIfPostActive(Long postId, Long userId) {
+        return jdbcTemplate.update("""
+                        INSERT IGNORE INTO post_likes (post_id, user_id, created_at)
+                        SELECT p.post_id, ?, ?
+                          FROM posts p
+                         WHERE p.post_id = ? AND p.deleted_at IS NULL
+                        """,
+                userId, LocalDateTime.now(), postId);
+    }
+
+    /**
+     * 다중 테이블 DELETE: 삭제된 게시글의 좋아요는 건드리지 않음
+     */
+    @Override
+    public int deleteLikeIfPostActive(Long postId, Long userId) {
+        return jdbcTemplate.update("""
+                        DELETE pl
+                          FROM post_likes pl
+                          JOIN posts p ON p.post_id = pl.post_id AND p.deleted_at IS NULL
+                         WHERE pl.post_id = ? AND pl.user_id = ?
+                        """,
+                postId, userId);
+    }
+
+    /**
+     * idx_post_likes_post_like (post_id, like_id, user_id, created_at) 역순 범위 스캔 → LIMIT 행에서 멈춤 (정렬/OFFSET 없음)
+     * - post_likes 조회 컬럼이 모두 인덱스에 있음 (커버링) → 본 행은 읽지 않고, 행마다 users PK 조회로 닉네임/프로필 이미지만 가져옴
+     */
+    @Override
+    public List<LikerListResponseDto.LikerDto> findLikersWithCursor(Long postId, Long cursor, int size) {
+        String sql = """
+                SELECT pl.like_id, pl.user_id, pl.created_at,
+                       u.nickname, u.image_url, u.deleted_at IS NOT NULL AS is_deleted
+                  FROM post_likes pl
+                  JOIN users u ON u.user_id = pl.user_id
+                 WHERE pl.post_id = ?
+                """;
+        Object[] args;
+        if (cursor == null) {
+            args = new Object[]{postId, size};
+        } else {
+            sql += "   AND pl.like_id < ?\n";
+            args = new Object[]{postId, cursor, size};
+        }
+        sql += " ORDER BY pl.like_id DESC LIMIT ?";
+
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    return new LikerListResponseDto.LikerDto(
+                            rs.getLong("like_id"),
+                            rs.getLong("user_id"),
+                            rs.getString("nickname"),
+                            rs.getString("image_url"),
+                            rs.getBoolean("is_deleted"),
+                            createdAt == null ? null : createdAt.toLocalDateTime());
+                },
+                args);
+    }
+}
@@ -7,4 +7,6 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom{
 
+    // 삭제되지 않은 게시글 존재 여부 (게시글 엔티티 적재 없이 확인)
+    boolean existsByIdAndDeletedAtIsNull(Long id);
 }
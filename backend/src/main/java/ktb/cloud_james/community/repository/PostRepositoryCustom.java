@@ -1,8 +1,14 @@
 package ktb.cloud_james.community.repository;
 
-import ktb.cloud_james.community.dto.post.PostDetailResponseDto;
+import ktb.cloud_james.community.dto.post.PostDetailContentDto;
+import ktb.cloud_james.community.dto.post.PostDetailOverlayDto;
 import ktb.cloud_james.community.dto.post.PostListResponseDto;
+import ktb.cloud_james.community.dto.post.PostRankingSourceDto;
+import ktb.cloud_james.community.dto.post.PostSearchSourceDto;
+import ktb.cloud_james.community.dto.post.PostTimeDto;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +29,72 @@ public interface PostRepositoryCustom {
             int limit
     );
 
-    // 게시글 상세 조회 (단일 게시글)
-    Optional<PostDetailResponseDto> findPostDetail(Long postId, Long currentUserId);
+    /**
+     * 기준 게시글보다 새 게시글 조회 (위쪽으로 불러오기)
+     * @param afterId 기준 게시글 ID (이 ID보다 큰 게시글만)
+     * @param limit 페이지당 게시글 수
+     * @return 기준에 가까운 순(ID 오름차순) limit + 1건 이하
+     */
+    List<PostListResponseDto.PostSummaryDto> findPostsAfterCursor(
+            Long afterId,
+            int limit
+    );
+
+    /**
+     * 게시글 ID + 작성 시각 (시각 → ID 색인 적재용, 삭제된 게시글 포함)
+     * @param afterId 이 ID보다 큰 게시글만
+     * @return ID 오름차순 limit건 이하
+     */
+    List<PostTimeDto> findPostTimes(long afterId, int limit);
+
+    /**
+     * 작성자별 게시글 목록 조회 (프로필 페이지, 인피니티 스크롤)
+     * @param userId 작성자 ID
+     * @param lastSeenId 마지막으로 본 게시글 ID (커서)
+     * @param limit 페이지당 게시글 수
+     * @return 게시글 목록 (limit + 1건 이하, 최신순)
+     */
+    List<PostListResponseDto.PostSummaryDto> findPostsByAuthorWithCursor(
+            Long userId,
+            Long lastSeenId,
+            int limit
+    );
+
+    /**
+     * 게시글 상세 중 사용자와 무관한 부분 (본문, 메인 이미지, 작성자)
+     * - 상세 캐시가 비었을 때만 조회
+     */
+    Optional<PostDetailContentDto> findPostDetailContent(Long postId);
+
+    /**
+     * 게시글 상세 중 요청마다 바뀌는 부분 (통계, 좋아요 여부)
+     * - 삭제된 게시글이면 empty (다른 서버에서 삭제된 경우 캐시 무효화 신호)
+     * @param includeUniqueViewerSketch 고유 방문자 스케치(VARBINARY 1KB)까지 조회할지 (기능 활성화 시에만)
+     */
+    Optional<PostDetailOverlayDto> findPostDetailOverlay(Long postId, Long currentUserId, boolean includeUniqueViewerSketch);
+
+    /**
+     * ID 목록으로 게시글 요약 조회 (순서 보장 X, 삭제된 게시글 제외)
+     * - 인메모리 랭킹(인기순)의 한 페이지를 채울 때 사용
+     */
+    List<PostListResponseDto.PostSummaryDto> findPostSummariesByIds(Collection<Long> postIds);
+
+    /**
+     * 랭킹 계산용 최근 게시글 통계 조회
+     * @param since 이 시각 이후 작성된 게시글만
+     * @param minPostId 게시글 ID 하한 (since 이후 게시글은 모두 이 ID 이상, null이면 하한 없음)
+     * @param limit 최대 건수 (최신순)
+     */
+    List<PostRankingSourceDto> findRankingSources(LocalDateTime since, Long minPostId, int limit);
+
+    /**
+     * 검색 색인 동기화용 게시글 버전 목록 (본문 제외, ID 오름차순 keyset)
+     * @param afterId 이 ID보다 큰 게시글만 (첫 조회는 0)
+     */
+    List<PostSearchSourceDto> findSearchVersions(long afterId, int limit);
+
+    /**
+     * 검색 색인용 게시글 원문 (삭제된 게시글 제외)
+     */
+    List<PostSearchSourceDto> findSearchSources(Collection<Long> postIds);
 }
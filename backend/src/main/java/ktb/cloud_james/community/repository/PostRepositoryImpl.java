@@ -1,18 +1,31 @@
 package ktb.cloud_james.community.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import ktb.cloud_james.community.dto.post.PostDetailContentDto;
+import ktb.cloud_james.community.dto.post.PostDetailOverlayDto;
 import ktb.cloud_james.community.dto.post.PostDetailResponseDto;
 import ktb.cloud_james.community.dto.post.PostListResponseDto;
+import ktb.cloud_james.community.dto.post.PostRankingSourceDto;
+import ktb.cloud_james.community.dto.post.PostSearchSourceDto;
+import ktb.cloud_james.community.dto.post.PostTimeDto;
+import ktb.cloud_james.community.global.metrics.ContentReadMetrics;
+import ktb.cloud_james.community.global.util.ContentCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static ktb.cloud_james.community.entity.QPost.post;
+import static ktb.cloud_james.community.entity.QPostContent.postContent;
 import static ktb.cloud_james.community.entity.QPostStats.postStats;
 import static ktb.cloud_james.community.entity.QUser.user;
 import static ktb.cloud_james.community.entity.QPostImage.postImage;
@@ -28,6 +41,7 @@ import static ktb.cloud_james.community.entity.QPostLike.postLike;
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ContentReadMetrics contentReadMetrics;
 
     /**
      * 게시글 목록 조회 (인피니티 스크롤)
@@ -39,18 +53,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             int limit
     ) {
         return queryFactory
-                .select(Projections.constructor(
-                        PostListResponseDto.PostSummaryDto.class,
-                        post.id,
-                        post.title,
-                        user.nickname,
-                        user.imageUrl,
-                        user.deletedAt.isNotNull(), // 탈퇴 여부 추가
-                        post.createdAt,
-                        postStats.likeCount,
-                        postStats.commentCount,
-                        postStats.viewCount
-                ))
+                .select(postSummaryProjection())
                 .from(post)
                 .join(post.user, user)                            // 작성자 정보 JOIN
                 .join(postStats).on(postStats.postId.eq(post.id)) // 통계 정보 JOIN
@@ -64,49 +67,292 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     /**
-     * 게시글 상세 조회 특징:
-     * - 단일 쿼리로 모든 데이터 조회 (N+1 방지)
-     * - 작성자, 통계, 이미지, 좋아요 여부 모두 JOIN
-     * - 조회수는 캐시 값 사용 (DB 값 + 캐시 값)
+     * 기준 게시글보다 새 게시글 조회 (위쪽으로 불러오기)
+     * - PK 오름차순 범위 스캔 (기준에 가까운 게시글부터), LIMIT에서 멈춤
+     * - 화면 순서(최신순)로 뒤집는 것은 호출하는 쪽에서 처리
+     */
+    @Override
+    public List<PostListResponseDto.PostSummaryDto> findPostsAfterCursor(
+            Long afterId,
+            int limit
+    ) {
+        return queryFactory
+                .select(postSummaryProjection())
+                .from(post)
+                .join(post.user, user)
+                .join(postStats).on(postStats.postId.eq(post.id))
+                .where(
+                        post.deletedAt.isNull(),
+                        post.id.gt(afterId)
+                )
+                .orderBy(post.id.asc())         // 기준 바로 위부터
+                .limit(limit + 1)               // 더 새 게시글 존재 여부 판별용 +1
+                .fetch();
+    }
+
+    /**
+     * 게시글 ID + 작성 시각
+     * - PK 범위 스캔, 삭제된 게시글도 포함 (시각 경계 계산에는 삭제 여부 무관)
      */
     @Override
-    public Optional<PostDetailResponseDto> findPostDetail(Long postId, Long currentUserId) {
-        PostDetailResponseDto result = queryFactory
+    public List<PostTimeDto> findPostTimes(long afterId, int limit) {
+        return queryFactory
                 .select(Projections.constructor(
-                        PostDetailResponseDto.class,
+                        PostTimeDto.class,
                         post.id,
-                        post.title,
-                        post.content,
-                        getMainImageUrl(),
-                        post.createdAt,
-                        post.updatedAt,
-                        Projections.constructor( // 작성자 정보
-                                PostDetailResponseDto.AuthorInfo.class,
-                                user.nickname,
-                                user.imageUrl,
-                                user.deletedAt.isNotNull() // 탈퇴 여부 추가
-                        ),
-                        Projections.constructor( // 통계 정보
-                                PostDetailResponseDto.StatsInfo.class,
-                                postStats.likeCount,
-                                postStats.commentCount,
-                                postStats.viewCount
-                        ),
-                        isLikedByUser(currentUserId),
-                        post.user.id.eq(currentUserId)
+                        post.createdAt
                 ))
                 .from(post)
+                .where(post.id.gt(afterId))
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 작성자별 게시글 목록 조회
+     * - (user_id, deleted_at, post_id) 인덱스: 작성자 + 미삭제 동등 조건 뒤 post_id 역순 범위 스캔, 정렬 없이 LIMIT에서 멈춤
+     * - 작성자 JOIN은 모든 행이 같은 users 1건 (PK 조회)
+     */
+    @Override
+    public List<PostListResponseDto.PostSummaryDto> findPostsByAuthorWithCursor(
+            Long userId,
+            Long lastSeenId,
+            int limit
+    ) {
+        return queryFactory
+                .select(postSummaryProjection())
+                .from(post)
+                .join(post.user, user)
+                .join(postStats).on(postStats.postId.eq(post.id))
+                .where(
+                        post.user.id.eq(userId),    // 작성자 조건
+                        post.deletedAt.isNull(),
+                        cursorCondition(lastSeenId)
+                )
+                .orderBy(post.id.desc())
+                .limit(limit + 1)               // hasNext 판별용 +1
+                .fetch();
+    }
+
+    /**
+     * ID 목록으로 게시글 요약 조회
+     * - PK IN 조회 (페이지 크기만큼)
+     * - 정렬은 호출하는 쪽(랭킹 순서)에서 처리
+     */
+    @Override
+    public List<PostListResponseDto.PostSummaryDto> findPostSummariesByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory
+                .select(postSummaryProjection())
+                .from(post)
                 .join(post.user, user)
                 .join(postStats).on(postStats.postId.eq(post.id))
+                .where(
+                        post.id.in(postIds),
+                        post.deletedAt.isNull()
+                )
+                .fetch();
+    }
+
+    /**
+     * 랭킹 계산용 통계 조회
+     * - 작성자/이미지 JOIN 없이 post + post_stats만
+     * - created_at 인덱스가 없어 ID 하한으로 PK 범위를 [minPostId, 최신]으로 좁힘
+     *  (하한이 없으면 LIMIT을 채우거나 테이블 끝까지 PK 역순 스캔)
+     * - created_at 조건은 좁혀진 범위 안에서 경계 초 단위 오차만 걸러냄
+     */
+    @Override
+    public List<PostRankingSourceDto> findRankingSources(LocalDateTime since, Long minPostId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(
+                        PostRankingSourceDto.class,
+                        post.id,
+                        post.createdAt,
+                        postStats.likeCount,
+                        postStats.commentCount,
+                        postStats.viewCount
+                ))
+                .from(post)
+                .join(postStats).on(postStats.postId.eq(post.id))
+                .where(
+                        minPostId == null ? null : post.id.goe(minPostId),
+                        post.deletedAt.isNull(),
+                        post.createdAt.goe(since)
+                )
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 검색 색인 버전 목록
+     * - PK 범위 스캔, 본문(LONGTEXT)은 읽지 않음
+     */
+    @Override
+    public List<PostSearchSourceDto> findSearchVersions(long afterId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(
+                        PostSearchSourceDto.class,
+                        post.id,
+                        Expressions.nullExpression(String.class),
+                        Expressions.nullExpression(String.class),
+                        post.updatedAt.coalesce(post.createdAt)
+                ))
+                .from(post)
+                .where(
+                        post.id.gt(afterId),
+                        post.deletedAt.isNull()
+                )
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 검색 색인용 원문
+     * - PK IN 조회 (변경된 게시글만)
+     */
+    @Override
+    public List<PostSearchSourceDto> findSearchSources(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory
+                .select(post.id, post.title, post.updatedAt.coalesce(post.createdAt),
+                        postContent.encoding, postContent.body, postContent.rawLength)
+                .from(post)
+                .leftJoin(postContent).on(postContent.postId.eq(post.id))
+                .where(
+                        post.id.in(postIds),
+                        post.deletedAt.isNull()
+                )
+                .fetch()
+                .stream()
+                .map(tuple -> new PostSearchSourceDto(
+                        tuple.get(post.id),
+                        tuple.get(post.title),
+                        decodeContent(tuple),
+                        tuple.get(2, LocalDateTime.class)
+                ))
+                .toList();
+    }
+
+    /**
+     * 게시글 상세 - 본문/작성자
+     * - 작성자 JOIN + 본문(post_contents) PK JOIN + 메인 이미지 서브쿼리 (N+1 방지)
+     * - 본문은 저장된 인코딩(압축 여부)대로 읽은 뒤 디코딩
+     * - 결과는 상세 캐시에 보관되므로 통계/좋아요 여부는 포함하지 않음
+     */
+    @Override
+    public Optional<PostDetailContentDto> findPostDetailContent(Long postId) {
+        Tuple tuple = queryFactory
+                .select(post.id, post.title, getMainImageUrl(), post.createdAt, post.updatedAt,
+                        user.id, user.nickname, user.imageUrl, user.deletedAt,
+                        postContent.encoding, postContent.body, postContent.rawLength)
+                .from(post)
+                .join(post.user, user)
+                .leftJoin(postContent).on(postContent.postId.eq(post.id))
                 .where(
                         post.id.eq(postId),
                         post.deletedAt.isNull()  // 삭제된 게시글 제외
                 )
                 .fetchOne();  // 단일 결과 (없으면 null)
 
+        if (tuple == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new PostDetailContentDto(
+                tuple.get(post.id),
+                tuple.get(post.title),
+                decodeContent(tuple),
+                tuple.get(2, String.class), // 메인 이미지 (서브쿼리)
+                tuple.get(post.createdAt),
+                tuple.get(post.updatedAt),
+                tuple.get(user.id),
+                new PostDetailResponseDto.AuthorInfo( // 작성자 정보
+                        tuple.get(user.nickname),
+                        tuple.get(user.imageUrl),
+                        tuple.get(user.deletedAt) != null // 탈퇴 여부
+                )
+        ));
+    }
+
+    // 본문 디코딩 + 읽은 바이트 기록 (본문 행이 없으면 빈 문자열)
+    private String decodeContent(Tuple tuple) {
+        byte[] body = tuple.get(postContent.body);
+        if (body == null) {
+            return "";
+        }
+        contentReadMetrics.record(body.length, tuple.get(postContent.rawLength));
+        return ContentCodec.decode(tuple.get(postContent.encoding), body);
+    }
+
+    /**
+     * 게시글 상세 - 통계 + 좋아요 여부
+     * - posts/post_stats 모두 PK 조회, 본문(LONGTEXT)은 읽지 않음
+     * - 고유 방문자 스케치는 기능이 켜져 있을 때만 읽음 (요청마다 1KB 바이너리 전송 방지)
+     */
+    @Override
+    public Optional<PostDetailOverlayDto> findPostDetailOverlay(
+            Long postId, Long currentUserId, boolean includeUniqueViewerSketch) {
+        Expression<PostDetailResponseDto.StatsInfo> stats = includeUniqueViewerSketch
+                ? Projections.constructor( // 통계 정보 + 고유 방문자 스케치
+                        PostDetailResponseDto.StatsInfo.class,
+                        postStats.likeCount,
+                        postStats.commentCount,
+                        postStats.viewCount,
+                        postStats.uniqueViewerCount,
+                        postStats.uniqueViewerSketch)
+                : Projections.constructor( // 통계 정보
+                        PostDetailResponseDto.StatsInfo.class,
+                        postStats.likeCount,
+                        postStats.commentCount,
+                        postStats.viewCount);
+
+        PostDetailOverlayDto result = queryFactory
+                .select(Projections.constructor(
+                        PostDetailOverlayDto.class,
+                        stats,
+                        isLikedByUser(currentUserId)
+                ))
+                .from(post)
+                .join(postStats).on(postStats.postId.eq(post.id))
+                .where(
+                        post.id.eq(postId),
+                        post.deletedAt.isNull()  // 삭제된 게시글 제외
+                )
+                .fetchOne();
+
         return Optional.ofNullable(result);
     }
 
+    /**
+     * 게시글 요약 프로젝션 (목록 화면 공통)
+     */
+    private Expression<PostListResponseDto.PostSummaryDto> postSummaryProjection() {
+        return Projections.constructor(
+                PostListResponseDto.PostSummaryDto.class,
+                post.id,
+                post.title,
+                user.nickname,
+                user.imageUrl,
+                user.deletedAt.isNotNull(), // 탈퇴 여부 추가
+                post.createdAt,
+                post.excerpt,               // 작성/수정 시 계산된 요약 (본문/이미지 테이블 미접근)
+                post.wordCount,
+                post.thumbnailUrl,
+                postStats.likeCount,
+                postStats.commentCount,
+                postStats.viewCount
+        );
+    }
+
     /**
      * 커서 조건
      * 커서 기반 페이징 동작 원리:
@@ -0,0 +1,19 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.entity.PostStatsDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostStatsDeltaRepository extends JpaRepository<PostStatsDelta, Long>, PostStatsDeltaRepositoryCustom {
+
+    /**
+     * 아직 post_stats에 합산되지 않은 조회수 증가분 합계 (전체 서버)
+     * - post_id 인덱스 범위 조회, 행 수는 최대 (서버 수 × 합산 주기 내 발행 횟수)
+     * - 게시글 상세 조회와 같은 트랜잭션에서 호출하면 fold 전후 어느 쪽이든 일관된 스냅샷
+     */
+    @Query("SELECT COALESCE(SUM(d.viewDelta), 0) FROM PostStatsDelta d WHERE d.postId = :postId")
+    Long sumPendingViewDelta(@Param("postId") Long postId);
+}
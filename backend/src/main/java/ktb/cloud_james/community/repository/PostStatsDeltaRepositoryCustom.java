@@ -0,0 +1,44 @@
+package ktb.cloud_james.community.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * PostStatsDelta 커스텀 Repository
+ * - 스테이징 테이블 발행/합산용 쿼리
+ */
+public interface PostStatsDeltaRepositoryCustom {
+
+    /**
+     * 증가분 발행 (다중 행 INSERT 1회)
+     * @return 삽입된 행 수
+     */
+    int insertDeltas(String nodeId, Map<Long, Long> deltas);
+
+    /**
+     * 합산 권한(DB 네임드 락) 획득 시도 - 대기 없이 즉시 반환
+     * - 세션(커넥션) 단위 락이므로 같은 트랜잭션 안에서 releaseFoldLock까지 호출해야 함
+     */
+    boolean tryAcquireFoldLock();
+
+    void releaseFoldLock();
+
+    /**
+     * 가장 오래된 증가분부터 최대 limit행을 잠그고 게시글별로 합산
+     * @return postId → 합계, 그리고 잠근 마지막 delta_id
+     */
+    LockedDeltas lockOldestDeltas(int limit);
+
+    // lastDeltaId 이하 행 삭제 (lockOldestDeltas로 잠근 범위)
+    int deleteUpTo(long lastDeltaId);
+
+    @Getter
+    @AllArgsConstructor
+    class LockedDeltas {
+        private final Map<Long, Long> sums; // postId → 합계
+        private final long lastDeltaId;     // 잠근 마지막 delta_id
+        private final int rows;             // 잠근 행 수
+    }
+}
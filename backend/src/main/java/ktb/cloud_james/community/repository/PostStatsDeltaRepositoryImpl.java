@@ -0,0 +1,88 @@
+package ktb.cloud_james.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostStatsDelta 커스텀 Repository 구현체
+ * - 다중 행 INSERT, 잠금 읽기(FOR UPDATE), 네임드 락은 JdbcTemplate 사용
+ * - 호출하는 쪽의 트랜잭션에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostStatsDeltaRepositoryImpl implements PostStatsDeltaRepositoryCustom {
+
+    private static final String FOLD_LOCK_NAME = "community.post_stats_delta.fold";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertDeltas(String nodeId, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO post_stats_delta (node_id, post_id, view_delta, created_at) VALUES ");
+        List<Object> params = new ArrayList<>(deltas.size() * 3);
+
+        boolean first = true;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            sql.append(first ? "" : ", ").append("(?, ?, ?, NOW())");
+            params.add(nodeId);
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+            first = false;
+        }
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    @Override
+    public boolean tryAcquireFoldLock() {
+        Integer acquired = jdbcTemplate.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, FOLD_LOCK_NAME);
+        return acquired != null && acquired == 1;
+    }
+
+    @Override
+    public void releaseFoldLock() {
+        jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, FOLD_LOCK_NAME);
+    }
+
+    /**
+     * 잠금 읽기로 합산
+     * - FOR UPDATE는 현재 값(커밋된 최신 행)을 읽으므로, 다른 서버가 방금 커밋한 증가분도 빠짐없이 포함
+     * - 같은 트랜잭션의 deleteUpTo는 여기서 잠근 행만 지움 (새 증가분은 더 큰 delta_id로 들어옴)
+     */
+    @Override
+    public LockedDeltas lockOldestDeltas(int limit) {
+        Map<Long, Long> sums = new HashMap<>();
+        long[] lastDeltaId = {0L};
+        int[] rows = {0};
+
+        jdbcTemplate.query(
+                "SELECT delta_id, post_id, view_delta FROM post_stats_delta " +
+                        "ORDER BY delta_id LIMIT ? FOR UPDATE",
+                (RowCallbackHandler) rs -> {
+                    lastDeltaId[0] = Math.max(lastDeltaId[0], rs.getLong("delta_id"));
+                    sums.merge(rs.getLong("post_id"), rs.getLong("view_delta"), Long::sum);
+                    rows[0]++;
+                },
+                limit
+        );
+
+        return new LockedDeltas(sums, lastDeltaId[0], rows[0]);
+    }
+
+    @Override
+    public int deleteUpTo(long lastDeltaId) {
+        return jdbcTemplate.update("DELETE FROM post_stats_delta WHERE delta_id <= ?", lastDeltaId);
+    }
+}
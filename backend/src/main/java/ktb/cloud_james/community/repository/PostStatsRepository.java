@@ -6,12 +6,15 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 // PostStats의 PK는 post_id (Post의 PK와 동일)
 @Repository
-public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+public interface PostStatsRepository extends JpaRepository<PostStats, Long>, PostStatsRepositoryCustom {
 
     // 조회수 증가 (원자적 연산)
+    // - 단건 반영용 (스케줄러는 bulkIncrementViewCounts 사용), 자체 트랜잭션으로 실행
+    @Transactional
     @Modifying
     @Query("UPDATE PostStats ps SET ps.viewCount = ps.viewCount + :count WHERE ps.postId = :postId")
     int incrementViewCount(@Param("postId") Long postId, @Param("count") Long count);
@@ -26,15 +29,4 @@ public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
     @Query("UPDATE PostStats ps SET ps.commentCount = ps.commentCount - 1 " +
             "WHERE ps.postId = :postId AND ps.commentCount > 0")
     int decrementCommentCount(@Param("postId") Long postId);
-
-    // 좋아요 수 증가
-    @Modifying
-    @Query("UPDATE PostStats ps SET ps.likeCount = ps.likeCount + 1 WHERE ps.postId = :postId")
-    int incrementLikeCount(@Param("postId") Long postId);
-
-    // 좋아요 수 감소
-    @Modifying
-    @Query("UPDATE PostStats ps SET ps.likeCount = ps.likeCount - 1 " +
-            "WHERE ps.postId = :postId AND ps.likeCount > 0")
-    int decrementLikeCount(@Param("postId") Long postId);
 }
@@ -0,0 +1,40 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.global.util.HyperLogLog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostStats 커스텀 Repository
+ * - 스케줄러의 대량 반영용 쿼리
+ */
+public interface PostStatsRepositoryCustom {
+
+    /**
+     * 여러 게시글의 조회수를 한 번의 UPDATE로 증가
+     * @param deltas postId → 증가분
+     * @return 매칭된 행 수 (존재하지 않는 게시글은 제외됨)
+     */
+    int bulkIncrementViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * 여러 게시글의 좋아요 수를 한 번의 UPDATE로 증감 (0 미만으로 내려가지 않음)
+     * @param deltas postId → 증감분 (좋아요 - 취소)
+     * @return 매칭된 행 수 (존재하지 않는 게시글은 제외됨)
+     */
+    int bulkAddLikeCounts(Map<Long, Long> deltas);
+
+    // 주어진 postId 중 post_stats에 존재하는 것만 조회
+    List<Long> findExistingPostIds(Collection<Long> postIds);
+
+    /**
+     * 고유 방문자 스케치 잠금 조회 (SELECT ... FOR UPDATE, 트랜잭션 안에서 호출)
+     * @return postId → 저장된 스케치 (아직 없으면 null 값), 존재하지 않는 게시글은 제외
+     */
+    Map<Long, byte[]> lockUniqueViewerSketches(Collection<Long> postIds);
+
+    // 병합된 스케치와 추정치 저장 (JDBC batch)
+    void updateUniqueViewerSketches(Map<Long, HyperLogLog> sketches);
+}
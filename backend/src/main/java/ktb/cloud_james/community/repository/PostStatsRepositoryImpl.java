@@ -0,0 +1,135 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.global.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostStats 커스텀 Repository 구현체
+ * - JPQL/QueryDSL로는 행마다 다른 증가분을 한 문장에 담기 어려워 JdbcTemplate 사용
+ * - 호출하는 쪽의 트랜잭션에 참여 (청크 단위 커밋은 서비스에서 관리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostStatsRepositoryImpl implements PostStatsRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다중 행 조회수 증가 (1 round trip)
+     *
+     * 생성 SQL 예시 (청크 3건):
+     * UPDATE post_stats
+     *    SET view_count = view_count + CASE post_id WHEN ? THEN ? WHEN ? THEN ? WHEN ? THEN ? ELSE 0 END
+     *  WHERE post_id IN (?, ?, ?)
+     */
+    @Override
+    public int bulkIncrementViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE post_stats SET view_count = view_count + CASE post_id");
+        List<Object> params = new ArrayList<>(deltas.size() * 3);
+
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            sql.append(" WHEN ? THEN ?");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+
+        sql.append(" ELSE 0 END WHERE post_id IN (")
+                .append(placeholders(deltas.size()))
+                .append(")");
+        params.addAll(deltas.keySet());
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * 다중 행 좋아요 수 증감 (1 round trip)
+     * - like_count는 UNSIGNED → 부호 있는 정수로 계산 후 0 미만은 0으로 (취소가 먼저 반영되는 경우 등)
+     *
+     * 생성 SQL 예시 (청크 2건):
+     * UPDATE post_stats
+     *    SET like_count = GREATEST(CAST(like_count AS SIGNED) + CASE post_id WHEN ? THEN ? WHEN ? THEN ? ELSE 0 END, 0)
+     *  WHERE post_id IN (?, ?)
+     */
+    @Override
+    public int bulkAddLikeCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "UPDATE post_stats SET like_count = GREATEST(CAST(like_count AS SIGNED) + CASE post_id");
+        List<Object> params = new ArrayList<>(deltas.size() * 3);
+
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            sql.append(" WHEN ? THEN ?");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+
+        sql.append(" ELSE 0 END, 0) WHERE post_id IN (")
+                .append(placeholders(deltas.size()))
+                .append(")");
+        params.addAll(deltas.keySet());
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    @Override
+    public List<Long> findExistingPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String sql = "SELECT post_id FROM post_stats WHERE post_id IN (" + placeholders(postIds.size()) + ")";
+        return jdbcTemplate.queryForList(sql, Long.class, postIds.toArray());
+    }
+
+    @Override
+    public Map<Long, byte[]> lockUniqueViewerSketches(Collection<Long> postIds) {
+        Map<Long, byte[]> sketches = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return sketches;
+        }
+
+        String sql = "SELECT post_id, unique_viewer_sketch FROM post_stats WHERE post_id IN (" +
+                placeholders(postIds.size()) + ") FOR UPDATE";
+        jdbcTemplate.query(sql,
+                (RowCallbackHandler) rs -> sketches.put(rs.getLong("post_id"), rs.getBytes("unique_viewer_sketch")),
+                postIds.toArray());
+
+        return sketches;
+    }
+
+    @Override
+    public void updateUniqueViewerSketches(Map<Long, HyperLogLog> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> params = new ArrayList<>(sketches.size());
+        sketches.forEach((postId, sketch) -> params.add(new Object[]{sketch.toBytes(), sketch.estimate(), postId}));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE post_stats SET unique_viewer_sketch = ?, unique_viewer_count = ? WHERE post_id = ?",
+                params);
+    }
+
+    // "?, ?, ?" 형태의 플레이스홀더
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
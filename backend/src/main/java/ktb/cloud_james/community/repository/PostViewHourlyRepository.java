@@ -0,0 +1,16 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.entity.PostViewHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostViewHourlyRepository extends JpaRepository<PostViewHourly, PostViewHourly.PostViewHourlyId>,
+        PostViewHourlyRepositoryCustom {
+
+    // 게시글의 구간 조회 (PK 범위 스캔)
+    List<PostViewHourly> findByPostIdAndBucketHourGreaterThanEqualOrderByBucketHourAsc(Long postId, LocalDateTime from);
+}
@@ -0,0 +1,27 @@
+package ktb.cloud_james.community.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * PostViewHourly 커스텀 Repository
+ * - 스케줄러의 시간대별 조회수 대량 반영용
+ */
+public interface PostViewHourlyRepositoryCustom {
+
+    /**
+     * 한 시간 구간의 게시글별 조회수를 다중 행 UPSERT 1회로 누적
+     * @param bucketHour 구간 시작 시각
+     * @param deltas postId → 증가분
+     * @return 영향받은 행 수 (MySQL 기준 INSERT 1, UPDATE 2)
+     */
+    int upsertHourlyViews(LocalDateTime bucketHour, Map<Long, Long> deltas);
+
+    /**
+     * 보관 기간이 지난 구간 삭제 (한 번에 limit건까지)
+     * @param before 이 시각 이전 구간 삭제 (bucket_hour < before)
+     * @param limit 최대 삭제 행 수
+     * @return 삭제된 행 수
+     */
+    int deleteOlderThan(LocalDateTime before, int limit);
+}
@@ -0,0 +1,64 @@
+package ktb.cloud_james.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostViewHourly 커스텀 Repository 구현체
+ * - 호출하는 쪽의 트랜잭션에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewHourlyRepositoryImpl implements PostViewHourlyRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 생성 SQL 예시 (청크 2건):
+     * INSERT INTO post_view_hourly (post_id, bucket_hour, view_count)
+     * VALUES (?, ?, ?), (?, ?, ?) AS new
+     * ON DUPLICATE KEY UPDATE view_count = view_count + new.view_count
+     *
+     * - 행 별칭(AS new)으로 새 값 참조 (VALUES() 함수는 MySQL 8.0.20부터 deprecated)
+     * - 삭제된 게시글도 그대로 기록 (조회 API에서 게시글 존재 여부로 걸러냄)
+     */
+    @Override
+    public int upsertHourlyViews(LocalDateTime bucketHour, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO post_view_hourly (post_id, bucket_hour, view_count) VALUES ");
+        List<Object> params = new ArrayList<>(deltas.size() * 3);
+
+        boolean first = true;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            sql.append(first ? "" : ", ").append("(?, ?, ?)");
+            params.add(entry.getKey());
+            params.add(bucketHour);
+            params.add(entry.getValue());
+            first = false;
+        }
+
+        sql.append(" AS new ON DUPLICATE KEY UPDATE view_count = view_count + new.view_count");
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * bucket_hour 인덱스 범위 스캔으로 오래된 구간부터 limit건만 삭제
+     * - 한 번에 지우는 행 수를 제한해 잠금 보유 시간/언두 로그 크기를 작게 유지
+     */
+    @Override
+    public int deleteOlderThan(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM post_view_hourly WHERE bucket_hour < ? ORDER BY bucket_hour LIMIT ?",
+                before, limit);
+    }
+}
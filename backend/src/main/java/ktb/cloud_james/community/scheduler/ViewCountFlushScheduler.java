@@ -0,0 +1,198 @@
+package ktb.cloud_james.community.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import ktb.cloud_james.community.service.ViewCountCacheService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회수 DB 동기화 스케줄러 (적응형)
+ *
+ * 설정 (scheduler.view-count-sync.*):
+ * - enabled: false면 주기 동기화 중단 (종료 훅의 강제 동기화는 그대로 수행)
+ * - fixed-delay: 기본 동기화 주기
+ * - check-interval: 동기화 여부 판단 주기 (판단 자체는 카운터 조회뿐이라 비용 거의 없음)
+ *
+ * 동기화 조건:
+ * 1. 주기 도래: 마지막 동기화 후 현재 주기(기본 fixed-delay)가 지남
+ * 2. 조기 동기화: 대기 게시글 수 >= max-pending-keys 또는 대기 조회수 >= max-pending-delta
+ *  - 바쁜 시간대에 캐시가 한없이 커지지 않도록 (단, 직전 동기화 후 min-interval은 대기)
+ *  - 조용한 시간대에는 주기가 와도 대기 중인 조회수가 없으면 DB 쓰기 없음
+ *
+ * 백오프:
+ * - 동기화가 slow-flush 보다 오래 걸리면 주기를 2배로 (최대 max-backoff), 정상이면 fixed-delay로 복귀
+ * - 실패한 청크가 있으면 연속 실패 횟수만큼 주기를 늘리고, 그동안은 조기 동기화도 보류
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountCacheService viewCountCacheService;
+
+    @Value("${scheduler.view-count-sync.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scheduler.view-count-sync.fixed-delay:30000}")
+    private long fixedDelay;
+
+    @Value("${scheduler.view-count-sync.max-pending-keys:10000}")
+    private int maxPendingKeys;
+
+    @Value("${scheduler.view-count-sync.max-pending-delta:100000}")
+    private long maxPendingDelta;
+
+    @Value("${scheduler.view-count-sync.min-interval:1000}")
+    private long minInterval;
+
+    @Value("${scheduler.view-count-sync.slow-flush:2000}")
+    private long slowFlushMillis;
+
+    @Value("${scheduler.view-count-sync.max-backoff:300000}")
+    private long maxBackoff;
+
+    private volatile long currentDelay;
+    private volatile long lastFlushAt;
+    private volatile long blockedUntil;         // 실패 백오프 종료 시각
+    private volatile int consecutiveFailures;
+
+    // 동기화 지연 시간 통계
+    private volatile long lastFlushMillis;
+    private final AtomicLong maxFlushMillis = new AtomicLong();
+    private final AtomicLong totalFlushMillis = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong earlyFlushCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        currentDelay = fixedDelay;
+        lastFlushAt = System.currentTimeMillis();
+
+        log.info("조회수 동기화 스케줄러 - enabled: {}, 주기: {}ms, 조기 동기화 임계치: 게시글 {}건 / 조회수 {}",
+                enabled, fixedDelay, maxPendingKeys, maxPendingDelta);
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.view-count-sync.check-interval:1000}")
+    public void checkAndFlush() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now < blockedUntil) {
+            return; // 실패 백오프 중
+        }
+
+        long elapsed = now - lastFlushAt;
+        if (elapsed >= currentDelay) {
+            flush(false);
+            return;
+        }
+
+        long pendingDelta = viewCountCacheService.getPendingDelta();
+        boolean overThreshold = pendingDelta >= maxPendingDelta
+                || (pendingDelta > 0 && viewCountCacheService.getPendingKeyCount() >= maxPendingKeys);
+
+        if (overThreshold && elapsed >= minInterval) {
+            flush(true);
+        }
+    }
+
+    /**
+     * 동기화 실행 + 결과에 따라 다음 주기 조정
+     */
+    private void flush(boolean early) {
+        int pendingKeys = viewCountCacheService.getPendingKeyCount();
+        long pendingDelta = viewCountCacheService.getPendingDelta();
+
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            success = viewCountCacheService.syncViewCountsToDB();
+        } catch (Exception e) {
+            log.error("조회수 동기화 예외", e);
+            success = false;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        recordLatency(elapsedMillis);
+        if (early) {
+            earlyFlushCount.incrementAndGet();
+        }
+        lastFlushAt = System.currentTimeMillis();
+
+        if (!success) {
+            consecutiveFailures++;
+            currentDelay = Math.min(fixedDelay << Math.min(consecutiveFailures, 10), maxBackoff);
+            blockedUntil = lastFlushAt + currentDelay;
+            log.warn("조회수 동기화 실패 - 연속 {}회, 다음 시도까지 {}ms", consecutiveFailures, currentDelay);
+        } else if (elapsedMillis > slowFlushMillis) {
+            consecutiveFailures = 0;
+            currentDelay = Math.min(currentDelay * 2, maxBackoff);
+            log.warn("조회수 동기화 지연 - {}ms (기준 {}ms), 주기 {}ms로 늘림", elapsedMillis, slowFlushMillis, currentDelay);
+        } else {
+            consecutiveFailures = 0;
+            currentDelay = fixedDelay;
+        }
+
+        if (pendingDelta > 0) {
+            log.info("조회수 동기화 - {}, 대기 게시글: {}건, 대기 조회수: {}, 소요: {}ms, 다음 주기: {}ms",
+                    early ? "조기" : "주기", pendingKeys, pendingDelta, elapsedMillis, currentDelay);
+        }
+    }
+
+    private void recordLatency(long elapsedMillis) {
+        lastFlushMillis = elapsedMillis;
+        maxFlushMillis.accumulateAndGet(elapsedMillis, Math::max);
+        totalFlushMillis.addAndGet(elapsedMillis);
+        flushCount.incrementAndGet();
+    }
+
+    /**
+     * 대기열 크기 + 동기화 지연 시간 조회
+     */
+    public FlushStats getFlushStats() {
+        long count = flushCount.get();
+        return new FlushStats(
+                viewCountCacheService.getPendingKeyCount(),
+                viewCountCacheService.getPendingDelta(),
+                count,
+                earlyFlushCount.get(),
+                lastFlushMillis,
+                count > 0 ? totalFlushMillis.get() / count : 0L,
+                maxFlushMillis.get(),
+                currentDelay,
+                consecutiveFailures
+        );
+    }
+
+    /**
+     * 동기화 스케줄러 상태 스냅샷
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FlushStats {
+        private int pendingKeys;          // 대기 게시글 수
+        private long pendingDelta;        // 대기 조회수 합계
+        private long flushes;             // 동기화 횟수
+        private long earlyFlushes;        // 그중 임계치 초과로 인한 조기 동기화
+        private long lastFlushMillis;     // 마지막 동기화 소요 시간
+        private long avgFlushMillis;      // 평균 소요 시간
+        private long maxFlushMillis;      // 최대 소요 시간
+        private long currentDelay;        // 현재 주기 (백오프 반영)
+        private int consecutiveFailures;  // 연속 실패 횟수
+
+        @Override
+        public String toString() {
+            return String.format("pendingKeys=%d, pendingDelta=%d, flushes=%d(early=%d), latency(last/avg/max)=%d/%d/%dms, delay=%dms, failures=%d",
+                    pendingKeys, pendingDelta, flushes, earlyFlushes, lastFlushMillis, avgFlushMillis, maxFlushMillis, currentDelay, consecutiveFailures);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package ktb.cloud_james.community.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.global.metrics.ContentReadMetrics;
+import ktb.cloud_james.community.global.util.ContentCodec;
+import ktb.cloud_james.community.repository.ExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 관리자 데이터 내보내기 (NDJSON: 한 줄에 JSON 객체 하나)
+ *
+ * 배경:
+ * - 운영/분석용 전체 덤프를 GET /api/posts로 50건씩 넘기면 느리고 서비스 캐시/DB에 부하
+ *
+ * 전략:
+ * 1. JDBC 커서로 한 행씩 읽어 바로 JSON 한 줄로 응답 스트림에 씀 (ExportRepository)
+ *  - 엔티티/DTO/리스트를 만들지 않음 → 행 수와 무관하게 메모리 일정 (현재 행 + 출력 버퍼)
+ * 2. 일정 행마다 flush → 클라이언트는 받는 즉시 처리 가능
+ * 3. 클라이언트가 끊으면 쓰기 실패 → 조회 중단 (결과 스트림/커넥션 반납)
+ *
+ * 권한:
+ * - 역할(Role) 구분이 없으므로 설정의 관리자 회원 ID 목록(admin.user-ids)으로 확인
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int FLUSH_INTERVAL = 1000; // 행
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final ContentReadMetrics contentReadMetrics;
+
+    @Value("${admin.user-ids:}")
+    private List<Long> adminUserIds;
+
+    // 관리자 확인 (스트리밍 시작 전에 호출 → 권한 없으면 일반 에러 응답)
+    public void checkAdmin(Long userId) {
+        if (userId == null || !adminUserIds.contains(userId)) {
+            log.warn("데이터 내보내기 거부 - 관리자 아님: userId={}", userId);
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    /**
+     * 게시글 + 통계 내보내기
+     * @return 내보낸 행 수
+     */
+    public long exportPosts(OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+
+        long count = write(out, generator -> exportRepository.streamPosts(rs -> writeRow(generator, rs, (g, r) -> {
+            g.writeNumberField("postId", r.getLong("post_id"));
+            g.writeNumberField("userId", r.getLong("user_id"));
+            g.writeStringField("title", r.getString("title"));
+            g.writeStringField("content", decodeContent(r));
+            writeDateTime(g, "createdAt", r.getTimestamp("created_at"));
+            writeDateTime(g, "updatedAt", r.getTimestamp("updated_at"));
+            writeDateTime(g, "deletedAt", r.getTimestamp("deleted_at"));
+            g.writeNumberField("viewCount", r.getLong("view_count"));
+            g.writeNumberField("likeCount", r.getLong("like_count"));
+            g.writeNumberField("commentCount", r.getLong("comment_count"));
+        })));
+
+        log.info("게시글 내보내기 완료 - {}건, 소요: {}ms", count, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    /**
+     * 댓글 내보내기
+     * @return 내보낸 행 수
+     */
+    public long exportComments(OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+
+        long count = write(out, generator -> exportRepository.streamComments(rs -> writeRow(generator, rs, (g, r) -> {
+            g.writeNumberField("commentId", r.getLong("comment_id"));
+            g.writeNumberField("postId", r.getLong("post_id"));
+            g.writeNumberField("userId", r.getLong("user_id"));
+            g.writeStringField("content", r.getString("content"));
+            writeDateTime(g, "createdAt", r.getTimestamp("created_at"));
+            writeDateTime(g, "updatedAt", r.getTimestamp("updated_at"));
+            writeDateTime(g, "deletedAt", r.getTimestamp("deleted_at"));
+        })));
+
+        log.info("댓글 내보내기 완료 - {}건, 소요: {}ms", count, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    private long write(OutputStream out, Exporter exporter) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+            generator.setRootValueSeparator(null);                      // 줄바꿈은 행마다 직접 씀
+            CountingGenerator counting = new CountingGenerator(generator);
+            try {
+                exporter.export(counting);
+            } catch (UncheckedIOException e) {
+                log.warn("데이터 내보내기 중단 - 클라이언트 연결 종료 추정: {}행 전송 후", counting.rows);
+                throw e.getCause();
+            }
+            generator.flush();
+            return counting.rows;
+        }
+    }
+
+    // 한 행 = JSON 객체 한 줄
+    private static void writeRow(CountingGenerator counting, ResultSet rs, RowWriter rowWriter) throws SQLException {
+        JsonGenerator generator = counting.generator;
+        try {
+            generator.writeStartObject();
+            rowWriter.write(generator, rs);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++counting.rows % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // RowCallbackHandler는 SQLException만 던질 수 있음
+        }
+    }
+
+    // 게시글 본문 디코딩 (post_contents, 압축 저장된 본문은 여기서 해제)
+    private String decodeContent(ResultSet rs) throws SQLException {
+        byte[] body = rs.getBytes("body");
+        if (body == null) {
+            return "";
+        }
+        contentReadMetrics.record(body.length, rs.getLong("raw_length"));
+        return ContentCodec.decode(rs.getInt("encoding"), body);
+    }
+
+    private static void writeDateTime(JsonGenerator generator, String field, Timestamp value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value.toLocalDateTime().format(DATE_TIME_FORMAT));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        void export(CountingGenerator generator);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(JsonGenerator generator, ResultSet rs) throws SQLException, IOException;
+    }
+
+    private static class CountingGenerator {
+        private final JsonGenerator generator;
+        private long rows;
+
+        private CountingGenerator(JsonGenerator generator) {
+            this.generator = generator;
+        }
+    }
+}
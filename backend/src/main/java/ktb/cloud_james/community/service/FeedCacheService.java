@@ -0,0 +1,312 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostListResponseDto;
+import ktb.cloud_james.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신 피드 앞부분(head) 캐시
+ *
+ * 배경:
+ * - 게시글 목록 요청 대부분은 lastSeenId 없는 첫 페이지 (posts + users + post_stats JOIN)
+ *
+ * 전략:
+ * 1. 최신 게시글 N건(기본 200)의 요약을 메모리에 보관 (id 내림차순, 탈퇴 회원 마스킹까지 끝낸 상태)
+ * 2. 요청 구간(lastSeenId 이후 limit + 1건)이 캐시 안에 모두 있으면 DB 조회 없이 응답
+ *  - 캐시가 전체 게시글을 담고 있으면(게시글 수 < N) 어떤 커서든 캐시로 응답
+ * 3. 쓰기 반영 (커밋 후 즉시): 작성 → ID 순서 위치에 추가, 삭제 → 제거, 수정 → 해당 항목만 다시 조회
+ * 4. 짧은 주기(기본 5초)로 캐시 구간 전체를 다시 조회 → 좋아요/댓글/조회수, 작성자 닉네임 변경 반영
+ *
+ * 동시성:
+ * - 불변 스냅샷(Copy-On-Write) + volatile 교체 → 읽기는 락 없음
+ * - 쓰기마다 버전 증가, 주기 갱신은 조회 시작 시점 버전과 다르면 결과를 버림 (방금 반영된 작성/삭제를 덮어쓰지 않도록)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FeedCacheService {
+
+    private final PostRepository postRepository;
+
+    @Value("${feed.head.enabled:true}")
+    private boolean enabled;
+
+    @Value("${feed.head.size:200}")
+    private int capacity;
+
+    private volatile Snapshot snapshot; // null이면 아직 적재 전 (또는 무효화됨)
+
+    // 캐시 내용이 바뀔 때마다 증가 (작성/삭제/수정/주기 갱신)
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 캐시에서 한 페이지 조회
+     * @return limit + 1건 이하의 요약 목록 (hasNext 판별용, findPostsWithCursor와 같은 형태), 캐시로 응답 불가하면 null
+     */
+    public List<PostListResponseDto.PostSummaryDto> findPage(Long lastSeenId, int limit) {
+        if (!enabled) {
+            return null;
+        }
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = ensureLoaded();
+        }
+
+        List<PostListResponseDto.PostSummaryDto> entries = current.entries;
+        int from = lastSeenId == null ? 0 : firstIndexBelow(entries, lastSeenId);
+        int to = from + limit + 1;
+
+        if (to > entries.size() && !current.complete) {
+            return null; // 캐시 범위를 벗어남 → DB 조회
+        }
+
+        return entries.subList(from, Math.min(to, entries.size()));
+    }
+
+    /**
+     * 캐시에서 기준 게시글보다 새 게시글 조회 (위쪽으로 불러오기)
+     * - 캐시는 최신 N건이므로 기준 게시글이 캐시 범위 안이면 그보다 새 게시글은 모두 캐시에 있음
+     * @return 기준에 가까운 순(ID 오름차순) limit + 1건 이하 (findPostsAfterCursor와 같은 형태), 캐시로 응답 불가하면 null
+     */
+    public List<PostListResponseDto.PostSummaryDto> findPageAfter(long afterId, int limit) {
+        if (!enabled) {
+            return null;
+        }
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = ensureLoaded();
+        }
+
+        List<PostListResponseDto.PostSummaryDto> entries = current.entries;
+        int end = firstIndexBelow(entries, afterId + 1); // [0, end): afterId보다 새 게시글
+
+        if (end == entries.size() && !current.complete) {
+            return null; // 기준 게시글이 캐시보다 오래됨 → 사이 게시글이 캐시에 없을 수 있음
+        }
+
+        List<PostListResponseDto.PostSummaryDto> page =
+                new ArrayList<>(entries.subList(Math.max(0, end - limit - 1), end));
+        Collections.reverse(page);
+        return page;
+    }
+
+    /**
+     * ID 목록 중 캐시에 있는 게시글만 조회 (적재 전이면 빈 결과, DB 적재를 유발하지 않음)
+     * @return postId → 요약
+     */
+    public Map<Long, PostListResponseDto.PostSummaryDto> findByIds(Collection<Long> postIds) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, PostListResponseDto.PostSummaryDto> found = new HashMap<>();
+        for (Long postId : postIds) {
+            int index = indexOf(current.entries, postId);
+            if (index >= 0) {
+                found.put(postId, current.entries.get(index));
+            }
+        }
+        return found;
+    }
+
+    // 현재 캐시 버전 (응답 캐시 검증 등에 활용)
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 새 게시글 추가 (커밋 후 호출)
+     * - 맨 앞이 아니라 ID 순서 위치에 삽입 → 작성 커밋이 ID 역순으로 끝나도 (102 커밋 후 101) 내림차순 유지
+     * - 이미 있으면 무시 (커밋과 afterCommit 사이에 끝난 재적재가 이미 담은 경우)
+     * - 캐시 구간(최신 N건) 아래쪽 게시글은 넣지 않음 (구간 사이 누락 방지, 전체 게시글을 담은 경우만 예외)
+     */
+    public synchronized void add(PostListResponseDto.PostSummaryDto summary) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 다음 조회 시 DB에서 적재
+        }
+
+        int index = firstIndexBelow(current.entries, summary.getPostId());
+        if (index > 0 && current.entries.get(index - 1).getPostId().equals(summary.getPostId())) {
+            return; // 이미 캐시에 있음
+        }
+        if (index == current.entries.size() && !current.complete) {
+            return; // 캐시 구간보다 오래된 게시글
+        }
+
+        List<PostListResponseDto.PostSummaryDto> entries = new ArrayList<>(current.entries.size() + 1);
+        entries.addAll(current.entries);
+        entries.add(index, summary);
+
+        boolean complete = current.complete;
+        if (entries.size() > capacity) {
+            entries = entries.subList(0, capacity);
+            complete = false;
+        }
+
+        publish(entries, complete);
+    }
+
+    /**
+     * 게시글 제거 (삭제 커밋 후 호출)
+     */
+    public synchronized void remove(Long postId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        List<PostListResponseDto.PostSummaryDto> entries = new ArrayList<>(current.entries);
+        if (entries.removeIf(summary -> summary.getPostId().equals(postId))) {
+            publish(entries, current.complete);
+        }
+    }
+
+    /**
+     * 게시글 한 건 다시 조회하여 교체 (수정 커밋 후 호출)
+     * - 조회 실패 시 캐시 전체 무효화 (오래된 제목이 남지 않도록)
+     */
+    public void refreshEntry(Long postId) {
+        Snapshot current = snapshot;
+        if (current == null || indexOf(current.entries, postId) < 0) {
+            return; // 캐시 범위 밖
+        }
+
+        List<PostListResponseDto.PostSummaryDto> found;
+        try {
+            found = postRepository.findPostSummariesByIds(List.of(postId));
+        } catch (RuntimeException e) {
+            log.warn("피드 캐시 항목 갱신 실패 - 캐시 무효화: postId={}", postId, e);
+            invalidate();
+            return;
+        }
+        found.forEach(PostListResponseDto.PostSummaryDto::maskDeletedUser);
+
+        synchronized (this) {
+            current = snapshot;
+            if (current == null) {
+                return;
+            }
+
+            List<PostListResponseDto.PostSummaryDto> entries = new ArrayList<>(current.entries);
+            int index = indexOf(entries, postId);
+            if (index < 0) {
+                return;
+            }
+
+            if (found.isEmpty()) {
+                entries.remove(index);
+            } else {
+                entries.set(index, found.get(0));
+            }
+            publish(entries, current.complete);
+        }
+    }
+
+    // 캐시 무효화 (다음 조회 시 DB에서 다시 적재)
+    public synchronized void invalidate() {
+        snapshot = null;
+        version.incrementAndGet();
+    }
+
+    /**
+     * 캐시 구간 전체 재조회 (통계/작성자 정보 갱신)
+     * - 적재 전이면 아무것도 안 함 (첫 요청 시 적재)
+     */
+    @Scheduled(fixedDelayString = "${feed.head.refresh-interval:5000}")
+    public void refreshStats() {
+        if (!enabled || snapshot == null) {
+            return;
+        }
+        reload();
+    }
+
+    // 첫 적재 (동시에 들어온 요청들이 각자 적재하지 않도록 잠금 안에서 한 번만)
+    private synchronized Snapshot ensureLoaded() {
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /**
+     * DB에서 최신 N건 적재
+     * - 조회 중 작성/삭제가 반영되었으면 (버전 변경) 결과를 버리고 현재 스냅샷 유지
+     * - 내용이 이전과 같으면 교체하지 않음 (버전 유지 → 목록 ETag 유지)
+     */
+    private Snapshot reload() {
+        long startVersion = version.get();
+
+        List<PostListResponseDto.PostSummaryDto> loaded = postRepository.findPostsWithCursor(null, capacity);
+        loaded.forEach(PostListResponseDto.PostSummaryDto::maskDeletedUser);
+
+        boolean complete = loaded.size() <= capacity; // limit + 1건 조회 → capacity 이하면 전체 게시글
+        List<PostListResponseDto.PostSummaryDto> entries = complete ? loaded : loaded.subList(0, capacity);
+
+        synchronized (this) {
+            if (version.get() != startVersion && snapshot != null) {
+                log.debug("피드 캐시 갱신 건너뜀 - 조회 중 변경 발생");
+                return snapshot;
+            }
+            if (snapshot != null && snapshot.complete == complete && snapshot.entries.equals(entries)) {
+                return snapshot; // 변경 없음
+            }
+            return publish(new ArrayList<>(entries), complete);
+        }
+    }
+
+    // 동기화 블록 안에서만 호출
+    private Snapshot publish(List<PostListResponseDto.PostSummaryDto> entries, boolean complete) {
+        Snapshot next = new Snapshot(Collections.unmodifiableList(entries), complete);
+        snapshot = next;
+        version.incrementAndGet();
+        return next;
+    }
+
+    // id 내림차순 목록에서 id < postId인 첫 위치 (이진 탐색)
+    private static int firstIndexBelow(List<PostListResponseDto.PostSummaryDto> entries, long postId) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid).getPostId() >= postId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // id가 postId인 위치 (없으면 -1)
+    private static int indexOf(List<PostListResponseDto.PostSummaryDto> entries, long postId) {
+        int index = firstIndexBelow(entries, postId + 1);
+        return index < entries.size() && entries.get(index).getPostId() == postId ? index : -1;
+    }
+
+    /**
+     * 캐시 스냅샷 (불변)
+     * - complete: 캐시가 전체 게시글을 담고 있는지 (게시글 수 < N)
+     */
+    private static class Snapshot {
+        private final List<PostListResponseDto.PostSummaryDto> entries;
+        private final boolean complete;
+
+        private Snapshot(List<PostListResponseDto.PostSummaryDto> entries, boolean complete) {
+            this.entries = entries;
+            this.complete = complete;
+        }
+    }
+}
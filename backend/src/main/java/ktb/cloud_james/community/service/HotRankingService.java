@@ -0,0 +1,211 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostRankingSourceDto;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.repository.PostRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기순(hot) 게시글 랭킹 서비스
+ *
+ * 배경:
+ * - 인기 점수는 좋아요/댓글/조회수와 작성 후 경과 시간으로 계산되는 값
+ * - 요청마다 MySQL에서 계산식으로 ORDER BY 하면 인덱스를 못 타고 post_stats 전체를 정렬
+ *
+ * 전략:
+ * 1. 백그라운드 작업이 주기적으로(기본 1분) 최근 게시글 통계를 읽어 점수 계산 → 정렬된 ID 배열(스냅샷) 생성
+ *  - 최근 게시글 = 게시글 시각 색인으로 window-hours 전 시각을 ID 하한으로 바꿔 PK 범위 스캔
+ *    (색인 적재 전에는 하한 없이 최신순으로 candidate-limit까지)
+ *  - 점수 = (좋아요 × w1 + 댓글 × w2 + 조회수 × w3) / (경과 시간 + 2)^gravity  (시간이 지날수록 감쇠)
+ *  - 조회수는 DB 값 + 아직 동기화되지 않은 캐시 증가분
+ * 2. 요청은 스냅샷의 구간만 잘라 PK IN 조회 (페이지 크기만큼)
+ * 3. 커서 = base64("버전:오프셋") 불투명 문자열
+ *  - 최근 스냅샷 몇 개를 버전별로 보관 → 페이지를 넘기는 도중 랭킹이 갱신되어도 같은 순서로 이어서 조회 (중복/누락 없음)
+ *  - 보관 기간이 지난 버전의 커서는 최신 스냅샷의 같은 위치부터 이어서 조회
+ *
+ * 한계:
+ * - 랭킹은 최대 refresh-interval만큼 늦게 반영됨 (인기순은 실시간성이 중요하지 않아 허용)
+ * - 서버마다 스냅샷을 따로 계산 (같은 DB를 읽으므로 결과는 거의 같음, 커서 버전은 서버별)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HotRankingService {
+
+    private static final int RETAINED_SNAPSHOTS = 5;
+
+    private final PostRepository postRepository;
+    private final ViewCountCacheService viewCountCacheService;
+    private final LikeCountCacheService likeCountCacheService;
+    private final PostTimeIndexService postTimeIndexService;
+
+    @Value("${feed.hot.window-hours:168}")
+    private long windowHours;
+
+    @Value("${feed.hot.max-size:1000}")
+    private int maxSize;
+
+    @Value("${feed.hot.candidate-limit:10000}")
+    private int candidateLimit;
+
+    @Value("${feed.hot.like-weight:4.0}")
+    private double likeWeight;
+
+    @Value("${feed.hot.comment-weight:2.0}")
+    private double commentWeight;
+
+    @Value("${feed.hot.view-weight:0.1}")
+    private double viewWeight;
+
+    @Value("${feed.hot.gravity:1.5}")
+    private double gravity;
+
+    private volatile Snapshot current;
+
+    // 최근 스냅샷 (버전 → 스냅샷), 갱신 스레드만 수정하고 요청 스레드는 읽기만 함
+    private final Map<Long, Snapshot> retained = new LinkedHashMap<>();
+
+    /**
+     * 랭킹 갱신 (기본 1분마다, 시작 직후 1회)
+     */
+    @Scheduled(fixedDelayString = "${feed.hot.refresh-interval:60000}")
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime since = now.minusHours(windowHours);
+        List<PostRankingSourceDto> sources = postRepository.findRankingSources(
+                since, postTimeIndexService.resolveLowerBound(since), candidateLimit);
+
+        long[] postIds = sources.stream()
+                .map(source -> new Scored(source.getPostId(), score(source, now)))
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                        .thenComparing(Comparator.comparingLong(Scored::postId).reversed()))
+                .limit(maxSize)
+                .mapToLong(Scored::postId)
+                .toArray();
+
+        long version = current == null ? 1 : current.version + 1;
+        Snapshot snapshot = new Snapshot(version, postIds);
+
+        synchronized (retained) {
+            retained.put(version, snapshot);
+            retained.keySet().removeIf(v -> v <= version - RETAINED_SNAPSHOTS);
+        }
+        current = snapshot;
+
+        log.debug("인기 랭킹 갱신 - 버전: {}, 후보: {}건, 랭킹: {}건, 소요: {}ms",
+                version, sources.size(), postIds.length, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 랭킹 한 페이지
+     * @param cursor 이전 응답의 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    public Page getPage(String cursor, int size) {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            refresh(); // 첫 갱신 전 요청
+            snapshot = current;
+        }
+
+        int offset = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            long[] decoded = decodeCursor(cursor);
+            synchronized (retained) {
+                snapshot = retained.getOrDefault(decoded[0], snapshot);
+            }
+            offset = (int) Math.min(decoded[1], snapshot.postIds.length);
+        }
+
+        int end = Math.min(offset + size, snapshot.postIds.length);
+        List<Long> postIds = Arrays.stream(snapshot.postIds, offset, end).boxed().toList();
+        boolean hasNext = end < snapshot.postIds.length;
+
+        return new Page(postIds, hasNext ? encodeCursor(snapshot.version, end) : null, hasNext);
+    }
+
+    private double score(PostRankingSourceDto source, LocalDateTime now) {
+        long views = source.getViewCount() + viewCountCacheService.getCachedViewCount(source.getPostId());
+        long likes = source.getLikeCount() + likeCountCacheService.getPendingLikeCount(source.getPostId());
+        double points = likes * likeWeight
+                + source.getCommentCount() * commentWeight
+                + views * viewWeight;
+
+        double ageHours = Math.max(0, Duration.between(source.getCreatedAt(), now).toMinutes() / 60.0);
+        return points / Math.pow(ageHours + 2, gravity);
+    }
+
+    private static String encodeCursor(long version, int offset) {
+        String raw = version + ":" + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // [버전, 오프셋]
+    private static long[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int colon = raw.indexOf(':');
+            long version = Long.parseLong(raw.substring(0, colon));
+            long offset = Long.parseLong(raw.substring(colon + 1));
+            if (offset < 0) {
+                throw new IllegalArgumentException("negative offset");
+            }
+            return new long[]{version, offset};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("잘못된 인기순 커서: {}", cursor);
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private record Scored(long postId, double score) {
+    }
+
+    /**
+     * 정렬된 게시글 ID 스냅샷 (불변)
+     */
+    private static class Snapshot {
+        private final long version;
+        private final long[] postIds;
+
+        private Snapshot(long version, long[] postIds) {
+            this.version = version;
+            this.postIds = postIds;
+        }
+    }
+
+    /**
+     * 랭킹 페이지 (게시글 ID는 랭킹 순서)
+     */
+    @Getter
+    public static class Page {
+        private final List<Long> postIds;
+        private final String nextCursor;
+        private final boolean hasNext;
+
+        private Page(List<Long> postIds, String nextCursor, boolean hasNext) {
+            this.postIds = postIds;
+            this.nextCursor = nextCursor;
+            this.hasNext = hasNext;
+        }
+    }
+}
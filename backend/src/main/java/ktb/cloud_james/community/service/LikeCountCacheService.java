@@ -0,0 +1,212 @@
+package ktb.cloud_james.community.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ktb.cloud_james.community.global.util.CounterJournal;
+import ktb.cloud_james.community.global.util.LongCounterMap;
+import ktb.cloud_james.community.repository.PostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * 좋아요 수 쓰기 지연(write-behind) 캐시
+ *
+ * 배경:
+ * - 좋아요/취소마다 post_stats 같은 행에 UPDATE like_count ± 1 → 인기 게시글은 행 잠금 대기열이 됨
+ *  (좋아요 트랜잭션이 커밋될 때까지 다음 좋아요가 같은 행에서 대기)
+ *
+ * 전략 (조회수 캐시 ViewCountCacheService와 같은 방식):
+ * 1. post_likes INSERT/DELETE는 요청 트랜잭션에서 그대로 수행 (좋아요 여부의 원본)
+ * 2. 좋아요 수 증감분은 커밋 후 인메모리 카운터(LongCounterMap)에 누적 (롤백되면 반영 안 됨)
+ * 3. 짧은 주기(기본 3초)로 Drain → 청크 단위 다중 행 UPDATE (게시글당 주기마다 UPDATE 1회)
+ * 4. 응답의 좋아요 수 = DB 값 + 아직 반영 전인 증감분 (Drain 후 커밋 전인 반영 중 증감분 포함)
+ * 5. 증감분은 로컬 저널(CounterJournal)에도 기록 → 비정상 종료 후 재시작 시 재반영
+ *
+ * 한계:
+ * - 목록(피드) 좋아요 수는 DB 값 그대로 → 최대 한 주기 늦게 반영
+ * - 캐시 ↔ 반영 중 증감분 이동은 게시글 하나씩 원자적이지 않음
+ *  (Drain은 슬롯을 0으로 만든 뒤 반영 중에 기록, 실패 복구는 반영 중에서 뺀 뒤 캐시에 더함)
+ *  → 그 사이 조회한 응답은 해당 게시글 증감분만큼 잠깐 적게 보일 수 있음 (두 번 더해 보이지는 않음)
+ * - 여러 서버는 각자 증감분을 더하므로 합계는 맞지만, 다른 서버의 반영 전 증감분은 보이지 않음
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LikeCountCacheService {
+
+    private final PostStatsRepository postStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.like-count-sync.batch-size:500}")
+    private int batchSize;
+
+    @Value("${scheduler.like-count-sync.journal.enabled:true}")
+    private boolean journalEnabled;
+
+    @Value("${scheduler.like-count-sync.journal.dir:data/journal}")
+    private String journalDir;
+
+    @Value("${scheduler.like-count-sync.journal.segment-size:4194304}")
+    private int journalSegmentSize;
+
+    private CounterJournal journal = CounterJournal.disabled();
+
+    // postId → 아직 DB에 반영되지 않은 좋아요 증감분
+    private final LongCounterMap likeCountCache = new LongCounterMap();
+
+    // 저널에 넘길 캐시 반영 함수 (한 번만 생성 → 좋아요마다 람다 할당 없음)
+    private final LongBinaryOperator pendingLikeCountAdder = likeCountCache::addAndGet;
+
+    /**
+     * 반영 중 증감분 (Drain 후 청크 커밋 전)
+     * - Drain하면 캐시에서는 빠지지만 post_stats에는 아직 없음 → 이 구간 동안 응답 좋아요 수가 줄어 보이지 않도록 함께 더함
+     * - 청크가 커밋되면 그 게시글들은 제거, 실패한 게시글은 하나씩 제거하면서 캐시로 되돌림
+     */
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 시작 시 저널 열기 + 이전 프로세스가 남긴 증감분 복구
+     */
+    @PostConstruct
+    public void recoverFromJournal() {
+        if (!journalEnabled) {
+            log.info("좋아요 수 저널 비활성화 - 비정상 종료 시 반영 전 좋아요 수 유실 가능");
+            return;
+        }
+
+        try {
+            journal = CounterJournal.open(Path.of(journalDir), "like-count", journalSegmentSize);
+        } catch (IOException | RuntimeException e) {
+            log.error("좋아요 수 저널 열기 실패 - 저널 없이 동작: dir={}", journalDir, e);
+            journal = CounterJournal.disabled();
+            return;
+        }
+
+        Map<Long, Long> recovered = journal.recover();
+        recovered.values().removeIf(delta -> delta == 0);
+        if (recovered.isEmpty()) {
+            journal.truncateAll();
+            return;
+        }
+
+        log.warn("좋아요 수 저널 복구 - 게시글: {}건", recovered.size());
+        Map<Long, Long> failed = persist(recovered);
+        journal.truncateAll();
+        restore(failed);
+    }
+
+    /**
+     * 좋아요 증감 (커밋 후 호출)
+     * @param delta +1 (좋아요) 또는 -1 (취소)
+     */
+    public void add(Long postId, long delta) {
+        long pending = journal.append(postId, delta, pendingLikeCountAdder);
+        log.debug("좋아요 수 증감 (캐시) - postId: {}, delta: {}, 반영 대기: {}", postId, delta, pending);
+    }
+
+    // 아직 DB에 반영되지 않은 증감분 (캐시 + 반영 중)
+    public long getPendingLikeCount(Long postId) {
+        return likeCountCache.get(postId) + inFlight.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * DB 동기화 (기본 3초마다)
+     * - synchronized: 스케줄러와 종료 훅이 동시에 Drain하지 않도록
+     * - 청크마다 다중 행 UPDATE 1회 + 커밋, 실패한 청크는 캐시 + 저널로 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${scheduler.like-count-sync.fixed-delay:3000}")
+    public synchronized void syncLikeCountsToDB() {
+        if (likeCountCache.isEmpty()) {
+            return;
+        }
+
+        int sealedSegment = journal.seal();
+        likeCountCache.drain(inFlight::put);
+        if (inFlight.isEmpty()) {
+            journal.truncate(sealedSegment);
+            return;
+        }
+
+        int drainedSize = inFlight.size();
+        Map<Long, Long> failed = persist(inFlight);
+        restore(failed); // persist/restore가 반영 중 증감분을 모두 제거
+        journal.truncate(sealedSegment);
+
+        log.debug("좋아요 수 DB 동기화 - 게시글: {}건, 실패: {}건", drainedSize, failed.size());
+    }
+
+    @PreDestroy
+    public void shutdownHook() {
+        log.info("서버 종료 감지: 좋아요 수 강제 동기화");
+        syncLikeCountsToDB();
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("좋아요 수 저널 닫기 실패", e);
+        }
+    }
+
+    /**
+     * 증감분 DB 반영 (청크마다 짧은 트랜잭션)
+     * - 삭제되어 post_stats가 없는 게시글의 증감분은 버림
+     * - 커밋된 청크는 반영 중 증감분에서 제거
+     * @return DB 예외로 반영하지 못한 증감분
+     */
+    private Map<Long, Long> persist(Map<Long, Long> deltas) {
+        Map<Long, Long> failed = new HashMap<>();
+
+        for (Map<Long, Long> chunk : partition(deltas, batchSize)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> postStatsRepository.bulkAddLikeCounts(chunk));
+                chunk.keySet().forEach(inFlight::remove);
+            } catch (Exception e) {
+                failed.putAll(chunk);
+                log.error("좋아요 수 청크 동기화 예외 (다음 주기 재시도) - 게시글: {}건", chunk.size(), e);
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * 실패한 증감분을 캐시로 되돌림 (저널에도 다시 기록)
+     * - 게시글마다 반영 중에서 먼저 뺀 뒤 캐시에 더함 → 응답 좋아요 수에 두 번 더해지는 순간이 없음
+     */
+    private void restore(Map<Long, Long> failed) {
+        failed.forEach((postId, delta) -> {
+            inFlight.remove(postId);
+            journal.append(postId, delta, pendingLikeCountAdder);
+        });
+    }
+
+    private static List<Map<Long, Long>> partition(Map<Long, Long> source, int size) {
+        List<Map<Long, Long>> chunks = new ArrayList<>();
+        Map<Long, Long> current = new HashMap<>();
+
+        for (Map.Entry<Long, Long> entry : source.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() >= size) {
+                chunks.add(current);
+                current = new HashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
@@ -1,24 +1,23 @@
 package ktb.cloud_james.community.service;
 
 import ktb.cloud_james.community.dto.like.LikeResponseDto;
-import ktb.cloud_james.community.entity.Post;
-import ktb.cloud_james.community.entity.PostLike;
-import ktb.cloud_james.community.entity.PostStats;
-import ktb.cloud_james.community.entity.User;
+import ktb.cloud_james.community.dto.like.LikerListResponseDto;
 import ktb.cloud_james.community.global.exception.CustomException;
 import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.global.util.TransactionUtil;
 import ktb.cloud_james.community.repository.PostLikeRepository;
+import ktb.cloud_james.community.repository.PostLikeRepositoryCustom;
 import ktb.cloud_james.community.repository.PostRepository;
-import ktb.cloud_james.community.repository.PostStatsRepository;
-import ktb.cloud_james.community.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 좋아요 관련 비즈니스 로직
- * - 좋아요 추가/취소
+ * - 좋아요 토글 (POST), 멱등 좋아요/취소 (PUT/DELETE), 좋아요 누른 사용자 목록
  */
 @Service
 @Slf4j
@@ -26,93 +25,159 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class LikeService {
 
+    private static final int DEFAULT_LIKER_PAGE_SIZE = 20;
+    private static final int MAX_LIKER_PAGE_SIZE = 50;
+
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
-    private final PostStatsRepository postStatsRepository;
-    private final UserRepository userRepository;
+    private final LikedPostCacheService likedPostCacheService;
+    private final LikeCountCacheService likeCountCacheService;
+    private final LikerCacheService likerCacheService;
 
     /**
-     * 좋아요 처리 흐름:
-     * 1. 게시글 존재 확인 (삭제된 게시글 체크)
-     * 2. 사용자 조회
-     * 3. 기존 좋아요 여부 확인
-     * 4-A. 이미 좋아요 누름 → 취소 (Hard Delete + likeCount -1)
-     * 4-B. 좋아요 안 누름 → 추가 (INSERT + likeCount +1)
-     * 5. 응답 DTO 생성
+     * 좋아요 처리 흐름 (DB 문장 2개, 엔티티 적재 없음):
+     * 1. 게시글 존재 + 좋아요 수 + 기존 좋아요 여부를 한 번에 조회 (삭제된 게시글이면 404)
+     * 2-A. 이미 좋아요 누름 → 취소 (DELETE)
+     * 2-B. 좋아요 안 누름 → 추가 (INSERT IGNORE)
+     *  - 동시에 두 번 누른 요청은 두 번째 문장이 0행 → 증감 없이 같은 상태로 응답
+     * 3. 커밋 후 좋아요 수 증감분을 캐시에 누적 (post_stats는 LikeCountCacheService가 주기적으로 일괄 반영)
+     * 4. 응답 DTO 생성 (1에서 읽은 좋아요 수 + 반영 대기 증감분 + 이번 요청분)
+     * - 토글은 재시도하면 상태가 되돌아감 → 재시도 가능한 클라이언트는 PUT/DELETE(putLike/deleteLike) 사용
+     *
+     * 사용자 존재 확인은 생략 (인증 필터를 통과한 사용자, 회원 탈퇴는 Soft Delete라 FK 위반 없음)
      */
     @Transactional
     public LikeResponseDto like(Long userId, Long postId) {
         log.info("좋아요 시도 - userId: {}, postId: {}", userId, postId);
 
-        // 1. 게시글 존재 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> {
-                    log.warn("좋아요 실패 - 존재하지 않는 게시글: postId={}", postId);
-                    return new CustomException(ErrorCode.POST_NOT_FOUND);
-                });
+        // 1. 게시글 존재 확인 + 현재 상태
+        PostLikeRepositoryCustom.LikeState state = findStateOrThrow(postId, userId);
+
+        boolean isLiked;
+        long delta;
+
+        if (state.isLiked()) {
+            // 2-A. 이미 좋아요 누름 → 취소 (Hard Delete)
+            delta = -postLikeRepository.deleteLike(postId, userId);
+            isLiked = false;
+            log.info("좋아요 취소 (Hard Delete) - userId: {}, postId: {}, 삭제: {}건", userId, postId, -delta);
 
-        // 1-2. 삭제된 게시글 체크
-        if (post.getDeletedAt() != null) {
-            log.warn("좋아요 실패 - 삭제된 게시글: postId={}", postId);
-            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        } else {
+            // 2-B. 좋아요 안 누름 → 추가
+            delta = postLikeRepository.insertLikeIgnoringDuplicate(postId, userId);
+            isLiked = true;
+            log.info("좋아요 추가 - userId: {}, postId: {}, 추가: {}건", userId, postId, delta);
         }
 
-        // 2. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("좋아요 실패 - 존재하지 않는 사용자: userId={}", userId);
-                    return new CustomException(ErrorCode.USER_NOT_FOUND);
-                });
+        return complete(userId, postId, isLiked, delta, state.getLikeCount());
+    }
 
-        // 3. 기존 좋아요 여부 확인
-        PostLike existingLike = postLikeRepository.findByPostIdAndUserId(postId, userId)
-                .orElse(null);
+    /**
+     * 좋아요 (멱등, PUT)
+     * - 조건부 INSERT 1회 (삭제되지 않은 게시글 + 중복 무시) → 재시도/동시 요청 모두 같은 결과, 예외 없음
+     * - 이어서 상태 조회 1회 (게시글 없으면 404, 응답 좋아요 수)
+     */
+    @Transactional
+    public LikeResponseDto putLike(Long userId, Long postId) {
+        log.info("좋아요 (PUT) - userId: {}, postId: {}", userId, postId);
 
-        boolean isLiked;
+        long delta = postLikeRepository.insertLikeIfPostActive(postId, userId);
+        PostLikeRepositoryCustom.LikeState state = findStateOrThrow(postId, userId);
 
-        if (existingLike != null) {
-            // 4-A. 이미 좋아요 누름 → 취소 (Hard Delete)
-            postLikeRepository.delete(existingLike);
-            log.info("좋아요 취소 (Hard Delete) - likeId: {}, userId: {}, postId: {}",
-                    existingLike.getId(), userId, postId);
+        return complete(userId, postId, true, delta, state.getLikeCount());
+    }
 
-            // 좋아요 수 감소
-            int updated = postStatsRepository.decrementLikeCount(postId);
-            if (updated == 0) {
-                log.error("좋아요 수 감소 실패 - PostStats 없거나 이미 0: postId={}", postId);
-            }
+    /**
+     * 좋아요 취소 (멱등, DELETE)
+     * - 조건부 DELETE 1회 (삭제되지 않은 게시글만) → 이미 취소된 상태면 0행, 예외 없음
+     * - 이어서 상태 조회 1회 (게시글 없으면 404, 응답 좋아요 수)
+     */
+    @Transactional
+    public LikeResponseDto deleteLike(Long userId, Long postId) {
+        log.info("좋아요 취소 (DELETE) - userId: {}, postId: {}", userId, postId);
 
-            isLiked = false;
+        long delta = -postLikeRepository.deleteLikeIfPostActive(postId, userId);
+        PostLikeRepositoryCustom.LikeState state = findStateOrThrow(postId, userId);
 
-        } else {
-            // 4-B. 좋아요 안 누름 → 추가 (INSERT)
-            PostLike newLike = PostLike.builder()
-                    .post(post)
-                    .user(user)
-                    .build();
-
-            postLikeRepository.save(newLike);
-            log.info("좋아요 추가 - likeId: {}, userId: {}, postId: {}",
-                    newLike.getId(), userId, postId);
-
-            // 좋아요 수 증가
-            int updated = postStatsRepository.incrementLikeCount(postId);
-            if (updated == 0) {
-                log.error("좋아요 수 증가 실패 - PostStats 없음: postId={}", postId);
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        return complete(userId, postId, false, delta, state.getLikeCount());
+    }
+
+    /**
+     * 좋아요 누른 사용자 목록 (인피니티 스크롤, 최근에 누른 순)
+     * - 커서 = 마지막으로 본 좋아요 ID → (post_id, like_id) 인덱스 키셋 페이징 (페이지가 깊어져도 비용 같음)
+     * - 첫 페이지는 최대 페이지 크기 + 1행으로 조회해 인기 게시글이면 캐시 (LikerCacheService)
+     *  → limit이 달라도 같은 캐시 항목에서 잘라서 응답
+     * - 캐시 적중 시 게시글 존재 확인도 생략 (삭제 커밋 후 무효화)
+     */
+    public LikerListResponseDto getLikers(Long postId, Long cursor, Integer limit) {
+        int pageSize = DEFAULT_LIKER_PAGE_SIZE;
+        if (limit != null) {
+            if (limit > MAX_LIKER_PAGE_SIZE) limit = MAX_LIKER_PAGE_SIZE;
+            if (limit > 0) pageSize = limit;
+        }
+
+        List<LikerListResponseDto.LikerDto> rows = cursor == null ? likerCacheService.getFirstPage(postId) : null;
+
+        if (rows == null) {
+            if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+                log.warn("좋아요 사용자 목록 조회 실패 - 존재하지 않거나 삭제된 게시글: postId={}", postId);
+                throw new CustomException(ErrorCode.POST_NOT_FOUND);
             }
 
-            isLiked = true;
+            // limit + 1개 조회하여 hasNext 판별 (첫 페이지는 캐시용으로 최대 크기만큼)
+            int fetchSize = (cursor == null ? MAX_LIKER_PAGE_SIZE : pageSize) + 1;
+            rows = postLikeRepository.findLikersWithCursor(postId, cursor, fetchSize);
+
+            // 탈퇴한 회원 마스킹 처리
+            rows.forEach(LikerListResponseDto.LikerDto::maskDeletedUser);
+
+            if (cursor == null) {
+                likerCacheService.putFirstPage(postId, rows, fetchSize);
+            }
         }
 
-        // 5. 응답 DTO 생성(최신 좋아요 수 조회)
-        Long currentLikeCount = postStatsRepository.findById(postId)
-                .map(PostStats::getLikeCount)
-                .orElse(0L);
+        boolean hasNext = rows.size() > pageSize;
+        List<LikerListResponseDto.LikerDto> likers = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = likers.isEmpty() ? null : likers.get(likers.size() - 1).getLikeId();
+
+        return LikerListResponseDto.builder()
+                .likers(likers)
+                .pagination(LikerListResponseDto.PaginationInfo.builder()
+                        .cursor(nextCursor)
+                        .hasNext(hasNext)
+                        .limit(pageSize)
+                        .build())
+                .build();
+    }
+
+    private PostLikeRepositoryCustom.LikeState findStateOrThrow(Long postId, Long userId) {
+        return postLikeRepository.findLikeState(postId, userId)
+                .orElseThrow(() -> {
+                    log.warn("좋아요 실패 - 존재하지 않거나 삭제된 게시글: postId={}", postId);
+                    return new CustomException(ErrorCode.POST_NOT_FOUND);
+                });
+    }
+
+    /**
+     * 커밋 후 캐시 반영 + 응답 생성
+     * - 좋아요 수 증감분 누적 + 사용자 좋아요 비트맵 반영 (롤백되면 둘 다 반영 안 됨)
+     * - 응답 좋아요 수 = DB 값 + 반영 대기 증감분 + 이번 요청분 (커밋 전이라 캐시에는 아직 없음)
+     * @param delta 이번 요청으로 실제 바뀐 좋아요 수 (+1, -1, 이미 그 상태였으면 0)
+     */
+    private LikeResponseDto complete(Long userId, Long postId, boolean liked, long delta, long storedLikeCount) {
+        TransactionUtil.afterCommit(() -> {
+            if (delta != 0) {
+                likeCountCacheService.add(postId, delta);
+            }
+            likedPostCacheService.onLikeChanged(userId, postId, liked);
+        });
+
+        Long currentLikeCount = Math.max(0L,
+                storedLikeCount + likeCountCacheService.getPendingLikeCount(postId) + delta);
 
-        log.info("좋아요 완료 - userId: {}, postId: {}, isLiked: {}, likeCount: {}",
-                userId, postId, isLiked, currentLikeCount);
+        log.info("좋아요 완료 - userId: {}, postId: {}, isLiked: {}, 변경: {}, likeCount: {}",
+                userId, postId, liked, delta, currentLikeCount);
 
-        return new LikeResponseDto(isLiked, currentLikeCount);
+        return new LikeResponseDto(liked, currentLikeCount);
     }
 }
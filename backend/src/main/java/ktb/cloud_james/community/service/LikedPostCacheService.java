@@ -0,0 +1,236 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostListResponseDto;
+import ktb.cloud_james.community.global.util.RoaringBitmap;
+import ktb.cloud_james.community.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 좋아요 게시글 비트맵 캐시
+ *
+ * 배경:
+ * - 목록 응답에 좋아요 여부(isLiked)를 붙이려면 상세 조회처럼 행마다 EXISTS 서브쿼리 → 목록 쿼리 비용이 페이지 크기만큼 늘어남
+ * - 피드 캐시(FeedCacheService)로 응답하는 페이지는 DB 조회 자체가 없어야 함
+ *
+ * 전략:
+ * 1. 사용자가 좋아요 누른 게시글 ID 집합을 압축 비트맵(RoaringBitmap)으로 보관 → 페이지 표시는 비트 확인만
+ * 2. 처음 필요할 때 post_likes에서 적재 ((user_id, post_id) 커버링 인덱스만 읽음)
+ * 3. 좋아요/취소 커밋 후 적재된 비트맵에 바로 반영 (LikeService)
+ * 4. 전체 메모리 상한(기본 64MB)을 넘으면 가장 오래 안 쓴 사용자부터 제거 (LRU)
+ *  - 다른 서버에서 누른 좋아요는 TTL(기본 5분) 후 다시 적재하며 반영
+ * 5. 캐시 항목(피드 캐시 요약)은 여러 사용자가 공유 → isLiked는 복사본에만 표시
+ *
+ * 동시성:
+ * - 좋아요 변경마다 사용자 ID 구간(스트라이프)의 세대 번호 증가
+ *   → 적재 중(DB 조회 중) 같은 구간에 변경이 있었으면 조회 결과를 캐시에 넣지 않음 (변경 누락 방지)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LikedPostCacheService {
+
+    private static final int GENERATION_STRIPES = 64;
+    private static final int REPORT_TOP_USERS = 5;
+
+    private final PostLikeRepository postLikeRepository;
+
+    @Value("${like.bitmap.enabled:true}")
+    private boolean enabled;
+
+    @Value("${like.bitmap.max-memory:67108864}")
+    private long maxMemoryBytes;
+
+    @Value("${like.bitmap.ttl:300000}")
+    private long ttlMillis;
+
+    // 접근 순서 LinkedHashMap (LRU), entries 자체로 동기화 (비트맵 읽기/쓰기 포함)
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /**
+     * 게시글 요약에 좋아요 여부를 붙인 복사본 목록
+     * @param userId 현재 사용자 (null이면 그대로 반환)
+     */
+    public List<PostListResponseDto.PostSummaryDto> annotate(
+            Long userId,
+            List<PostListResponseDto.PostSummaryDto> posts
+    ) {
+        if (userId == null || posts.isEmpty()) {
+            return posts;
+        }
+
+        RoaringBitmap bitmap = getBitmap(userId);
+
+        List<PostListResponseDto.PostSummaryDto> annotated = new ArrayList<>(posts.size());
+        synchronized (entries) {
+            for (PostListResponseDto.PostSummaryDto summary : posts) {
+                annotated.add(summary.withLiked(bitmap.contains(summary.getPostId())));
+            }
+        }
+        return annotated;
+    }
+
+    /**
+     * 좋아요/취소 반영 (커밋 후 호출)
+     * - 적재되지 않은 사용자는 다음 조회 시 DB에서 적재
+     */
+    public void onLikeChanged(Long userId, Long postId, boolean liked) {
+        synchronized (entries) {
+            generations.incrementAndGet(stripe(userId));
+
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return;
+            }
+
+            boolean changed = liked ? entry.bitmap.add(postId) : entry.bitmap.remove(postId);
+            if (changed) {
+                resize(entry);
+                evictOverflow();
+            }
+        }
+    }
+
+    // 사용자 비트맵 메모리 사용량 (바이트, 적재 전이면 0)
+    public long getMemoryBytes(Long userId) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            return entry == null ? 0 : entry.bytes;
+        }
+    }
+
+    /**
+     * 메모리 사용량 보고 (기본 10분마다)
+     * - 전체 사용자 수/바이트 + 가장 큰 비트맵 사용자 (좋아요가 몰린 계정 확인용)
+     */
+    @Scheduled(fixedDelayString = "${like.bitmap.report-interval:600000}")
+    public void reportMemory() {
+        if (!enabled) {
+            return;
+        }
+
+        int users;
+        long bytes;
+        String top;
+        synchronized (entries) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            users = entries.size();
+            bytes = totalBytes;
+            top = entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<Long, Entry> e) -> e.getValue().bytes).reversed())
+                    .limit(REPORT_TOP_USERS)
+                    .map(e -> "userId=" + e.getKey()
+                            + "(" + e.getValue().bitmap.getCardinality() + "건, " + e.getValue().bytes + "B)")
+                    .collect(Collectors.joining(", "));
+        }
+
+        log.info("좋아요 비트맵 메모리 - 사용자: {}명, 전체: {}KB / 상한 {}KB, 상위: {}",
+                users, bytes / 1024, maxMemoryBytes / 1024, top);
+    }
+
+    /**
+     * 사용자 비트맵 (캐시 → 없거나 만료되면 DB 적재)
+     * - 반환된 비트맵은 entries 잠금 안에서만 읽을 것
+     */
+    private RoaringBitmap getBitmap(Long userId) {
+        long now = System.currentTimeMillis();
+
+        if (enabled) {
+            synchronized (entries) {
+                Entry entry = entries.get(userId);
+                if (entry != null) {
+                    if (entry.expiresAt > now) {
+                        return entry.bitmap;
+                    }
+                    remove(userId);
+                }
+            }
+        }
+
+        long startGeneration = generations.get(stripe(userId));
+
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Long postId : postLikeRepository.findPostIdsByUserId(userId)) {
+            bitmap.add(postId);
+        }
+
+        if (enabled) {
+            put(userId, bitmap, startGeneration, now);
+        }
+        return bitmap;
+    }
+
+    private void put(Long userId, RoaringBitmap bitmap, long startGeneration, long now) {
+        synchronized (entries) {
+            if (generations.get(stripe(userId)) != startGeneration) {
+                log.debug("좋아요 비트맵 적재 건너뜀 - 조회 중 변경 발생: userId={}", userId);
+                return;
+            }
+
+            remove(userId); // 동시에 적재한 다른 요청의 결과가 있으면 교체
+            Entry entry = new Entry(bitmap, now + ttlMillis);
+            entries.put(userId, entry);
+            resize(entry);
+            evictOverflow();
+
+            log.debug("좋아요 비트맵 적재 - userId: {}, 좋아요: {}건, 메모리: {}B",
+                    userId, bitmap.getCardinality(), entry.bytes);
+        }
+    }
+
+    // 동기화 블록 안에서만 호출
+    private void remove(Long userId) {
+        Entry removed = entries.remove(userId);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    // 동기화 블록 안에서만 호출 - 항목 크기 재계산
+    private void resize(Entry entry) {
+        long bytes = entry.bitmap.getSizeInBytes();
+        totalBytes += bytes - entry.bytes;
+        entry.bytes = bytes;
+    }
+
+    // 동기화 블록 안에서만 호출 - 상한을 넘으면 오래 안 쓴 사용자부터 제거 (방금 쓴 항목 1개는 남김)
+    private void evictOverflow() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalBytes > maxMemoryBytes && entries.size() > 1 && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (GENERATION_STRIPES - 1));
+    }
+
+    private static class Entry {
+        private final RoaringBitmap bitmap;
+        private final long expiresAt;
+        private long bytes;
+
+        private Entry(RoaringBitmap bitmap, long expiresAt) {
+            this.bitmap = bitmap;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
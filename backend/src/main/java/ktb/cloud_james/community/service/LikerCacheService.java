@@ -0,0 +1,103 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.like.LikerListResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 누른 사용자 목록 첫 페이지 캐시 (인기 게시글만)
+ *
+ * 배경:
+ * - 좋아요가 몰린 게시글은 목록 첫 페이지 요청도 몰림 → 같은 인덱스 범위 + users 조인을 요청마다 반복
+ * - 두 번째 페이지부터는 사용자마다 커서가 달라 캐시 효과가 적음
+ *
+ * 전략:
+ * 1. 첫 페이지를 최대 페이지 크기 + 1행까지 조회해 보관 → 요청한 limit만큼 잘라서 응답 (hasNext 판별 포함)
+ * 2. 가득 찬 첫 페이지(좋아요가 최대 페이지 크기보다 많은 게시글)만 보관 → 좋아요가 적은 게시글은 매번 DB 조회
+ * 3. 좋아요마다 무효화하지 않고 짧은 TTL(기본 5초)로 반영 → 인기 게시글일수록 좋아요가 잦아 무효화가 곧 캐시 미사용
+ * 4. 게시글 삭제 커밋 후 무효화 (PostService.deletePost)
+ *
+ * 동시성:
+ * - 보관하는 행은 조회 시 마스킹을 끝낸 불변 목록 → 여러 요청이 그대로 공유
+ */
+@Service
+@Slf4j
+public class LikerCacheService {
+
+    @Value("${like.likers-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${like.likers-cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${like.likers-cache.ttl:5000}")
+    private long ttlMillis;
+
+    // 접근 순서 LinkedHashMap → 가장 오래 안 쓴 항목부터 제거 (LRU), entries 자체로 동기화
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 캐시된 첫 페이지 행 (최대 페이지 크기 + 1행)
+     * @return 없거나 만료되었으면 null
+     */
+    public List<LikerListResponseDto.LikerDto> getFirstPage(Long postId) {
+        if (!enabled) {
+            return null;
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(postId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= System.currentTimeMillis()) {
+                entries.remove(postId);
+                return null;
+            }
+            return entry.likers;
+        }
+    }
+
+    /**
+     * 첫 페이지 보관 (가득 찬 페이지만)
+     * @param rows 마스킹을 끝낸 첫 페이지 행
+     * @param fullSize 가득 찬 페이지 행 수 (최대 페이지 크기 + 1), 이보다 적으면 보관하지 않음
+     */
+    public void putFirstPage(Long postId, List<LikerListResponseDto.LikerDto> rows, int fullSize) {
+        if (!enabled || rows.size() < fullSize) {
+            return;
+        }
+
+        synchronized (entries) {
+            entries.put(postId, new Entry(List.copyOf(rows), System.currentTimeMillis() + ttlMillis));
+        }
+        log.debug("좋아요 사용자 목록 캐시 적재 - postId: {}", postId);
+    }
+
+    // 게시글 한 건 무효화 (삭제 커밋 후)
+    public void evict(Long postId) {
+        synchronized (entries) {
+            entries.remove(postId);
+        }
+    }
+
+    private static class Entry {
+        private final List<LikerListResponseDto.LikerDto> likers;
+        private final long expiresAt;
+
+        private Entry(List<LikerListResponseDto.LikerDto> likers, long expiresAt) {
+            this.likers = likers;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.global.util.ContentCodec;
+import ktb.cloud_james.community.global.util.ExcerptUtil;
+import ktb.cloud_james.community.repository.PostCardBackfillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 피드 카드 요약 백필 (V7 이전 게시글)
+ *
+ * - 새 게시글은 작성/수정 시 PostService가 요약을 채움 → 여기서는 비어 있는 기존 행만 처리
+ * - 시작 후 백그라운드에서 배치 단위로 한 번 실행 (서버 기동을 막지 않음, 모두 채워지면 첫 조회 후 종료)
+ * - 여러 서버가 동시에 실행해도 같은 값을 쓰고, 이미 채워진 행은 건너뜀
+ * - 백필 전 게시글은 목록에서 excerpt/wordCount가 null (카드에 미리보기 없이 표시)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostCardBackfillService {
+
+    private final PostCardBackfillRepository postCardBackfillRepository;
+
+    @Value("${post.card.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.card.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("post-card-backfill").start(this::runSafely);
+    }
+
+    private void runSafely() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("피드 카드 요약 백필 실패 - 다음 시작 시 이어서 진행", e);
+        }
+    }
+
+    /**
+     * 요약이 비어 있는 게시글 전체 처리
+     * @return 채운 게시글 수
+     */
+    public long backfill() {
+        long lastPostId = 0;
+        long filled = 0;
+
+        while (true) {
+            List<PostCardBackfillRepository.Row> rows = postCardBackfillRepository.findMissing(lastPostId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (PostCardBackfillRepository.Row row : rows) {
+                String content = row.body() == null ? "" : ContentCodec.decode(row.encoding(), row.body());
+                updates.add(new Object[]{ExcerptUtil.excerpt(content), ExcerptUtil.wordCount(content), row.postId()});
+            }
+            postCardBackfillRepository.updateSummaries(updates);
+
+            filled += rows.size();
+            lastPostId = rows.get(rows.size() - 1).postId();
+            log.debug("피드 카드 요약 백필 진행 - {}건 (마지막 postId: {})", filled, lastPostId);
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (filled > 0) {
+            log.info("피드 카드 요약 백필 완료 - {}건", filled);
+        }
+        return filled;
+    }
+}
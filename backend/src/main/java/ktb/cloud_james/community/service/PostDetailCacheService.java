@@ -0,0 +1,174 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostDetailContentDto;
+import ktb.cloud_james.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 상세 캐시 (사용자와 무관한 부분만)
+ *
+ * 배경:
+ * - 상세 조회마다 posts + users + post_stats JOIN, 메인 이미지/좋아요 여부 서브쿼리, LONGTEXT 본문까지 읽음
+ * - 본문/이미지/작성자는 거의 바뀌지 않고, 바뀌는 건 통계와 사용자별 좋아요 여부뿐
+ *
+ * 전략:
+ * 1. 본문/메인 이미지/작성자(탈퇴 마스킹 완료)를 서버 공유 LRU 캐시에 보관 (기본 1000건, 5분 TTL)
+ *  - 본문이 LONGTEXT라 건수만으로는 메모리 상한이 없음 → 제목+본문 크기 합계로도 제한 (기본 64MB)
+ *  - 크기는 문자당 2바이트로 추정 (한글 본문은 String 내부 UTF-16), 한 건이 max-entry-bytes를 넘으면 캐시하지 않음
+ * 2. 통계 + 좋아요 여부는 요청마다 PK/유니크 인덱스 조회로 덧씌움 (PostService.getPostDetail)
+ * 3. 무효화 (커밋 후): 게시글 수정/삭제 → 해당 게시글, 회원정보 수정/탈퇴 → 그 회원의 게시글 전부
+ *  - 다른 서버에서 일어난 변경은 TTL로 반영 (삭제는 덧씌우기 조회에서 바로 감지)
+ *
+ * 동시성:
+ * - 무효화마다 세대 번호 증가, 캐시 미스로 DB 조회 중 무효화가 일어나면 조회 결과를 캐시에 넣지 않음
+ *   (수정 커밋 직전에 읽은 본문이 무효화 이후에 다시 들어가는 것 방지)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostDetailCacheService {
+
+    private final PostRepository postRepository;
+
+    @Value("${post.detail-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.detail-cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${post.detail-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${post.detail-cache.max-entry-bytes:1048576}")
+    private long maxEntryBytes;
+
+    @Value("${post.detail-cache.ttl:300000}")
+    private long ttlMillis;
+
+    // 접근 순서 LinkedHashMap → 가장 오래 안 쓴 항목부터 제거 (LRU), entries 자체로 동기화
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalBytes; // entries로 동기화
+
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 게시글 본문/작성자 조회 (캐시 → 없으면 DB)
+     * @return 존재하지 않거나 삭제된 게시글이면 empty
+     */
+    public Optional<PostDetailContentDto> getContent(Long postId) {
+        long now = System.currentTimeMillis();
+
+        if (enabled) {
+            synchronized (entries) {
+                Entry entry = entries.get(postId);
+                if (entry != null) {
+                    if (entry.expiresAt > now) {
+                        return Optional.of(entry.content);
+                    }
+                    remove(postId);
+                }
+            }
+        }
+
+        long startGeneration = generation.get();
+        Optional<PostDetailContentDto> loaded = postRepository.findPostDetailContent(postId);
+        loaded.ifPresent(content -> {
+            content.getAuthor().maskDeletedUser(); // 탈퇴한 회원 마스킹 처리
+            if (enabled) {
+                put(postId, content, startGeneration, now);
+            }
+        });
+        return loaded;
+    }
+
+    // 게시글 한 건 무효화 (수정/삭제 커밋 후)
+    public void evict(Long postId) {
+        synchronized (entries) {
+            remove(postId);
+            generation.incrementAndGet();
+        }
+    }
+
+    // 작성자의 게시글 전부 무효화 (닉네임/프로필 이미지 수정, 회원탈퇴 커밋 후)
+    public void evictByAuthor(Long userId) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> {
+                if (!entry.content.getAuthorId().equals(userId)) {
+                    return false;
+                }
+                totalBytes -= entry.bytes;
+                return true;
+            });
+            generation.incrementAndGet();
+        }
+    }
+
+    // 현재 보관 중인 제목+본문 추정 크기 합계 (바이트)
+    public long getTotalBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    /**
+     * 캐시 적재 후 건수/크기 상한을 넘은 만큼 가장 오래 안 쓴 항목부터 제거
+     */
+    private void put(Long postId, PostDetailContentDto content, long startGeneration, long now) {
+        long bytes = estimateBytes(content);
+        if (bytes > maxEntryBytes) {
+            log.debug("게시글 상세 캐시 적재 건너뜀 - 본문 크기 초과: postId={}, {}바이트", postId, bytes);
+            return;
+        }
+
+        synchronized (entries) {
+            if (generation.get() != startGeneration) {
+                log.debug("게시글 상세 캐시 적재 건너뜀 - 조회 중 무효화 발생: postId={}", postId);
+                return;
+            }
+            Entry previous = entries.put(postId, new Entry(content, bytes, now + ttlMillis));
+            totalBytes += bytes - (previous == null ? 0 : previous.bytes);
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while ((entries.size() > maxSize || totalBytes > maxBytes) && eldest.hasNext()) {
+                totalBytes -= eldest.next().bytes;
+                eldest.remove();
+            }
+        }
+    }
+
+    // entries로 동기화된 상태에서 호출
+    private void remove(Long postId) {
+        Entry removed = entries.remove(postId);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    private static long estimateBytes(PostDetailContentDto content) {
+        long chars = (content.getTitle() == null ? 0 : content.getTitle().length())
+                + (content.getContent() == null ? 0 : content.getContent().length());
+        return chars * 2;
+    }
+
+    private static class Entry {
+        private final PostDetailContentDto content;
+        private final long bytes;
+        private final long expiresAt;
+
+        private Entry(PostDetailContentDto content, long bytes, long expiresAt) {
+            this.content = content;
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package ktb.cloud_james.community.service;
+
+import jakarta.annotation.PreDestroy;
+import ktb.cloud_james.community.dto.post.PostListResponseDto;
+import ktb.cloud_james.community.dto.post.PostSearchSourceDto;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.global.search.InvertedIndex;
+import ktb.cloud_james.community.global.search.NgramTokenizer;
+import ktb.cloud_james.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 검색 서비스 (인메모리 역색인)
+ *
+ * 배경:
+ * - LIKE '%검색어%'는 인덱스를 못 타고 본문 전체를 스캔
+ *
+ * 전략:
+ * 1. 제목 + 본문을 한글 bigram으로 잘라 역색인 (제목은 2번 색인하여 가중치)
+ * 2. 시작 시: 디스크 스냅샷 로드 → DB와 버전(수정 시각) 비교 → 바뀐 게시글만 다시 색인 (백그라운드)
+ *  - 스냅샷이 없으면 전체 색인, 준비 전 검색 요청은 503 (search_index_not_ready)
+ * 3. 작성/수정/삭제는 커밋 후 바로 반영 (PostService)
+ * 4. 주기적으로 DB와 다시 비교 (다른 서버에서 일어난 변경, 누락된 반영 복구) + 변경 있으면 스냅샷 저장
+ * 5. BM25 점수 순 + 커서(마지막 점수, 게시글 ID) 기반 페이징
+ *
+ * 한계:
+ * - 페이지를 넘기는 사이 색인이 바뀌면 점수가 달라져 순서가 조금 어긋날 수 있음 (중복/누락 가능, 검색은 허용)
+ * - 1글자 한글 검색어는 1글자로 떨어져 있는 경우만 일치 (색인은 bigram)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_INDEXED_CONTENT = 50_000; // 본문 앞부분만 색인 (글자 수)
+    private static final int VERSION_PAGE_SIZE = 1000;
+    private static final int FETCH_CHUNK_SIZE = 100;
+    private static final String SNAPSHOT_FILE = "posts.idx";
+
+    private final PostRepository postRepository;
+    private final LikedPostCacheService likedPostCacheService;
+
+    @Value("${search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.dir:data/search}")
+    private String dir;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    private long savedModCount = -1;
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 색인 준비 (서버 기동을 막지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("게시글 검색 비활성화");
+            return;
+        }
+        Thread.ofPlatform().daemon().name("post-search-init").start(this::initialize);
+    }
+
+    /**
+     * 게시글 검색
+     * @param query 검색어
+     * @param cursor 이전 응답의 커서 (첫 페이지는 null)
+     */
+    public PostListResponseDto search(String query, String cursor, Integer limit, Long currentUserId) {
+        if (!enabled || !ready) {
+            throw new CustomException(ErrorCode.SEARCH_INDEX_NOT_READY);
+        }
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            log.warn("게시글 검색 실패 - 잘못된 검색어: {}", query);
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        InvertedIndex.Hit after = (cursor == null || cursor.isBlank()) ? null : decodeCursor(cursor);
+
+        // 1. 색인 검색 (limit + 1건으로 hasNext 판별)
+        List<InvertedIndex.Hit> hits = index.search(NgramTokenizer.tokenize(query), after, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+
+        // 2. 게시글 요약 조회 + 점수 순서 정렬 (삭제 반영 전인 게시글은 조회되지 않아 빠짐)
+        Map<Long, PostListResponseDto.PostSummaryDto> found = new HashMap<>();
+        for (PostListResponseDto.PostSummaryDto summary :
+                postRepository.findPostSummariesByIds(hits.stream().map(InvertedIndex.Hit::getDocId).toList())) {
+            summary.maskDeletedUser(); // 탈퇴한 회원 마스킹 처리
+            found.put(summary.getPostId(), summary);
+        }
+
+        List<PostListResponseDto.PostSummaryDto> posts = new ArrayList<>(hits.size());
+        for (InvertedIndex.Hit hit : hits) {
+            PostListResponseDto.PostSummaryDto summary = found.get(hit.getDocId());
+            if (summary != null) {
+                posts.add(summary);
+            }
+        }
+
+        // 좋아요 여부 표시
+        posts = likedPostCacheService.annotate(currentUserId, posts);
+
+        PostListResponseDto.PaginationInfo pagination = PostListResponseDto.PaginationInfo.builder()
+                .hasNext(hasNext)
+                .limit(pageSize)
+                .sort("relevance")
+                .cursor(hasNext ? encodeCursor(hits.get(hits.size() - 1)) : null)
+                .build();
+
+        log.info("게시글 검색 완료 - 검색어: {}, 결과: {}개, hasNext: {}", query, posts.size(), hasNext);
+
+        return PostListResponseDto.builder()
+                .posts(posts)
+                .pagination(pagination)
+                .build();
+    }
+
+    // 게시글 색인 (작성/수정 커밋 후)
+    public void index(Long postId, String title, String content, LocalDateTime updatedAt) {
+        if (!enabled) {
+            return;
+        }
+        index.put(postId, tokenize(title, content), toVersion(updatedAt != null ? updatedAt : LocalDateTime.now()));
+    }
+
+    // 게시글 색인 제거 (삭제 커밋 후)
+    public void remove(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        index.remove(postId);
+    }
+
+    /**
+     * DB와 색인 비교 후 차이 반영 (기본 5분마다)
+     * - 버전 목록(ID, 수정 시각)만 PK 순으로 훑고, 바뀐 게시글만 본문 조회
+     */
+    @Scheduled(fixedDelayString = "${search.sync-interval:300000}", initialDelayString = "${search.sync-interval:300000}")
+    public synchronized void sync() {
+        if (!enabled || !ready) {
+            return;
+        }
+        syncWithDatabase();
+    }
+
+    /**
+     * 스냅샷 저장 (변경이 있을 때만, 기본 1분마다 + 종료 시)
+     */
+    @Scheduled(fixedDelayString = "${search.snapshot-interval:60000}")
+    @PreDestroy
+    public synchronized void persist() {
+        if (!enabled || !ready || index.getModCount() == savedModCount) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Path directory = Paths.get(dir);
+            Files.createDirectories(directory);
+            savedModCount = index.writeTo(directory.resolve(SNAPSHOT_FILE));
+            log.info("검색 색인 스냅샷 저장 - 게시글: {}건, 단어: {}개, 소요: {}ms",
+                    index.size(), index.termCount(), System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            log.error("검색 색인 스냅샷 저장 실패 (다음 주기 재시도)", e);
+        }
+    }
+
+    private synchronized void initialize() {
+        long start = System.currentTimeMillis();
+
+        Path snapshot = Paths.get(dir).resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try {
+                index = InvertedIndex.readFrom(snapshot);
+                log.info("검색 색인 스냅샷 로드 - 게시글: {}건", index.size());
+            } catch (IOException e) {
+                log.warn("검색 색인 스냅샷 로드 실패 - 전체 색인으로 진행", e);
+                index = new InvertedIndex();
+            }
+        }
+
+        try {
+            syncWithDatabase();
+            ready = true;
+            log.info("검색 색인 준비 완료 - 게시글: {}건, 단어: {}개, 소요: {}ms",
+                    index.size(), index.termCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("검색 색인 준비 실패 - 검색 비활성 상태 유지", e);
+            return;
+        }
+        persist();
+    }
+
+    private void syncWithDatabase() {
+        InvertedIndex current = index;
+        Map<Long, Long> indexed = current.versions();
+
+        // 1. DB 버전과 비교 → 새로 색인할 게시글 수집, 남은 것은 삭제된 게시글
+        List<Long> changed = new ArrayList<>();
+        long afterId = 0;
+        while (true) {
+            List<PostSearchSourceDto> versions = postRepository.findSearchVersions(afterId, VERSION_PAGE_SIZE);
+            for (PostSearchSourceDto version : versions) {
+                Long indexedVersion = indexed.remove(version.getPostId());
+                if (indexedVersion == null || indexedVersion != toVersion(version.getUpdatedAt())) {
+                    changed.add(version.getPostId());
+                }
+            }
+            if (versions.size() < VERSION_PAGE_SIZE) {
+                break;
+            }
+            afterId = versions.get(versions.size() - 1).getPostId();
+        }
+
+        // 2. 삭제된 게시글 제거
+        indexed.keySet().forEach(current::remove);
+
+        // 3. 바뀐 게시글 원문 조회 후 색인
+        for (int from = 0; from < changed.size(); from += FETCH_CHUNK_SIZE) {
+            List<Long> chunk = changed.subList(from, Math.min(from + FETCH_CHUNK_SIZE, changed.size()));
+            for (PostSearchSourceDto source : postRepository.findSearchSources(chunk)) {
+                current.put(source.getPostId(), tokenize(source.getTitle(), source.getContent()),
+                        toVersion(source.getUpdatedAt()));
+            }
+        }
+
+        if (!changed.isEmpty() || !indexed.isEmpty()) {
+            log.info("검색 색인 동기화 - 색인: {}건, 제거: {}건", changed.size(), indexed.size());
+        }
+    }
+
+    // 제목은 2번 색인 (제목 일치에 가중치)
+    private static List<String> tokenize(String title, String content) {
+        List<String> titleTokens = NgramTokenizer.tokenize(title);
+        String body = content == null ? "" : content.substring(0, Math.min(content.length(), MAX_INDEXED_CONTENT));
+
+        List<String> tokens = new ArrayList<>(titleTokens);
+        tokens.addAll(titleTokens);
+        tokens.addAll(NgramTokenizer.tokenize(body));
+        return tokens;
+    }
+
+    // 버전 = 수정 시각 (초 단위, DB DATETIME 정밀도)
+    private static long toVersion(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static String encodeCursor(InvertedIndex.Hit hit) {
+        String raw = hit.getScore() + ":" + hit.getDocId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InvertedIndex.Hit decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int colon = raw.indexOf(':');
+            double score = Double.parseDouble(raw.substring(0, colon));
+            long postId = Long.parseLong(raw.substring(colon + 1));
+            return new InvertedIndex.Hit(postId, score);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("잘못된 검색 커서: {}", cursor);
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
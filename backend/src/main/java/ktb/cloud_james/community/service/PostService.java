@@ -3,19 +3,35 @@ package ktb.cloud_james.community.service;
 
 import ktb.cloud_james.community.dto.post.*;
 import ktb.cloud_james.community.entity.Post;
+import ktb.cloud_james.community.entity.PostContent;
 import ktb.cloud_james.community.entity.PostImage;
 import ktb.cloud_james.community.entity.PostStats;
 import ktb.cloud_james.community.entity.User;
 import ktb.cloud_james.community.global.exception.CustomException;
 import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.global.util.ETagUtil;
+import ktb.cloud_james.community.global.util.ExcerptUtil;
+import ktb.cloud_james.community.global.util.TransactionUtil;
 import ktb.cloud_james.community.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 게시글 관련 비즈니스 로직
@@ -28,21 +44,37 @@ import java.util.List;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
     private final PostStatsRepository postStatsRepository;
     private final PostImageRepository postImageRepository;
     private final PostLikeRepository postLikeRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final ViewCountCacheService viewCountCacheService;
+    private final LikeCountCacheService likeCountCacheService;
+    private final ViewCountClusterService viewCountClusterService;
+    private final UniqueViewerService uniqueViewerService;
+    private final ViewHistoryService viewHistoryService;
+    private final HotRankingService hotRankingService;
+    private final FeedCacheService feedCacheService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final LikerCacheService likerCacheService;
+    private final PostSearchService postSearchService;
+    private final LikedPostCacheService likedPostCacheService;
+    private final PostTimeIndexService postTimeIndexService;
 
     private static final int DEFAULT_PAGE_SIZE = 20; // 최초 기본 페이지 크기
     private static final int MAX_PAGE_SIZE = 50;     // 잘못된 페이지 크게 들어올 것 방지
+    private static final int MAX_BATCH_SIZE = 50;    // 일괄 조회 최대 ID 수
+
+    @Value("${post.content.compress-threshold:1024}")
+    private int compressThreshold; // 이 바이트 수 이상인 본문은 압축 저장
 
     /**
      * 게시글 작성 처리 흐름:
      * 1. 사용자 조회
      * 2. 임시 이미지 → 정식 디렉토리 이동 (있을 경우)
-     * 3. Post 엔티티 생성 및 저장
+     * 3. Post 엔티티 생성 및 저장 (본문은 PostContent에 따로 저장)
      * 4. PostStats 생성 및 저장
      * 5. PostImage 생성 및 저장 (이미지 있을 경우)
      * 6. 실패 시 이미지 롤백
@@ -66,11 +98,37 @@ public class PostService {
             Post post = Post.builder()
                     .user(user)
                     .title(request.getTitle())
-                    .content(request.getContent())
+                    .excerpt(ExcerptUtil.excerpt(request.getContent()))
+                    .wordCount(ExcerptUtil.wordCount(request.getContent()))
+                    .thumbnailUrl(imageUrl != null && !imageUrl.isEmpty() ? imageUrl : null)
                     .build();
 
             Post savedPost = postRepository.save(post);
-            log.info("게시글 저장 완료 - postId: {}", savedPost.getId());
+            PostContent postContent = postContentRepository.save(
+                    new PostContent(savedPost, request.getContent(), compressThreshold));
+            log.info("게시글 저장 완료 - postId: {}, 본문: {}B (저장: {}B)",
+                    savedPost.getId(), postContent.getRawLength(), postContent.getBody().length);
+
+            // 커밋 후 피드 캐시 맨 앞에 추가 (새 게시글은 통계 0)
+            PostListResponseDto.PostSummaryDto summary = PostListResponseDto.PostSummaryDto.builder()
+                    .postId(savedPost.getId())
+                    .title(savedPost.getTitle())
+                    .authorNickname(user.getNickname())
+                    .authorProfileImage(user.getImageUrl())
+                    .isAuthorDeleted(false)
+                    .createdAt(savedPost.getCreatedAt() != null ? savedPost.getCreatedAt() : LocalDateTime.now())
+                    .excerpt(savedPost.getExcerpt())
+                    .wordCount(savedPost.getWordCount())
+                    .thumbnailUrl(savedPost.getThumbnailUrl())
+                    .likeCount(0L)
+                    .commentCount(0L)
+                    .viewCount(0L)
+                    .build();
+            TransactionUtil.afterCommit(() -> {
+                feedCacheService.add(summary);
+                postSearchService.index(savedPost.getId(), savedPost.getTitle(), request.getContent(),
+                        savedPost.getUpdatedAt());
+            });
 
             // 4. PostStats 생성 및 저장
             PostStats postStats = new PostStats(savedPost);
@@ -101,34 +159,133 @@ public class PostService {
     /**
      * 게시글 목록 조회 (인피니티 스크롤)
      * - 탈퇴한 회원 후처리 로직 추가
+     * - 요청 구간이 최신 피드 캐시 안에 있으면 DB 조회 없이 응답 (FeedCacheService)
+     * - 커서는 하나만 지정 (모두 없으면 첫 페이지)
+     * @param before 이 게시글보다 오래된 게시글 (아래로 스크롤)
+     * @param after 이 게시글보다 새 게시글 (위로 불러오기, 기준에 가까운 limit건)
+     * @param from 이 시각 이전에 작성된 게시글부터 (날짜로 이동)
+     */
+    public PostListResponseDto getPostList(Long before, Long after, String from, Integer limit, Long currentUserId) {
+        log.info("게시글 목록 조회 - before: {}, after: {}, from: {}, limit: {}, userId: {}",
+                before, after, from, limit, currentUserId);
+
+        int pageSize = resolvePageSize(limit);
+        FeedCursor cursor = resolveFeedCursor(before, after, from);
+
+        // 게시글 조회 (limit + 1개 조회하여 hasNext/hasNewer 판별), 캐시 항목은 이미 마스킹된 상태
+        List<PostListResponseDto.PostSummaryDto> posts = cursor.newer
+                ? feedCacheService.findPageAfter(cursor.postId, pageSize)
+                : feedCacheService.findPage(cursor.postId, pageSize);
+        if (posts == null) {
+            posts = cursor.newer
+                    ? postRepository.findPostsAfterCursor(cursor.postId, pageSize)
+                    : postRepository.findPostsWithCursor(cursor.postId, pageSize);
+
+            // 탈퇴한 회원 마스킹 처리
+            posts.forEach(PostListResponseDto.PostSummaryDto::maskDeletedUser);
+        }
+
+        // hasNext/hasNewer 판별
+        boolean hasMore = posts.size() > pageSize;
+        if (hasMore) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        // 새 게시글 방향은 기준에 가까운 순(오름차순)으로 조회됨 → 화면 순서(최신순)로 뒤집기
+        if (cursor.newer) {
+            posts = new ArrayList<>(posts);
+            Collections.reverse(posts);
+        }
+
+        // 좋아요 여부 표시 (사용자별 비트맵, 캐시 항목은 복사본에 표시)
+        posts = likedPostCacheService.annotate(currentUserId, posts);
+
+        // 다음 커서 값 (아래로: 마지막 게시글 ID, 위로: 첫 게시글 ID)
+        Long nextCursor = posts.isEmpty() ? null : posts.get(posts.size() - 1).getPostId();
+        Long newerCursor = posts.isEmpty() ? null : posts.get(0).getPostId();
+
+        // 페이징 정보 생성
+        PostListResponseDto.PaginationInfo pagination = PostListResponseDto.PaginationInfo.builder()
+                .lastSeenId(nextCursor)
+                .firstSeenId(newerCursor)
+                .hasNext(cursor.newer || hasMore) // 위로 불러온 페이지 아래에는 기준 게시글 쪽 목록이 이어짐
+                .hasNewer(cursor.newer ? hasMore : null) // 아래 방향 페이지는 위쪽 여부를 따로 조회하지 않음
+                .limit(pageSize)
+                .sort("latest")
+                .build();
+
+        log.info("게시글 목록 조회 완료 - 조회된 게시글: {}개, hasNext: {}, hasNewer: {}",
+                posts.size(), pagination.getHasNext(), pagination.getHasNewer());
+
+        return PostListResponseDto.builder()
+                .posts(posts)
+                .pagination(pagination)
+                .build();
+    }
+
+    /**
+     * 게시글 목록(최신순) ETag
+     * - 요청 구간이 피드 캐시 안에 있을 때만 계산 (캐시 버전 + 커서 + 페이지 크기) → DB 조회 없이 304 판단
+     * - 캐시 버전을 먼저 읽고 구간을 확인하므로, 응답 본문은 항상 ETag 버전과 같거나 더 새로움 (잘못된 304 없음)
+     * - 좋아요 여부는 사용자마다 다르므로 구간 안에서 좋아요 누른 게시글 ID를 포함 (비트맵 확인만, DB 조회 없음)
+     * - from은 시각 색인으로 ID 경계로 바꾼 뒤 before와 같이 취급
+     * @return 캐시로 응답할 수 없는 구간이면 null (ETag 없이 응답)
      */
-    public PostListResponseDto getPostList(Long lastSeenId, Integer limit, Long currentUserId) {
-        log.info("게시글 목록 조회 - lastSeenId: {}, limit: {}, userId: {}",
-                lastSeenId, limit, currentUserId);
+    public String getPostListETag(Long before, Long after, String from, Integer limit, Long currentUserId) {
+        long version = feedCacheService.getVersion();
+        int pageSize = resolvePageSize(limit);
+        FeedCursor cursor = resolveFeedCursor(before, after, from);
+
+        List<PostListResponseDto.PostSummaryDto> page = cursor.newer
+                ? feedCacheService.findPageAfter(cursor.postId, pageSize)
+                : feedCacheService.findPage(cursor.postId, pageSize);
+        if (page == null) {
+            return null;
+        }
+
+        List<Long> likedIds = likedPostCacheService.annotate(currentUserId, page).stream()
+                .filter(summary -> Boolean.TRUE.equals(summary.getIsLiked()))
+                .map(PostListResponseDto.PostSummaryDto::getPostId)
+                .toList();
+        return ETagUtil.weak("feed", version, cursor.newer ? "after" : "before", cursor.postId,
+                pageSize, currentUserId, likedIds);
+    }
 
-        int pageSize = DEFAULT_PAGE_SIZE;
-        if (limit != null) {
-            if (limit > MAX_PAGE_SIZE) limit = MAX_PAGE_SIZE;
-            if (limit > 0) pageSize = limit;
+    /**
+     * 작성자별 게시글 목록 조회 (프로필 페이지, 인피니티 스크롤)
+     * - 전체 피드 캐시와 무관하게 작성자 인덱스로 바로 조회
+     * - 탈퇴한 회원의 게시글도 조회 가능 (작성자 마스킹)
+     */
+    public PostListResponseDto getUserPostList(Long authorId, Long lastSeenId, Integer limit, Long currentUserId) {
+        log.info("작성자별 게시글 목록 조회 - authorId: {}, lastSeenId: {}, limit: {}",
+                authorId, lastSeenId, limit);
+
+        // 1. 작성자 존재 확인
+        if (!userRepository.existsById(authorId)) {
+            log.warn("작성자별 게시글 목록 조회 실패 - 존재하지 않는 사용자: authorId={}", authorId);
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        // 게시글 조회 (limit + 1개 조회하여 hasNext 판별)
+        int pageSize = resolvePageSize(limit);
+
+        // 2. 게시글 조회 (limit + 1개 조회하여 hasNext 판별)
         List<PostListResponseDto.PostSummaryDto> posts =
-                postRepository.findPostsWithCursor(lastSeenId, pageSize);
+                postRepository.findPostsByAuthorWithCursor(authorId, lastSeenId, pageSize);
 
         // 탈퇴한 회원 마스킹 처리
         posts.forEach(PostListResponseDto.PostSummaryDto::maskDeletedUser);
 
-        // hasNext 판별
+        // 3. hasNext 판별
         boolean hasNext = posts.size() > pageSize;
         if (hasNext) {
             posts = posts.subList(0, pageSize);
         }
 
-        // 다음 커서 값 (마지막 게시글 ID)
+        // 좋아요 여부 표시
+        posts = likedPostCacheService.annotate(currentUserId, posts);
+
         Long nextCursor = posts.isEmpty() ? null : posts.get(posts.size() - 1).getPostId();
 
-        // 페이징 정보 생성
         PostListResponseDto.PaginationInfo pagination = PostListResponseDto.PaginationInfo.builder()
                 .lastSeenId(nextCursor)
                 .hasNext(hasNext)
@@ -136,7 +293,53 @@ public class PostService {
                 .sort("latest")
                 .build();
 
-        log.info("게시글 목록 조회 완료 - 조회된 게시글: {}개, hasNext: {}", posts.size(), hasNext);
+        log.info("작성자별 게시글 목록 조회 완료 - authorId: {}, 조회된 게시글: {}개, hasNext: {}",
+                authorId, posts.size(), hasNext);
+
+        return PostListResponseDto.builder()
+                .posts(posts)
+                .pagination(pagination)
+                .build();
+    }
+
+    /**
+     * 게시글 목록 조회 - 인기순 (인메모리 랭킹)
+     * 1. 랭킹 스냅샷에서 커서 위치부터 페이지 크기만큼 ID 추출
+     * 2. PK IN 조회 후 랭킹 순서로 정렬 (랭킹 갱신 후 삭제된 게시글은 빠짐)
+     */
+    public PostListResponseDto getHotPostList(String cursor, Integer limit, Long currentUserId) {
+        log.info("인기 게시글 목록 조회 - cursor: {}, limit: {}, userId: {}", cursor, limit, currentUserId);
+
+        int pageSize = resolvePageSize(limit);
+
+        // 1. 랭킹 구간
+        HotRankingService.Page page = hotRankingService.getPage(cursor, pageSize);
+
+        // 2. 게시글 조회 + 랭킹 순서 정렬
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < page.getPostIds().size(); i++) {
+            rank.put(page.getPostIds().get(i), i);
+        }
+
+        List<PostListResponseDto.PostSummaryDto> posts =
+                postRepository.findPostSummariesByIds(page.getPostIds()).stream()
+                        .sorted(Comparator.comparing(summary -> rank.get(summary.getPostId())))
+                        .toList();
+
+        // 탈퇴한 회원 마스킹 처리
+        posts.forEach(PostListResponseDto.PostSummaryDto::maskDeletedUser);
+
+        // 좋아요 여부 표시
+        posts = likedPostCacheService.annotate(currentUserId, posts);
+
+        PostListResponseDto.PaginationInfo pagination = PostListResponseDto.PaginationInfo.builder()
+                .hasNext(page.isHasNext())
+                .limit(pageSize)
+                .sort("hot")
+                .cursor(page.getNextCursor())
+                .build();
+
+        log.info("인기 게시글 목록 조회 완료 - 조회된 게시글: {}개, hasNext: {}", posts.size(), page.isHasNext());
 
         return PostListResponseDto.builder()
                 .posts(posts)
@@ -144,41 +347,116 @@ public class PostService {
                 .build();
     }
 
+    /**
+     * 게시글 요약 일괄 조회 (스크롤 위치 복원, 북마크 화면 등)
+     * 1. ID 중복 제거 (요청 순서 유지), 최대 50개
+     * 2. 최신 피드 캐시에 있는 게시글은 캐시에서, 나머지는 PK IN 쿼리 1회로 조회
+     * 3. 요청 순서대로 정렬, 없거나 삭제된 ID는 missingIds로 반환
+     *
+     * - 상세 조회가 아니므로 조회수 증가 없음
+     */
+    public PostBatchResponseDto getPostsByIds(List<Long> postIds, Long currentUserId) {
+        log.info("게시글 일괄 조회 - 요청 ID: {}개, userId: {}", postIds.size(), currentUserId);
+
+        // 1. 중복 제거
+        Set<Long> requested = new LinkedHashSet<>();
+        postIds.stream().filter(Objects::nonNull).forEach(requested::add);
+
+        if (requested.size() > MAX_BATCH_SIZE) {
+            log.warn("게시글 일괄 조회 실패 - ID 수 초과: {}개 (최대 {}개)", requested.size(), MAX_BATCH_SIZE);
+            throw new CustomException(ErrorCode.TOO_MANY_IDS);
+        }
+
+        // 2. 캐시 조회 → 나머지 DB 조회 (캐시 항목은 이미 마스킹된 상태)
+        Map<Long, PostListResponseDto.PostSummaryDto> found = new HashMap<>(feedCacheService.findByIds(requested));
+
+        List<Long> uncached = requested.stream()
+                .filter(postId -> !found.containsKey(postId))
+                .toList();
+        if (!uncached.isEmpty()) {
+            for (PostListResponseDto.PostSummaryDto summary : postRepository.findPostSummariesByIds(uncached)) {
+                summary.maskDeletedUser(); // 탈퇴한 회원 마스킹 처리
+                found.put(summary.getPostId(), summary);
+            }
+        }
+
+        // 3. 요청 순서대로 정렬
+        List<PostListResponseDto.PostSummaryDto> posts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long postId : requested) {
+            PostListResponseDto.PostSummaryDto summary = found.get(postId);
+            if (summary != null) {
+                posts.add(summary);
+            } else {
+                missingIds.add(postId);
+            }
+        }
+
+        // 좋아요 여부 표시
+        posts = likedPostCacheService.annotate(currentUserId, posts);
+
+        log.info("게시글 일괄 조회 완료 - 조회: {}개 (캐시: {}개), 없음: {}개",
+                posts.size(), requested.size() - uncached.size(), missingIds.size());
+
+        return PostBatchResponseDto.builder()
+                .posts(posts)
+                .missingIds(missingIds)
+                .build();
+    }
+
     /**
      * 게시글 상세 조회 처리 흐름:
-     * 1. 게시글 조회
+     * 1. 게시글 조회 (본문/작성자는 상세 캐시, 통계/좋아요 여부는 매번 조회)
      * 2. 조회수 증가 (캐시만 업데이트)
-     * 3. 캐시된 조회수를 응답에 반영
+     * 3. 캐시된 조회수를 응답에 반영 (멀티 서버 모드면 스테이징 합계 포함)
+     * 4. 고유 방문자 기록 + 추정치 반영 (선택 기능)
      *
      * - 탈퇴한 회원 후처리 로직 추가
+     * - clientFingerprint: 비로그인 방문자 구분용 ("IP|User-Agent")
      */
-    public PostDetailResponseDto getPostDetail(Long postId, Long currentUserId) {
+    public PostDetailResponseDto getPostDetail(Long postId, Long currentUserId, String clientFingerprint) {
         log.info("게시글 상세 조회 - postId: {}, userId: {}", postId, currentUserId);
 
-        // 1. 게시글 조회
-        PostDetailResponseDto post = postRepository.findPostDetail(postId, currentUserId)
+        // 1. 게시글 본문/작성자 조회 (상세 캐시, 탈퇴한 회원 마스킹 완료된 상태)
+        PostDetailContentDto post = postDetailCacheService.getContent(postId)
                 .orElseThrow(() -> {
                     log.warn("게시글 조회 실패 - postId: {} (존재하지 않거나 삭제됨)", postId);
                     return new CustomException(ErrorCode.POST_NOT_FOUND);
                 });
 
-        // 탈퇴한 회원 마스킹 처리
-        post.getAuthor().maskDeletedUser();
+        // 1-1. 통계 + 좋아요 여부 (요청마다 조회), 다른 서버에서 삭제된 게시글이면 캐시 무효화
+        PostDetailOverlayDto overlay = postRepository.findPostDetailOverlay(postId, currentUserId, uniqueViewerService.isEnabled())
+                .orElseThrow(() -> {
+                    log.warn("게시글 조회 실패 - postId: {} (캐시 이후 삭제됨)", postId);
+                    postDetailCacheService.evict(postId);
+                    return new CustomException(ErrorCode.POST_NOT_FOUND);
+                });
+        PostDetailResponseDto.StatsInfo stats = overlay.getStats();
 
         // 2. 조회수 증가 (인메모리 캐시만 업데이트, DB는 스케줄러가 동기화)
-        Long cachedViewCount = viewCountCacheService.incrementViewCount(postId);
+        long cachedViewCount = viewCountCacheService.incrementViewCount(postId);
+        viewHistoryService.recordView(postId); // 시간대별 조회수 (1시간 단위 롤업)
+
+        // 2-1. 멀티 서버 모드: 다른 서버들이 발행했지만 아직 합산되지 않은 증가분 (같은 읽기 트랜잭션 스냅샷)
+        long stagedViewCount = viewCountClusterService.getStagedViewCount(postId);
 
-        // 3. 응답 DTO에 반영 (DB값 + 캐시 증가분)
+        // 2-2. 고유 방문자 기록 (저장된 스케치 + 병합 전 스케치로 추정, 비활성화면 null)
+        Long uniqueViewerCount = uniqueViewerService.recordAndEstimate(
+                postId, currentUserId, clientFingerprint, stats.getUniqueViewerSketch());
+
+        // 3. 응답 DTO에 반영 (DB값 + 스테이징 + 캐시 증가분, 좋아요 수도 반영 대기 증감분 포함)
         PostDetailResponseDto.StatsInfo updatedStats = PostDetailResponseDto.StatsInfo.builder()
-                .likeCount(post.getStats().getLikeCount())
-                .commentCount(post.getStats().getCommentCount())
-                .viewCount(post.getStats().getViewCount() + cachedViewCount)
+                .likeCount(Math.max(0L, stats.getLikeCount() + likeCountCacheService.getPendingLikeCount(postId)))
+                .commentCount(stats.getCommentCount())
+                .viewCount(stats.getViewCount() + stagedViewCount + cachedViewCount)
+                .uniqueViewerCount(uniqueViewerCount)
                 .build();
 
-        log.info("게시글 상세 조회 완료 - postId: {}, 조회수: {} (DB: {}, 캐시: +{})",
+        log.info("게시글 상세 조회 완료 - postId: {}, 조회수: {} (DB: {}, 스테이징: +{}, 캐시: +{})",
                 postId,
                 updatedStats.getViewCount(),
-                post.getStats().getViewCount(),
+                stats.getViewCount(),
+                stagedViewCount,
                 cachedViewCount);
 
         return PostDetailResponseDto.builder()
@@ -190,11 +468,31 @@ public class PostService {
                 .updatedAt(post.getUpdatedAt())
                 .author(post.getAuthor())
                 .stats(updatedStats)
-                .isLiked(post.getIsLiked())
-                .isAuthor(post.getIsAuthor())
+                .isLiked(overlay.getIsLiked())
+                .isAuthor(post.getAuthorId().equals(currentUserId))
                 .build();
     }
 
+    /**
+     * 게시글 상세 ETag
+     * - 수정 시각(제목/본문/이미지) + 작성자 표시 정보 + 좋아요/댓글 수 + 사용자별 플래그
+     * - 조회수는 제외 (조회할 때마다 바뀌므로 포함하면 304가 나올 수 없음, 304여도 조회수는 증가)
+     */
+    public String getPostDetailETag(PostDetailResponseDto post) {
+        return ETagUtil.weak(
+                "post",
+                post.getPostId(),
+                post.getUpdatedAt(),
+                post.getImageUrl(), // 이미지만 교체하면 게시글 수정 시각이 바뀌지 않음
+                post.getAuthor().getNickname(),
+                post.getAuthor().getProfileImage(),
+                post.getStats().getLikeCount(),
+                post.getStats().getCommentCount(),
+                post.getIsLiked(),
+                post.getIsAuthor()
+        );
+    }
+
     /**
      * 게시글 수정 처리 흐름:
      * 1. 게시글 조회 및 권한 확인
@@ -234,6 +532,18 @@ public class PostService {
             // 4. 게시글 업데이트 시도
             updatePostFields(post, request, imageUrl);
 
+            // 검색 색인용 본문 (제목/본문이 바뀐 경우만, 이미지만 바뀌면 본문을 읽지 않음)
+            String searchContent = findSearchContent(postId, request);
+
+            // 커밋 후 피드 캐시 항목 갱신 (제목 변경 반영), 상세 캐시 무효화, 검색 색인 갱신
+            TransactionUtil.afterCommit(() -> {
+                feedCacheService.refreshEntry(postId);
+                postDetailCacheService.evict(postId);
+                if (searchContent != null) {
+                    postSearchService.index(postId, post.getTitle(), searchContent, post.getUpdatedAt());
+                }
+            });
+
             log.info("게시글 수정 완료 - postId: {}", postId);
 
             return new PostUpdateResponseDto(postId);
@@ -281,6 +591,14 @@ public class PostService {
         post.softDelete();
         log.info("게시글 Soft Delete 완료 - postId: {}", postId);
 
+        // 커밋 후 피드 캐시에서 제거, 상세/좋아요 사용자 목록 캐시 무효화, 검색 색인에서 제거
+        TransactionUtil.afterCommit(() -> {
+            feedCacheService.remove(postId);
+            postDetailCacheService.evict(postId);
+            likerCacheService.evict(postId);
+            postSearchService.remove(postId);
+        });
+
         // 3. 게시글 이미지 삭제 (있는 경우에만)
         int deletedImages = postImageRepository.softDeleteByPostId(postId, LocalDateTime.now());
         if (deletedImages > 0) {
@@ -338,6 +656,19 @@ public class PostService {
         return requestImageUrl;
     }
 
+    // 검색 색인용 본문 (제목/본문 수정이 없으면 null)
+    private String findSearchContent(Long postId, PostUpdateRequestDto request) {
+        if (request.getContent() != null) {
+            return request.getContent();
+        }
+        if (request.getTitle() == null) {
+            return null;
+        }
+        return postContentRepository.findById(postId)
+                .map(PostContent::getContent)
+                .orElse("");
+    }
+
     /**
      * 게시글 필드 업데이트
      */
@@ -348,16 +679,22 @@ public class PostService {
             log.debug("제목 수정 - postId: {}, title: {}", post.getId(), request.getTitle());
         }
 
-        // 내용 수정
+        // 내용 수정 (post_contents만 바뀌므로 posts 수정 시각은 직접 갱신)
         if (request.getContent() != null) {
-            post.updateContent(request.getContent());
-            log.debug("내용 수정 - postId: {}", post.getId());
+            PostContent postContent = postContentRepository.findById(post.getId())
+                    .orElseGet(() -> postContentRepository.save(
+                            new PostContent(post, request.getContent(), compressThreshold)));
+            postContent.updateContent(request.getContent(), compressThreshold);
+            post.updateSummary(ExcerptUtil.excerpt(request.getContent()), ExcerptUtil.wordCount(request.getContent()));
+            log.debug("내용 수정 - postId: {}, 본문: {}B (저장: {}B)",
+                    post.getId(), postContent.getRawLength(), postContent.getBody().length);
         }
 
         // 이미지 처리
         if (imageUrl != null) {
             if (imageUrl.isEmpty()) {
                 // 이미지 삭제됨 (이미 Soft Delete 완료)
+                post.updateThumbnail(null);
                 log.debug("이미지 삭제 완료 - postId: {}", post.getId());
             } else {
                 // 새 이미지 저장
@@ -368,6 +705,7 @@ public class PostService {
                         .isMain(true)
                         .build();
                 postImageRepository.save(newImage);
+                post.updateThumbnail(imageUrl);
                 log.debug("새 이미지 저장 완료 - postId: {}, imageUrl: {}", post.getId(), imageUrl);
             }
         }
@@ -379,4 +717,59 @@ public class PostService {
             log.info("이미지 Soft Delete 완료 - postId: {}", postId);
         }
     }
+
+    /**
+     * 목록 커서 해석 (before/after/from 중 하나)
+     * - from: "yyyy-MM-dd HH:mm:ss", ISO(yyyy-MM-ddTHH:mm:ss) 또는 날짜(yyyy-MM-dd → 그날 끝까지)
+     */
+    private FeedCursor resolveFeedCursor(Long before, Long after, String from) {
+        int specified = (before != null ? 1 : 0) + (after != null ? 1 : 0) + (from != null ? 1 : 0);
+        if (specified > 1) {
+            log.warn("게시글 목록 조회 실패 - 커서 중복 지정: before={}, after={}, from={}", before, after, from);
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        if (after != null) {
+            return new FeedCursor(after, true);
+        }
+        if (from != null) {
+            return new FeedCursor(postTimeIndexService.resolveBefore(parseFeedTime(from)), false);
+        }
+        return new FeedCursor(before, false);
+    }
+
+    private LocalDateTime parseFeedTime(String from) {
+        try {
+            if (from.length() == 10) {
+                return LocalDate.parse(from).atTime(LocalTime.MAX);
+            }
+            return LocalDateTime.parse(from.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            log.warn("게시글 목록 조회 실패 - 잘못된 시각: from={}", from);
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    /**
+     * 해석된 목록 커서
+     * - postId: 기준 게시글 ID (null이면 최신부터)
+     * - newer: true면 기준보다 새 게시글 방향
+     */
+    private static class FeedCursor {
+        private final Long postId;
+        private final boolean newer;
+
+        private FeedCursor(Long postId, boolean newer) {
+            this.postId = postId;
+            this.newer = newer;
+        }
+    }
+
+    // 페이지 크기 (기본 20, 최대 50)
+    private int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
 }
@@ -0,0 +1,160 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostTimeDto;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.global.util.IdTimeIndex;
+import ktb.cloud_james.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날짜로 이동(from=시각)용 게시글 시각 색인
+ *
+ * 배경:
+ * - posts에는 created_at 인덱스가 없음 → 시각 조건 조회는 범위 스캔/정렬이 필요
+ * - 게시글 ID는 작성 순서대로 증가 → 시각을 ID 경계로 바꾸면 기존 PK 커서(id < 경계) 조회 한 번으로 끝남
+ *
+ * 전략:
+ * 1. 시작 후 백그라운드에서 전체 (ID, 작성 시각)을 PK 순서로 적재 (IdTimeIndex, 게시글당 8바이트)
+ * 2. 짧은 주기(기본 10초)로 마지막 ID 이후 게시글만 추가 (이 서버/다른 서버 작성 모두)
+ * 3. 요청 시각이 색인의 마지막 시각 이후면 그 자리에서 한 번 더 추가 적재 (방금 작성된 게시글 누락 방지)
+ *  - 현재 이후 시각(from=2099-01-01 등)은 적재 없이 바로 최신부터, 요청 스레드 적재는 서버 전체 1초에 1번까지
+ *    (클라이언트가 요청마다 DB 조회를 일으키지 못하도록)
+ *  - DB 조회 중에는 색인 잠금을 잡지 않음 → 다른 요청의 경계 계산은 대기 없이 진행
+ * - 적재 전 요청은 503 (feed_seek_not_ready), before/after 커서는 색인과 무관하게 동작
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostTimeIndexService {
+
+    private static final long INLINE_CATCH_UP_INTERVAL_MILLIS = 1000;
+
+    private final PostRepository postRepository;
+
+    @Value("${feed.seek.enabled:true}")
+    private boolean enabled;
+
+    @Value("${feed.seek.batch-size:10000}")
+    private int batchSize;
+
+    private final IdTimeIndex index = new IdTimeIndex(); // index 자체로 동기화
+    private final Object catchUpLock = new Object();     // 추가 적재는 한 번에 하나만
+    private final AtomicLong lastInlineCatchUp = new AtomicLong();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("post-time-index-init").start(() -> {
+            try {
+                long started = System.currentTimeMillis();
+                catchUp();
+                ready = true;
+                synchronized (index) {
+                    log.info("게시글 시각 색인 적재 완료 - {}건, {}KB, {}ms",
+                            index.size(), index.getSizeInBytes() / 1024, System.currentTimeMillis() - started);
+                }
+            } catch (Exception e) {
+                log.error("게시글 시각 색인 적재 실패 - 주기 동기화에서 재시도", e);
+            }
+        });
+    }
+
+    /**
+     * 시각 → 커서 경계 (이 ID보다 작은 게시글이 시각 이전 게시글)
+     * @return 시각 이후 게시글이 없으면 null (최신 게시글부터)
+     */
+    public Long resolveBefore(LocalDateTime time) {
+        if (!enabled || !ready) {
+            throw new CustomException(ErrorCode.FEED_SEEK_NOT_READY);
+        }
+
+        long boundary;
+        synchronized (index) {
+            boundary = index.firstIdAfter(time);
+        }
+
+        if (boundary < 0 && time.isBefore(LocalDateTime.now()) && tryAcquireInlineCatchUp()) {
+            catchUp(); // 마지막 동기화 이후 작성된 게시글 반영
+            synchronized (index) {
+                boundary = index.firstIdAfter(time);
+            }
+        }
+        return boundary < 0 ? null : boundary;
+    }
+
+    /**
+     * 시각 → ID 하한 (시각 이후 작성된 게시글은 모두 이 ID 이상)
+     * - 주기 작업(인기 랭킹 후보)용: 추가 적재 없이 현재 색인만 사용
+     * - 시각 이후 게시글이 색인에 없으면 마지막 ID 다음 (마지막 동기화 이후 작성된 게시글만)
+     * @return 비활성/적재 전이면 null (하한 없음)
+     */
+    public Long resolveLowerBound(LocalDateTime time) {
+        if (!enabled || !ready) {
+            return null;
+        }
+        synchronized (index) {
+            long boundary = index.firstIdAfter(time);
+            return boundary < 0 ? index.getLastId() + 1 : boundary;
+        }
+    }
+
+    // 요청 스레드 추가 적재 허용 여부 (직전 적재 후 1초가 지났을 때 한 요청만)
+    private boolean tryAcquireInlineCatchUp() {
+        long now = System.currentTimeMillis();
+        long last = lastInlineCatchUp.get();
+        return now - last >= INLINE_CATCH_UP_INTERVAL_MILLIS && lastInlineCatchUp.compareAndSet(last, now);
+    }
+
+    /**
+     * 새 게시글 추가 적재 (기본 10초마다)
+     * - 적재 실패로 ready가 아니면 처음부터 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${feed.seek.sync-interval:10000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        catchUp();
+        ready = true;
+    }
+
+    /**
+     * 마지막 ID 이후 게시글 적재
+     * - catchUpLock으로 한 번에 하나만 실행 → 같은 행을 두 번 추가하지 않음
+     * - 색인 잠금은 마지막 ID 읽기/추가할 때만 (DB 조회 중에는 경계 계산을 막지 않음)
+     */
+    private void catchUp() {
+        synchronized (catchUpLock) {
+            while (true) {
+                long lastId;
+                synchronized (index) {
+                    lastId = index.getLastId();
+                }
+
+                List<PostTimeDto> rows = postRepository.findPostTimes(lastId, batchSize);
+                synchronized (index) {
+                    for (PostTimeDto row : rows) {
+                        index.append(row.getPostId(), row.getCreatedAt());
+                    }
+                }
+                if (rows.size() < batchSize) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.global.util.HyperLogLog;
+import ktb.cloud_james.community.repository.PostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 고유 방문자 수 서비스 (HyperLogLog)
+ *
+ * 배경:
+ * - 조회수(view_count)는 상세 조회마다 증가 → 새로고침/크롤러에 의해 부풀려짐
+ * - 고유 방문자 수는 같은 방문자의 반복 조회를 한 번으로 셈 (선택 기능, scheduler.view-count-sync.unique-viewer.enabled)
+ *
+ * 전략:
+ * 1. 방문자 키: 로그인 사용자는 "u:{userId}", 비로그인은 "c:{IP|User-Agent}"
+ * 2. 조회 시 게시글별 인메모리 스케치(1KB 고정)에 키 추가 (DB 쓰기 없음)
+ * 3. 조회수 동기화 주기에 post_stats.unique_viewer_sketch와 병합 (SELECT ... FOR UPDATE → 레지스터별 최댓값 → UPDATE)
+ *  - 병합은 멱등(최댓값)이라 여러 서버가 각자 병합해도 중복 집계 없음 (멀티 서버 모드에서도 그대로 사용)
+ * 4. 응답: 저장된 스케치 + 아직 병합 전인 인메모리 스케치를 합쳐 추정
+ *
+ * 단점:
+ * - 추정치 (표준 오차 약 3%)
+ * - 비정상 종료 시 동기화 전 스케치는 유실 (조회수와 달리 저널 없음, 추정 지표라 허용)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UniqueViewerService {
+
+    private final PostStatsRepository postStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.view-count-sync.unique-viewer.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scheduler.view-count-sync.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 병합 대기 스케치
+     * - Key: postId
+     * - Value: 마지막 동기화 이후 방문자 스케치
+     * - 추가/떼어가기 모두 compute/remove로 처리 → 떼어간 스케치에 늦게 추가되는 키 없음
+     */
+    private final ConcurrentHashMap<Long, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 방문자 기록 후 고유 방문자 수 추정
+     * @param persistedSketch post_stats에 저장된 스케치 (없으면 null)
+     * @return 고유 방문자 수 (비활성화면 null)
+     */
+    public Long recordAndEstimate(Long postId, Long userId, String clientFingerprint, byte[] persistedSketch) {
+        if (!enabled) {
+            return null;
+        }
+
+        HyperLogLog pending = pendingSketches.compute(postId, (key, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offer(viewerKey(userId, clientFingerprint));
+            return target;
+        });
+
+        HyperLogLog merged = HyperLogLog.fromBytes(persistedSketch);
+        merged.merge(pending);
+        return merged.estimate();
+    }
+
+    /**
+     * 인메모리 스케치를 DB 스케치에 병합 (조회수 동기화 주기에 함께 실행)
+     * - 청크 단위 트랜잭션, 실패한 청크는 인메모리로 되돌려 다음 주기 재시도
+     */
+    public void syncSketchesToDB() {
+        if (!enabled || pendingSketches.isEmpty()) {
+            return;
+        }
+
+        Map<Long, HyperLogLog> drained = new HashMap<>();
+        for (Long postId : pendingSketches.keySet()) {
+            HyperLogLog sketch = pendingSketches.remove(postId);
+            if (sketch != null) {
+                drained.put(postId, sketch);
+            }
+        }
+
+        int failed = 0;
+        for (Map<Long, HyperLogLog> chunk : partition(drained)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> mergeChunk(chunk));
+            } catch (Exception e) {
+                failed += chunk.size();
+                chunk.forEach(this::restore);
+                log.error("고유 방문자 스케치 병합 예외 (다음 주기 재시도) - 게시글: {}건", chunk.size(), e);
+            }
+        }
+
+        log.info("고유 방문자 스케치 병합 완료 - 성공: {}건, 실패: {}건", drained.size() - failed, failed);
+    }
+
+    // 청크 하나 병합 (트랜잭션 안에서 호출, 행 잠금으로 다른 서버의 동시 병합과 직렬화)
+    private void mergeChunk(Map<Long, HyperLogLog> chunk) {
+        Map<Long, byte[]> stored = postStatsRepository.lockUniqueViewerSketches(chunk.keySet());
+
+        Map<Long, HyperLogLog> merged = new HashMap<>();
+        for (Map.Entry<Long, byte[]> entry : stored.entrySet()) {
+            HyperLogLog sketch = HyperLogLog.fromBytes(entry.getValue());
+            sketch.merge(chunk.get(entry.getKey()));
+            merged.put(entry.getKey(), sketch);
+        }
+
+        // 조회 결과에 없는 게시글(삭제됨)은 버림
+        postStatsRepository.updateUniqueViewerSketches(merged);
+    }
+
+    // 병합 실패한 스케치를 인메모리로 되돌림 (그 사이 새로 생긴 스케치와 합침)
+    private void restore(Long postId, HyperLogLog sketch) {
+        pendingSketches.merge(postId, sketch, (current, failed) -> {
+            current.merge(failed);
+            return current;
+        });
+    }
+
+    private List<Map<Long, HyperLogLog>> partition(Map<Long, HyperLogLog> sketches) {
+        List<Map<Long, HyperLogLog>> chunks = new ArrayList<>();
+        Map<Long, HyperLogLog> current = new HashMap<>();
+
+        for (Map.Entry<Long, HyperLogLog> entry : sketches.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() >= batchSize) {
+                chunks.add(current);
+                current = new HashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+
+        return chunks;
+    }
+
+    private static String viewerKey(Long userId, String clientFingerprint) {
+        return userId != null ? "u:" + userId : "c:" + clientFingerprint;
+    }
+}
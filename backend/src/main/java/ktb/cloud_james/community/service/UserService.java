@@ -11,6 +11,7 @@ import ktb.cloud_james.community.global.exception.ErrorCode;
 import ktb.cloud_james.community.global.security.JwtTokenProvider;
 import ktb.cloud_james.community.global.util.CookieUtil;
 import ktb.cloud_james.community.global.util.TokenUtil;
+import ktb.cloud_james.community.global.util.TransactionUtil;
 import ktb.cloud_james.community.repository.UserRepository;
 import ktb.cloud_james.community.repository.UserTokenRepository;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenUtil tokenUtil;
+    private final PostDetailCacheService postDetailCacheService;
 
     /**
      * 회원가입 처리 흐름:
@@ -208,6 +210,9 @@ public class UserService {
             // 5. 사용자 정보 업데이트 (JPA Dirty Checking)
             updateUserFields(user, request, imageUrl);
 
+            // 커밋 후 작성한 게시글의 상세 캐시 무효화 (닉네임/프로필 이미지 반영)
+            TransactionUtil.afterCommit(() -> postDetailCacheService.evictByAuthor(userId));
+
             log.info("회원정보 수정 완료 - userId: {}", userId);
 
             return new UserUpdateResponseDto(userId);
@@ -288,6 +293,9 @@ public class UserService {
         user.withdraw(); // deleted_at 기록, is_active = false
         log.info("User Soft Delete 완료 - userId: {}", userId);
 
+        // 커밋 후 작성한 게시글의 상세 캐시 무효화 ("탈퇴한 회원" 표시)
+        TransactionUtil.afterCommit(() -> postDetailCacheService.evictByAuthor(userId));
+
         // 4. Refresh Token 삭제 (로그아웃 처리)
         userTokenRepository.findByUser(user)
                 .ifPresent(userToken -> {
@@ -1,34 +1,55 @@
 package ktb.cloud_james.community.service;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import ktb.cloud_james.community.global.util.CounterJournal;
+import ktb.cloud_james.community.global.util.LongCounterMap;
 import ktb.cloud_james.community.repository.PostStatsRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
 
 
 /**
  * 조회수 캐시 관리 서비스
  *
  * 전략:
- * 1. 인메모리 캐시 (ConcurrentHashMap<postId, AtomicLong>)
+ * 1. 인메모리 캐시 (LongCounterMap: postId → 증가분, 항목 객체 없는 원시 배열 맵)
  * 2. 조회 시마다 캐시 증가 (DB 업데이트 X)
- * 3. 스케줄러로 주기적 DB 동기화 (30초마다)
- *  - 주기는 아마 데이터 테스트 받아보고 조정해야할 듯 싶습니다. 기본적으로 30초 정도면 괜찮을 것 같아 설정
+ * 3. 스케줄러로 주기적 DB 동기화 (ViewCountFlushScheduler)
+ *  - 기본 30초 주기 + 대기 게시글 수/증가분이 임계치를 넘으면 조기 동기화, DB가 느리면 주기를 늘림
+ * 4. 동기화는 Drain 방식 (키별 getAndSet(0)으로 증가분을 원자적으로 떼어감)
+ *  - 떼어간 이후 들어온 조회수는 카운터에 그대로 남아 다음 주기에 반영 (유실 없음)
+ *  - 요청 스레드는 CAS만 사용 (스트라이프 확장/정리 순간을 제외하면 블로킹 없음)
+ * 5. DB 반영은 청크 단위 다중 행 UPDATE (게시글 수천 건도 청크 수만큼의 round trip)
+ * 6. 증가분은 로컬 저널(CounterJournal, 메모리 맵 파일)에도 기록
+ *  - 비정상 종료(kill, OOM) 후 재시작 시 저널을 post_stats에 재반영
+ *  - DB 반영 성공 후 저널 비움 → 동기화 주기를 늘려도 유실 범위가 커지지 않음
+ * 7. 멀티 서버 모드에서는 post_stats 대신 post_stats_delta 스테이징 테이블로 발행 (ViewCountClusterService 참고)
+ * 8. 고유 방문자 스케치(UniqueViewerService), 시간대별 조회수(ViewHistoryService)도 같은 동기화 주기에 반영
  *
  * 장점:
  * - DB 부하 감소 (30초에 1번만 UPDATE)
- * - 동시성 안전 (AtomicLong)
+ * - 동시성 안전 (슬롯 단위 CAS)
+ * - 조회마다 객체 할당 없음 (게시글 100만 건 기준 유지 메모리 약 88MB → 32MB, LongCounterMapBenchmark 참고)
  *
  * 단점: (현재는 단일 DB + 단일 서버, 조회수는 크게 중요한 실시간성 데이터는 아니어서 단점 상쇄 가능)
- * - 서버 재시작 시 동기화 전 데이터 손실 가능
- * - 멀티 서버 환경에서는 각 서버마다 별도 캐시 (향후 Redis 같은거 활용 한다면 전환 필요)
+ * - 저널 파일이 남지 않는 환경(컨테이너 재생성 등)에서는 동기화 전 데이터 손실 가능 → 저널 디렉토리는 볼륨에 두어야 함
+ * - 멀티 서버 환경에서는 각 서버마다 별도 캐시 → 멀티 서버 모드(스테이징 + 단일 서버 합산)로 보완
  */
 @Service
 @Slf4j
@@ -36,26 +57,92 @@ import java.util.concurrent.atomic.AtomicLong;
 public class ViewCountCacheService {
 
     private final PostStatsRepository postStatsRepository;
+    private final ViewCountClusterService viewCountClusterService;
+    private final UniqueViewerService uniqueViewerService;
+    private final ViewHistoryService viewHistoryService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 청크당 게시글 수 (다중 행 UPDATE 1회 = 1 round trip)
+    @Value("${scheduler.view-count-sync.batch-size:500}")
+    private int batchSize;
+
+    // 크래시 복구용 저널 설정
+    @Value("${scheduler.view-count-sync.journal.enabled:true}")
+    private boolean journalEnabled;
+
+    @Value("${scheduler.view-count-sync.journal.dir:data/journal}")
+    private String journalDir;
+
+    @Value("${scheduler.view-count-sync.journal.segment-size:16777216}")
+    private int journalSegmentSize;
+
+    private CounterJournal journal = CounterJournal.disabled();
 
     /**
      * 조회수 캐시
      * - Key: postId
-     * - Value: 누적 조회수 (AtomicLong으로 동시성 보장)
+     * - Value: 아직 DB에 반영되지 않은 조회수 증가분 (슬롯 단위 CAS로 동시성 보장)
      */
-    private final ConcurrentHashMap<Long, AtomicLong> viewCountCache = new ConcurrentHashMap<>();
-
-    // 조회수 증가 (인메모리 캐시만 업데이트)
-    public Long incrementViewCount(Long postId) {
-        // computeIfAbsent: postId가 없으면 새로 생성 (AtomicLong(0))
-        AtomicLong count = viewCountCache.computeIfAbsent(
-                postId,
-                k -> new AtomicLong(0)
-        );
+    private final LongCounterMap viewCountCache = new LongCounterMap();
+
+    // 캐시에 쌓인 증가분 합계 (조기 동기화 판단용, 요청 스레드 경합 없는 LongAdder)
+    private final LongAdder pendingDelta = new LongAdder();
+
+    // 저널에 넘길 캐시 반영 함수 (한 번만 생성 → 조회마다 람다/박싱 할당 없음)
+    private final LongBinaryOperator pendingViewCountAdder = this::addPendingViewCount;
+
+    // 동기화 누적 통계 (Drain된 양 vs 실제 DB 반영된 양)
+    private final AtomicLong drainedTotal = new AtomicLong();   // 캐시에서 떼어간 조회수
+    private final AtomicLong persistedTotal = new AtomicLong(); // DB 반영 성공
+    private final AtomicLong droppedTotal = new AtomicLong();   // 게시글 없음 (삭제된 게시글 등)
+    private final AtomicLong restoredTotal = new AtomicLong();  // DB 예외로 캐시에 되돌린 양
+
+    /**
+     * 시작 시 저널 열기 + 이전 프로세스가 남긴 증가분 복구
+     * - 웹 서버가 요청을 받기 전(빈 초기화 단계)에 실행
+     * - 복구분은 바로 DB에 반영, 실패한 청크는 캐시 + 새 저널로 옮겨 다음 주기에 재시도
+     */
+    @PostConstruct
+    public void recoverFromJournal() {
+        if (!journalEnabled) {
+            log.info("조회수 저널 비활성화 - 비정상 종료 시 동기화 전 조회수 유실 가능");
+            return;
+        }
+
+        try {
+            journal = CounterJournal.open(Path.of(journalDir), "view-count", journalSegmentSize);
+        } catch (IOException | RuntimeException e) {
+            log.error("조회수 저널 열기 실패 - 저널 없이 동작: dir={}", journalDir, e);
+            journal = CounterJournal.disabled();
+            return;
+        }
+
+        Map<Long, Long> recovered = journal.recover();
+        if (recovered.isEmpty()) {
+            return;
+        }
+
+        log.warn("========== 조회수 저널 복구 시작 ==========");
+        log.warn("복구 대상 게시글 수: {}, 조회수 합계: {}", recovered.size(), sum(recovered));
 
-        // 원자적 1 증가
-        long newCount = count.incrementAndGet();
+        drainedTotal.addAndGet(sum(recovered));
+        Map<Long, Long> failed = persist(recovered);
 
-        log.debug("조회수 증가 (캐시) - postId: {}, count: {}", postId, newCount);
+        // 복구분은 DB(또는 실패분은 캐시 + 새 저널)로 옮겨졌으므로 기존 저널 비움
+        journal.truncateAll();
+        restore(failed);
+
+        log.warn("========== 조회수 저널 복구 완료 ==========");
+        log.warn("DB 반영: {}건, 재시도 대기: {}건", recovered.size() - failed.size(), failed.size());
+    }
+
+    // 조회수 증가 (인메모리 캐시 + 저널만 업데이트)
+    public long incrementViewCount(long postId) {
+        long newCount = journal.append(postId, 1, pendingViewCountAdder);
+
+        if (log.isDebugEnabled()) { // 로그 인자 박싱 방지 (조회마다 할당 없음)
+            log.debug("조회수 증가 (캐시) - postId: {}, count: {}", postId, newCount);
+        }
 
         return newCount;
     }
@@ -64,59 +151,139 @@ public class ViewCountCacheService {
      * 캐시된 조회수 조회(DB 반영 전)
      */
     public Long getCachedViewCount(Long postId) {
-        AtomicLong count = viewCountCache.get(postId);
-        return count != null ? count.get() : 0L;
+        return viewCountCache.get(postId);
+    }
+
+    // 동기화 대기 게시글 수 (정리 전의 값 0인 키 포함 근사치)
+    public int getPendingKeyCount() {
+        return viewCountCache.size();
+    }
+
+    // 동기화 대기 조회수 합계
+    public long getPendingDelta() {
+        return pendingDelta.sum();
+    }
+
+    /**
+     * 동기화 누적 통계 조회
+     * - drained == persisted + dropped + restored 이면 유실 없음
+     * - journalOverflow: 저널 세그먼트가 가득 차 크래시 복구 대상에서 빠진 기록 수
+     */
+    public SyncStats getSyncStats() {
+        return new SyncStats(
+                drainedTotal.get(),
+                persistedTotal.get(),
+                droppedTotal.get(),
+                restoredTotal.get(),
+                viewCountCache.size(),
+                pendingDelta.sum(),
+                viewCountCache.estimatedMemoryBytes(),
+                journal.getOverflowCount()
+        );
     }
 
     /**
-     * 주기적 DB 동기화 (30초마다 실행)
+     * DB 동기화 (ViewCountFlushScheduler가 주기/임계치에 따라 호출)
      *
-     * @Scheduled(fixedDelay = 30_000)
-     * - 이전 작업 종료 후 30초 대기
-     * - cron보다 안전 (이전 작업이 길어져도 중복 실행 방지)
+     * synchronized: 스케줄러와 종료 훅이 동시에 Drain하지 않도록 보장
+     * 트랜잭션: 청크 단위 (batch-size건씩 다중 행 UPDATE 1회 + 커밋, 실패한 청크만 재시도)
+     * 저널: Drain 직전 세그먼트 봉인, 반영 후 봉인된 세그먼트 비움
+     * @return 모든 청크가 반영되었으면 true (실패한 청크가 있으면 false → 스케줄러 백오프)
      */
-    @Scheduled(fixedDelay = 30_000)  // 30,000ms
-    @Transactional
-    public void syncViewCountsToDB() {
+    public synchronized boolean syncViewCountsToDB() {
+        // 고유 방문자 스케치, 시간대별 조회수도 같은 주기에 반영 (비활성화면 즉시 반환)
+        uniqueViewerService.syncSketchesToDB();
+        viewHistoryService.syncToDB();
+
         if (viewCountCache.isEmpty()) {
             log.debug("동기화할 조회수 없음");
-            return;
+            return true;
+        }
+
+        // 1. 저널 세그먼트 봉인 + 키별 증가분 Drain (이후 들어오는 조회수는 다음 주기로)
+        int sealedSegment = journal.seal();
+        Map<Long, Long> drained = drainPendingViewCounts();
+        if (drained.isEmpty()) {
+            journal.truncate(sealedSegment);
+            log.debug("동기화할 조회수 없음 (유휴 카운터 정리만 수행)");
+            return true;
         }
 
+        long drainedSum = sum(drained);
+        drainedTotal.addAndGet(drainedSum);
+
         log.info("========== 조회수 DB 동기화 시작 ==========");
-        log.info("동기화 대상 게시글 수: {}", viewCountCache.size());
+        log.info("동기화 대상 게시글 수: {}, 조회수 합계: {}", drained.size(), drainedSum);
 
-        int successCount = 0;
-        int failCount = 0;
+        // 2. 청크 단위 DB 반영
+        Map<Long, Long> failed = persist(drained);
 
-        // 캐시 순회하며 DB 업데이트
-        for (Map.Entry<Long, AtomicLong> entry : viewCountCache.entrySet()) {
-            Long postId = entry.getKey();
-            Long cachedCount = entry.getValue().get();
+        // 3. 실패분은 캐시 + 활성 저널로 되돌린 뒤 봉인된 세그먼트 비움
+        restore(failed);
+        journal.truncate(sealedSegment);
 
+        log.info("========== 조회수 DB 동기화 완료 ==========");
+        log.info("성공: {}건, 실패: {}건, 누적 통계: {}",
+                drained.size() - failed.size(), failed.size(), getSyncStats());
+
+        return failed.isEmpty();
+    }
+
+    /**
+     * 증가분 DB 반영 (청크마다 짧은 트랜잭션으로 커밋 → 커넥션 장시간 점유 방지)
+     * @return DB 예외로 반영하지 못한 증가분 (다음 주기 재시도 대상)
+     */
+    private Map<Long, Long> persist(Map<Long, Long> deltas) {
+        Map<Long, Long> failed = new HashMap<>();
+
+        for (Map<Long, Long> chunk : partition(deltas, batchSize)) {
             try {
-                // DB에 누적 조회수 추가
-                int updated = postStatsRepository.incrementViewCount(postId, cachedCount);
+                Long persisted = transactionTemplate.execute(status -> flushChunk(chunk));
+                long chunkSum = sum(chunk);
+                long dropped = chunkSum - (persisted != null ? persisted : 0L);
+
+                persistedTotal.addAndGet(chunkSum - dropped);
+                droppedTotal.addAndGet(dropped);
 
-                if (updated > 0) {
-                    successCount++;
-                    log.debug("조회수 동기화 성공 - postId: {}, count: +{}", postId, cachedCount);
-                } else {
-                    failCount++;
-                    log.warn("조회수 동기화 실패 - postId: {} (게시글 없음)", postId);
-                }
+                log.debug("조회수 청크 동기화 성공 - 게시글: {}건, count: +{}", chunk.size(), chunkSum);
 
             } catch (Exception e) {
-                failCount++;
-                log.error("조회수 동기화 예외 - postId: {}", postId, e);
+                failed.putAll(chunk);
+                log.error("조회수 청크 동기화 예외 (다음 주기 재시도) - 게시글: {}건", chunk.size(), e);
             }
         }
 
-        // 동기화 완료 후 캐시 초기화
-        viewCountCache.clear();
+        return failed;
+    }
 
-        log.info("========== 조회수 DB 동기화 완료 ==========");
-        log.info("성공: {}건, 실패: {}건", successCount, failCount);
+    // 반영 실패한 증가분을 캐시 + 활성 저널로 되돌림
+    private void restore(Map<Long, Long> failed) {
+        failed.forEach((postId, delta) -> journal.append(postId, delta, pendingViewCountAdder));
+        restoredTotal.addAndGet(sum(failed));
+    }
+
+    /**
+     * 청크 하나를 다중 행 UPDATE 1회로 반영 (트랜잭션 안에서 호출)
+     * - 매칭 행 수가 청크 크기보다 작으면 (삭제된 게시글 포함) 존재하는 게시글만 골라 반영량 계산
+     * - 멀티 서버 모드: 스테이징 테이블에 다중 행 INSERT 1회 (post_stats 반영은 합산 서버가 담당)
+     * @return 실제 DB에 반영(발행)된 조회수 합계
+     */
+    private Long flushChunk(Map<Long, Long> chunk) {
+        if (viewCountClusterService.isEnabled()) {
+            return viewCountClusterService.publish(chunk);
+        }
+
+        int updated = postStatsRepository.bulkIncrementViewCounts(chunk);
+        if (updated == chunk.size()) {
+            return sum(chunk);
+        }
+
+        List<Long> existing = postStatsRepository.findExistingPostIds(chunk.keySet());
+        log.warn("조회수 동기화 일부 누락 - 청크: {}건, 반영: {}건 (게시글 없음)", chunk.size(), existing.size());
+
+        return existing.stream()
+                .mapToLong(chunk::get)
+                .sum();
     }
 
     /**
@@ -127,5 +294,73 @@ public class ViewCountCacheService {
     public void shutdownHook() {
         log.warn("========== 서버 종료 감지: 조회수 강제 동기화 ==========");
         syncViewCountsToDB();
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("조회수 저널 닫기 실패", e);
+        }
+    }
+
+    /**
+     * 키별 증가분 Drain (swap-and-reset)
+     * - getAndSet(0): 읽기와 초기화가 원자적 → 사이에 들어온 증가분 유실 없음
+     * - 한 주기 동안 조회가 없던 키는 LongCounterMap이 정리하여 맵 크기 제한
+     */
+    private Map<Long, Long> drainPendingViewCounts() {
+        Map<Long, Long> drained = new HashMap<>();
+        viewCountCache.drain(drained::put);
+        pendingDelta.add(-sum(drained));
+        return drained;
+    }
+
+    // 청크 분할 (청크마다 다중 행 UPDATE 1회)
+    private static List<Map<Long, Long>> partition(Map<Long, Long> source, int size) {
+        List<Map<Long, Long>> chunks = new ArrayList<>();
+        Map<Long, Long> current = new HashMap<>();
+
+        for (Map.Entry<Long, Long> entry : source.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() >= size) {
+                chunks.add(current);
+                current = new HashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static long sum(Map<Long, Long> deltas) {
+        return deltas.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // 캐시에 증가분 누적
+    private long addPendingViewCount(long postId, long delta) {
+        pendingDelta.add(delta);
+        return viewCountCache.addAndGet(postId, delta);
+    }
+
+    /**
+     * 동기화 누적 통계 스냅샷
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SyncStats {
+        private long drained;     // 캐시에서 떼어간 조회수
+        private long persisted;   // DB 반영 성공
+        private long dropped;     // 게시글 없음으로 버려진 조회수
+        private long restored;    // 예외로 캐시에 되돌린 조회수
+        private int pendingKeys;  // 현재 캐시에 남은 게시글 수
+        private long pendingDelta; // 현재 캐시에 남은 조회수 합계
+        private long cacheMemoryBytes; // 캐시 메모리 사용량 추정치
+        private long journalOverflow; // 저널에 남기지 못한 기록 수
+
+        @Override
+        public String toString() {
+            return String.format("drained=%d, persisted=%d, dropped=%d, restored=%d, pendingKeys=%d, pendingDelta=%d, cacheMemory=%dKB, journalOverflow=%d",
+                    drained, persisted, dropped, restored, pendingKeys, pendingDelta, cacheMemoryBytes / 1024, journalOverflow);
+        }
     }
 }
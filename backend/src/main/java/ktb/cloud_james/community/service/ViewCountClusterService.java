@@ -0,0 +1,114 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.repository.PostStatsDeltaRepository;
+import ktb.cloud_james.community.repository.PostStatsDeltaRepositoryCustom.LockedDeltas;
+import ktb.cloud_james.community.repository.PostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * 멀티 서버 조회수 집계 서비스
+ *
+ * 배경:
+ * - ViewCountCacheService는 서버마다 별도 캐시 → 서버마다 "DB 값 + 자기 캐시"를 보여줘 조회수가 서로 다름
+ *
+ * 전략 (scheduler.view-count-sync.cluster.enabled=true):
+ * 1. 발행: 각 서버는 동기화 주기마다 증가분을 post_stats_delta에 INSERT (ViewCountCacheService)
+ *  - 서버마다 행이 분리되므로 post_stats 행 락 경합 없음, 조회 1건당 DB 쓰기도 없음
+ * 2. 합산(fold): DB 네임드 락(GET_LOCK)을 얻은 서버 하나만 스테이징 행을 잠그고 post_stats에 반영 후 삭제
+ *  - 한 트랜잭션 안에서 반영 + 삭제 → 증가분은 항상 둘 중 한 곳에만 존재 (중복/유실 없음)
+ *  - 락을 못 얻은 서버는 이번 주기를 건너뜀 (리더 장애 시 다음 주기에 다른 서버가 이어받음)
+ * 3. 조회: post_stats.view_count + 스테이징 합계 (같은 읽기 트랜잭션 스냅샷) + 자기 서버 캐시
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ViewCountClusterService {
+
+    private final PostStatsDeltaRepository postStatsDeltaRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.view-count-sync.cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scheduler.view-count-sync.cluster.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    // 합산 1회당 처리할 스테이징 행 수 (나머지는 다음 주기)
+    @Value("${scheduler.view-count-sync.cluster.fold-batch-size:5000}")
+    private int foldBatchSize;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 증가분 발행 (ViewCountCacheService의 청크 트랜잭션 안에서 호출)
+     * @return 발행된 조회수 합계
+     */
+    public long publish(Map<Long, Long> chunk) {
+        postStatsDeltaRepository.insertDeltas(nodeId, chunk);
+        return chunk.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 아직 합산되지 않은 다른 서버 포함 증가분 (멀티 서버 모드가 아니면 0)
+     * - 게시글 상세 조회 트랜잭션 안에서 호출 → post_stats 값과 같은 스냅샷
+     */
+    public long getStagedViewCount(Long postId) {
+        if (!enabled) {
+            return 0L;
+        }
+        return postStatsDeltaRepository.sumPendingViewDelta(postId);
+    }
+
+    /**
+     * 스테이징 → post_stats 합산 (fold)
+     * - 네임드 락은 커넥션 단위이므로 획득/해제를 같은 트랜잭션(같은 커넥션) 안에서 수행
+     */
+    @Scheduled(fixedDelayString = "${scheduler.view-count-sync.cluster.fold-delay:30000}")
+    public void foldStagedDeltas() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LockedDeltas folded = transactionTemplate.execute(status -> {
+                if (!postStatsDeltaRepository.tryAcquireFoldLock()) {
+                    return null; // 다른 서버가 합산 중
+                }
+
+                try {
+                    LockedDeltas locked = postStatsDeltaRepository.lockOldestDeltas(foldBatchSize);
+                    if (locked.getRows() == 0) {
+                        return locked;
+                    }
+
+                    postStatsRepository.bulkIncrementViewCounts(locked.getSums());
+                    postStatsDeltaRepository.deleteUpTo(locked.getLastDeltaId());
+                    return locked;
+                } finally {
+                    postStatsDeltaRepository.releaseFoldLock();
+                }
+            });
+
+            if (folded == null) {
+                log.debug("조회수 합산 건너뜀 - 다른 서버가 합산 중 (nodeId: {})", nodeId);
+            } else if (folded.getRows() > 0) {
+                log.info("조회수 합산 완료 - nodeId: {}, 스테이징 행: {}건, 게시글: {}건",
+                        nodeId, folded.getRows(), folded.getSums().size());
+            }
+
+        } catch (Exception e) {
+            // 롤백 → 스테이징 행이 그대로 남아 다음 주기에 재시도
+            log.error("조회수 합산 실패 (다음 주기 재시도) - nodeId: {}", nodeId, e);
+        }
+    }
+}
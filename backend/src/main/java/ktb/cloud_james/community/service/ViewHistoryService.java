@@ -0,0 +1,248 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostViewHistoryResponseDto;
+import ktb.cloud_james.community.entity.Post;
+import ktb.cloud_james.community.entity.PostViewHourly;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.global.util.LongCounterMap;
+import ktb.cloud_james.community.repository.PostRepository;
+import ktb.cloud_james.community.repository.PostViewHourlyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 시간대별 조회수 서비스
+ *
+ * 배경:
+ * - 조회수는 누적값(post_stats.view_count)뿐이라 "최근 몇 시간 동안 얼마나 조회됐는지" 알 수 없음
+ * - 조회 로그를 쌓아두고 나중에 집계하면 스캔 비용이 큼 → 쓰는 시점에 1시간 단위로 롤업
+ *
+ * 전략:
+ * 1. 인메모리 시간 구간 버퍼: 구간 시작(epoch hour) → LongCounterMap(postId → 증가분)
+ *  - 조회수 캐시와 같은 원시 배열 맵 → 게시글 수만큼 객체가 늘지 않음
+ *  - 동기화 주기(30초)가 구간(1시간)보다 훨씬 짧아 살아있는 구간은 보통 현재/직전 2개뿐
+ * 2. 조회수 동기화 주기에 post_view_hourly로 다중 행 UPSERT (ON DUPLICATE KEY UPDATE)
+ * 3. 조회 곡선: DB 구간 + 아직 반영 전인 인메모리 구간을 합쳐 빈 시간은 0으로 채워 반환
+ * 4. 보관 기간 정리: 조회 곡선은 최근 MAX_HOURS(7일)만 읽으므로 그보다 오래된 구간은
+ *    동기화 주기에 1시간마다 한 번 청크 단위로 삭제 (게시글 × 시간만큼 행이 무한히 쌓이지 않게)
+ *
+ * 단점:
+ * - 비정상 종료 시 동기화 전 구간 증가분은 유실 (누적 조회수는 저널로 복구되지만 시간대 분포는 복구 안 함)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ViewHistoryService {
+
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+    private static final int DEFAULT_HOURS = 24;
+    private static final int MAX_HOURS = 24 * 7;
+
+    private final PostRepository postRepository;
+    private final PostViewHourlyRepository postViewHourlyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.view-count-sync.hourly.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scheduler.view-count-sync.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 시간 구간 버퍼
+     * - Key: 구간 시작 (epoch millis / 1시간)
+     * - Value: postId → 아직 DB에 반영되지 않은 증가분
+     */
+    private final ConcurrentHashMap<Long, LongCounterMap> hourlyBuckets = new ConcurrentHashMap<>();
+
+    // 마지막으로 보관 기간 정리를 끝낸 구간 (같은 구간 안에서는 다시 정리하지 않음)
+    private volatile long lastPurgedHour = Long.MIN_VALUE;
+
+    // 조회 1건 기록 (현재 시간 구간)
+    public void recordView(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        hourlyBuckets.computeIfAbsent(currentHour(), hour -> new LongCounterMap())
+                .addAndGet(postId, 1);
+    }
+
+    /**
+     * 시간 구간 버퍼를 DB에 반영 (조회수 동기화 주기에 함께 실행)
+     * - 구간마다 Drain 후 청크 단위 UPSERT, 실패한 청크는 같은 구간 버퍼로 되돌려 다음 주기 재시도
+     * - 끝난 지 1시간 넘은 구간은 Drain할 것이 없으면 버퍼에서 제거 (그 구간에 기록하는 요청이 더는 없음)
+     */
+    public void syncToDB() {
+        if (!enabled) {
+            return;
+        }
+
+        long current = currentHour();
+        purgeExpired(current);
+
+        if (hourlyBuckets.isEmpty()) {
+            return;
+        }
+
+        int rows = 0;
+        int failed = 0;
+
+        for (Map.Entry<Long, LongCounterMap> entry : hourlyBuckets.entrySet()) {
+            long hour = entry.getKey();
+            LongCounterMap bucket = entry.getValue();
+
+            Map<Long, Long> drained = new HashMap<>();
+            bucket.drain(drained::put);
+
+            if (drained.isEmpty()) {
+                if (hour < current - 1) {
+                    hourlyBuckets.remove(hour, bucket);
+                }
+                continue;
+            }
+
+            LocalDateTime bucketHour = toDateTime(hour);
+            for (Map<Long, Long> chunk : partition(drained)) {
+                try {
+                    transactionTemplate.executeWithoutResult(
+                            status -> postViewHourlyRepository.upsertHourlyViews(bucketHour, chunk));
+                    rows += chunk.size();
+                } catch (Exception e) {
+                    failed += chunk.size();
+                    chunk.forEach(bucket::addAndGet);
+                    log.error("시간대별 조회수 반영 예외 (다음 주기 재시도) - 구간: {}, 게시글: {}건",
+                            bucketHour, chunk.size(), e);
+                }
+            }
+        }
+
+        if (rows > 0 || failed > 0) {
+            log.info("시간대별 조회수 반영 완료 - 성공: {}건, 실패: {}건, 버퍼 구간: {}개",
+                    rows, failed, hourlyBuckets.size());
+        }
+    }
+
+    /**
+     * 보관 기간(MAX_HOURS)이 지난 구간 삭제
+     * - 구간이 바뀐 뒤 첫 동기화에서만 실행 (삭제 대상은 1시간에 한 구간씩만 늘어남)
+     * - batch-size 청크마다 트랜잭션을 나눠 삭제, 실패하면 다음 구간에 다시 시도
+     */
+    private void purgeExpired(long current) {
+        if (lastPurgedHour == current) {
+            return;
+        }
+
+        LocalDateTime cutoff = toDateTime(current - MAX_HOURS + 1);
+        int deleted = 0;
+        try {
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(
+                        status -> postViewHourlyRepository.deleteOlderThan(cutoff, batchSize));
+                deleted += chunk;
+            } while (chunk >= batchSize);
+        } catch (Exception e) {
+            log.error("시간대별 조회수 보관 기간 정리 예외 (다음 구간 재시도) - 기준: {}, 삭제: {}건",
+                    cutoff, deleted, e);
+        }
+        lastPurgedHour = current;
+
+        if (deleted > 0) {
+            log.info("시간대별 조회수 보관 기간 정리 완료 - 기준: {}, 삭제: {}건", cutoff, deleted);
+        }
+    }
+
+    /**
+     * 게시글 조회 곡선 (최근 hours시간, 현재 구간 포함)
+     * - 빈 시간대는 0으로 채움
+     */
+    @Transactional(readOnly = true)
+    public PostViewHistoryResponseDto getHourlyViews(Long postId, Integer hours) {
+        Post post = postRepository.findById(postId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> {
+                    log.warn("조회 곡선 조회 실패 - postId: {} (존재하지 않거나 삭제됨)", postId);
+                    return new CustomException(ErrorCode.POST_NOT_FOUND);
+                });
+
+        int range = (hours == null || hours <= 0) ? DEFAULT_HOURS : Math.min(hours, MAX_HOURS);
+        long current = currentHour();
+        long from = current - range + 1;
+
+        // 1. DB 구간
+        Map<Long, Long> counts = new HashMap<>();
+        for (PostViewHourly row : postViewHourlyRepository
+                .findByPostIdAndBucketHourGreaterThanEqualOrderByBucketHourAsc(post.getId(), toDateTime(from))) {
+            counts.merge(toHour(row.getBucketHour()), row.getViewCount(), Long::sum);
+        }
+
+        // 2. 아직 반영 전인 인메모리 구간
+        hourlyBuckets.forEach((hour, bucket) -> {
+            if (hour >= from) {
+                counts.merge(hour, bucket.get(post.getId()), Long::sum);
+            }
+        });
+
+        // 3. 빈 시간 0으로 채움
+        List<PostViewHistoryResponseDto.HourlyView> views = new ArrayList<>(range);
+        long total = 0;
+        for (long hour = from; hour <= current; hour++) {
+            long viewCount = counts.getOrDefault(hour, 0L);
+            total += viewCount;
+            views.add(PostViewHistoryResponseDto.HourlyView.builder()
+                    .hour(toDateTime(hour))
+                    .viewCount(viewCount)
+                    .build());
+        }
+
+        return PostViewHistoryResponseDto.builder()
+                .postId(post.getId())
+                .hours(range)
+                .totalViewCount(total)
+                .views(views)
+                .build();
+    }
+
+    private List<Map<Long, Long>> partition(Map<Long, Long> source) {
+        List<Map<Long, Long>> chunks = new ArrayList<>();
+        Map<Long, Long> current = new HashMap<>();
+
+        for (Map.Entry<Long, Long> entry : source.entrySet()) {
+            current.put(entry.getKey(), entry.getValue());
+            if (current.size() >= batchSize) {
+                chunks.add(current);
+                current = new HashMap<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+
+    private static LocalDateTime toDateTime(long hour) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(hour * HOUR_MILLIS), ZoneId.systemDefault());
+    }
+
+    private static long toHour(LocalDateTime bucketHour) {
+        return bucketHour.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / HOUR_MILLIS;
+    }
+}
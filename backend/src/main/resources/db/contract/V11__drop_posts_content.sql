@@ -0,0 +1,16 @@
+-- =====================================================================
+-- V11: posts.content 삭제 (V6 본문 분리의 마무리 단계)
+-- - V6과 같은 배포에 넣으면 순차 배포 중 아직 교체되지 않은 서버가 없는 컬럼을 읽고 써서 실패
+--   → V6이 적용된 버전이 모든 서버에 배포된 뒤, 다음 릴리스에서 이 파일을 db/migration으로 옮겨 적용
+--   (그 전에 db/migration에 새 마이그레이션을 추가한다면 V12부터 사용)
+-- - 배포 중 이전 버전 서버가 작성한 게시글은 post_contents 행이 없음 → 삭제 전에 원문(0) 그대로 옮김
+--   (배포 중 이전 버전 서버에서 수정한 본문은 posts.content에만 반영되어 있어 옮겨지지 않음)
+-- =====================================================================
+
+INSERT INTO post_contents (post_id, encoding, raw_length, body)
+SELECT p.post_id, 0, LENGTH(p.content), CAST(p.content AS BINARY)
+FROM posts p
+WHERE p.content IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM post_contents pc WHERE pc.post_id = p.post_id);
+
+ALTER TABLE posts DROP COLUMN content;
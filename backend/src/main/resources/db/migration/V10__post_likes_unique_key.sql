@@ -0,0 +1,25 @@
+-- =====================================================================
+-- V10: 좋아요 유니크 키 보장 (uk_post_likes_post_user)
+-- - 좋아요 추가는 INSERT IGNORE로 중복을 걸러냄 → (post_id, user_id) 유니크 키가 없으면 중복 좋아요가 쌓임
+-- - V1에서 만들지만 baseline-on-migrate로 V1을 건너뛴 기존 DB에는 없을 수 있음 → 없을 때만 생성
+--   (생성 전에 같은 (post_id, user_id)의 중복 행은 가장 먼저 누른 1건만 남김)
+-- =====================================================================
+
+SET @has_uk_post_likes_post_user = (
+    SELECT COUNT(*) > 0
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'post_likes' AND index_name = 'uk_post_likes_post_user'
+);
+
+SET @dedupe_post_likes = IF(@has_uk_post_likes_post_user, 'DO 0',
+    'DELETE dup FROM post_likes dup
+     JOIN post_likes kept ON kept.post_id = dup.post_id AND kept.user_id = dup.user_id AND kept.like_id < dup.like_id');
+PREPARE stmt FROM @dedupe_post_likes;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_uk_post_likes_post_user = IF(@has_uk_post_likes_post_user, 'DO 0',
+    'ALTER TABLE post_likes ADD UNIQUE KEY uk_post_likes_post_user (post_id, user_id)');
+PREPARE stmt FROM @add_uk_post_likes_post_user;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
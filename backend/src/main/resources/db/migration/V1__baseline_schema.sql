@@ -0,0 +1,95 @@
+-- =====================================================================
+-- V1: 기본 스키마 (Flyway 도입 이전 운영 DB와 동일한 구조)
+-- - 기존 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 등록하고 V2부터 실행
+-- - PK/FK는 INT UNSIGNED (엔티티는 Long), 조회수만 BIGINT UNSIGNED
+-- =====================================================================
+
+CREATE TABLE users (
+    user_id             INT UNSIGNED    NOT NULL AUTO_INCREMENT,
+    email               VARCHAR(255)    NOT NULL,
+    password            VARCHAR(255)    NOT NULL,
+    nickname            VARCHAR(10)     NOT NULL,
+    image_url           VARCHAR(255)    NULL,
+    password_changed_at DATETIME        NULL,
+    is_active           TINYINT(1)      NOT NULL DEFAULT 1,
+    created_at          DATETIME        NOT NULL,
+    updated_at          DATETIME        NULL,
+    deleted_at          DATETIME        NULL,
+    PRIMARY KEY (user_id),
+    UNIQUE KEY uk_users_email (email),
+    UNIQUE KEY uk_users_nickname (nickname)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE user_tokens (
+    token_id            INT UNSIGNED    NOT NULL AUTO_INCREMENT,
+    refresh_token       VARCHAR(255)    NOT NULL,
+    expires_at          DATETIME        NOT NULL,
+    user_id             INT UNSIGNED    NOT NULL,
+    created_at          DATETIME        NOT NULL,
+    PRIMARY KEY (token_id),
+    KEY idx_user_tokens_user (user_id),
+    CONSTRAINT fk_user_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE posts (
+    post_id             INT UNSIGNED    NOT NULL AUTO_INCREMENT,
+    user_id             INT UNSIGNED    NOT NULL,
+    title               VARCHAR(26)     NOT NULL,
+    content             LONGTEXT        NOT NULL,
+    created_at          DATETIME        NOT NULL,
+    updated_at          DATETIME        NULL,
+    deleted_at          DATETIME        NULL,
+    PRIMARY KEY (post_id),
+    KEY idx_posts_user (user_id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE post_images (
+    image_id            INT UNSIGNED    NOT NULL AUTO_INCREMENT,
+    post_id             INT UNSIGNED    NOT NULL,
+    image_url           VARCHAR(255)    NOT NULL,
+    thumbnail_url       VARCHAR(255)    NULL,
+    image_order         INT UNSIGNED    NOT NULL DEFAULT 0,
+    is_main             TINYINT(1)      NOT NULL DEFAULT 0,
+    created_at          DATETIME        NOT NULL,
+    deleted_at          DATETIME        NULL,
+    PRIMARY KEY (image_id),
+    KEY idx_post_images_post (post_id),
+    CONSTRAINT fk_post_images_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE post_stats (
+    post_id             INT UNSIGNED    NOT NULL,
+    view_count          BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    like_count          INT UNSIGNED    NOT NULL DEFAULT 0,
+    comment_count       INT UNSIGNED    NOT NULL DEFAULT 0,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_stats_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE post_likes (
+    like_id             INT UNSIGNED    NOT NULL AUTO_INCREMENT,
+    post_id             INT UNSIGNED    NOT NULL,
+    user_id             INT UNSIGNED    NOT NULL,
+    created_at          DATETIME        NOT NULL,
+    PRIMARY KEY (like_id),
+    UNIQUE KEY uk_post_likes_post_user (post_id, user_id),
+    KEY idx_post_likes_user (user_id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT fk_post_likes_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE comments (
+    comment_id          INT UNSIGNED    NOT NULL AUTO_INCREMENT,
+    content             TEXT            NOT NULL,
+    post_id             INT UNSIGNED    NOT NULL,
+    user_id             INT UNSIGNED    NOT NULL,
+    created_at          DATETIME        NOT NULL,
+    updated_at          DATETIME        NULL,
+    deleted_at          DATETIME        NULL,
+    PRIMARY KEY (comment_id),
+    KEY idx_comments_post (post_id),
+    KEY idx_comments_user (user_id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
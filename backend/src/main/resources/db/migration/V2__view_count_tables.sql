@@ -0,0 +1,29 @@
+-- =====================================================================
+-- V2: 조회수 파이프라인 테이블/컬럼
+-- - 고유 방문자 수 (HyperLogLog 스케치, UniqueViewerService)
+-- - 멀티 서버 증가분 스테이징 (ViewCountClusterService)
+-- - 시간대별 조회수 롤업 (ViewHistoryService)
+-- =====================================================================
+
+ALTER TABLE post_stats
+    ADD COLUMN unique_viewer_count  BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    ADD COLUMN unique_viewer_sketch VARBINARY(1024) NULL;
+
+-- 서버별 INSERT 전용, 합산 서버가 delta_id 순으로 잠가 읽고 삭제 (FK 없음: 쓰기 경로 최소화)
+CREATE TABLE post_stats_delta (
+    delta_id            BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    node_id             VARCHAR(64)     NOT NULL,
+    post_id             INT UNSIGNED    NOT NULL,
+    view_delta          BIGINT          NOT NULL,
+    created_at          DATETIME        NOT NULL,
+    PRIMARY KEY (delta_id),
+    KEY idx_post_stats_delta_post (post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+-- PK (post_id, bucket_hour): 게시글별 조회 곡선은 PK 범위 스캔 1회
+CREATE TABLE post_view_hourly (
+    post_id             INT UNSIGNED    NOT NULL,
+    bucket_hour         DATETIME        NOT NULL,
+    view_count          BIGINT UNSIGNED NOT NULL DEFAULT 0,
+    PRIMARY KEY (post_id, bucket_hour)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
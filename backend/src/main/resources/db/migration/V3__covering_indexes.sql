@@ -0,0 +1,26 @@
+-- =====================================================================
+-- V3: 목록 조회용 커버링 인덱스
+-- - 쿼리 플랜은 QueryPlanTest(EXPLAIN)로 검증: 풀 스캔(type=ALL), filesort 금지
+-- =====================================================================
+
+-- findPostsWithCursor / findRankingSources
+--   WHERE deleted_at IS NULL [AND post_id < ?] ORDER BY post_id DESC LIMIT ?
+--   → deleted_at 동등 조건 + post_id 역순 범위 스캔, 정렬 없이 LIMIT에서 멈춤
+CREATE INDEX idx_posts_deleted_post ON posts (deleted_at, post_id);
+
+-- findCommentsWithCursor
+--   WHERE post_id = ? AND deleted_at IS NULL [AND comment_id > ?] ORDER BY comment_id LIMIT ?
+--   → 게시글 단위 범위 스캔, 삭제 댓글은 인덱스에서 걸러짐
+--   (post_id가 선두 컬럼이라 fk_comments_post도 이 인덱스를 사용)
+CREATE INDEX idx_comments_post_deleted_comment ON comments (post_id, deleted_at, comment_id);
+
+-- 기존 단일 인덱스 제거
+-- (baseline-on-migrate로 V1을 건너뛴 기존 DB에는 이 이름의 인덱스가 없을 수 있음 → 있을 때만 제거)
+SET @drop_idx_comments_post = (
+    SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_comments_post ON comments', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_comments_post'
+);
+PREPARE stmt FROM @drop_idx_comments_post;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
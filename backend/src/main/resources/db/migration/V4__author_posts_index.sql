@@ -0,0 +1,20 @@
+-- =====================================================================
+-- V4: 작성자별 게시글 목록 인덱스 (GET /api/users/{userId}/posts)
+-- =====================================================================
+
+-- findPostsByAuthorWithCursor
+--   WHERE user_id = ? AND deleted_at IS NULL [AND post_id < ?] ORDER BY post_id DESC LIMIT ?
+--   → 작성자 + 미삭제 동등 조건 뒤 post_id 역순 범위 스캔, 정렬 없이 LIMIT에서 멈춤
+--   (user_id가 선두 컬럼이라 fk_posts_user도 이 인덱스를 사용)
+CREATE INDEX idx_posts_user_deleted_post ON posts (user_id, deleted_at, post_id);
+
+-- 기존 단일 인덱스 제거
+-- (baseline-on-migrate로 V1을 건너뛴 기존 DB에는 이 이름의 인덱스가 없을 수 있음 → 있을 때만 제거)
+SET @drop_idx_posts_user = (
+    SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_posts_user ON posts', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_posts_user'
+);
+PREPARE stmt FROM @drop_idx_posts_user;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,20 @@
+-- =====================================================================
+-- V5: 사용자별 좋아요 게시글 커버링 인덱스 (좋아요 비트맵 적재)
+-- =====================================================================
+
+-- findPostIdsByUserId
+--   SELECT post_id FROM post_likes WHERE user_id = ?
+--   → (user_id, post_id) 인덱스만 읽고 끝남 (기존 user_id 단일 인덱스는 행마다 PK로 테이블 접근)
+--   (user_id가 선두 컬럼이라 fk_post_likes_user도 이 인덱스를 사용)
+CREATE INDEX idx_post_likes_user_post ON post_likes (user_id, post_id);
+
+-- 기존 단일 인덱스 제거
+-- (baseline-on-migrate로 V1을 건너뛴 기존 DB에는 이 이름의 인덱스가 없을 수 있음 → 있을 때만 제거)
+SET @drop_idx_post_likes_user = (
+    SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_post_likes_user ON post_likes', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'post_likes' AND index_name = 'idx_post_likes_user'
+);
+PREPARE stmt FROM @drop_idx_post_likes_user;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,23 @@
+-- =====================================================================
+-- V6: 게시글 본문 분리 (posts.content → post_contents)
+-- - posts 행에는 목록/권한 확인에 필요한 컬럼만 남김 (findById가 LONGTEXT를 읽지 않음)
+-- - body: 애플리케이션이 인코딩한 바이트 (encoding 0 = UTF-8 원문, 1 = DEFLATE 압축)
+-- - 기존 본문은 원문(0) 그대로 옮김 → 다음 수정 때 기준 크기 이상이면 압축 저장
+-- - posts.content는 아직 남겨 둠 (순차 배포 중 이전 버전 서버가 계속 읽고 씀)
+--   새 버전은 이 컬럼을 쓰지 않으므로 NULL 허용으로만 바꾸고, 삭제는 db/contract/V11에서
+-- =====================================================================
+
+CREATE TABLE post_contents (
+    post_id             INT UNSIGNED        NOT NULL,
+    encoding            TINYINT UNSIGNED    NOT NULL DEFAULT 0,
+    raw_length          INT UNSIGNED        NOT NULL,  -- 원문 UTF-8 바이트 수
+    body                LONGBLOB            NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_contents_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+) ENGINE = InnoDB;
+
+INSERT INTO post_contents (post_id, encoding, raw_length, body)
+SELECT post_id, 0, LENGTH(content), CAST(content AS BINARY)
+FROM posts;
+
+ALTER TABLE posts MODIFY content LONGTEXT NULL;
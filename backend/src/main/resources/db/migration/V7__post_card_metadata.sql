@@ -0,0 +1,16 @@
+-- =====================================================================
+-- V7: 피드 카드 요약 컬럼 (posts)
+-- - 목록 조회가 본문(post_contents)/이미지(post_images)를 읽지 않도록 작성/수정 시 계산해 저장
+-- - excerpt: 본문 앞 100자 (공백 정리, 잘리면 말줄임표), word_count: 어절 수
+-- - thumbnail_url: 메인 이미지의 썸네일 URL (썸네일이 없으면 원본 URL, 이미지가 없으면 NULL)
+-- - excerpt/word_count 백필은 애플리케이션이 수행 (압축 저장된 본문은 SQL로 풀 수 없음, PostCardBackfillService)
+-- =====================================================================
+
+ALTER TABLE posts
+    ADD COLUMN excerpt          VARCHAR(200)    NULL AFTER title,
+    ADD COLUMN word_count       INT UNSIGNED    NULL AFTER excerpt,
+    ADD COLUMN thumbnail_url    VARCHAR(255)    NULL AFTER word_count;
+
+UPDATE posts p
+    JOIN post_images i ON i.post_id = p.post_id AND i.is_main = 1 AND i.deleted_at IS NULL
+SET p.thumbnail_url = COALESCE(i.thumbnail_url, i.image_url);
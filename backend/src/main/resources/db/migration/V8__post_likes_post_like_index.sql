@@ -0,0 +1,8 @@
+-- =====================================================================
+-- V8: 좋아요 누른 사용자 목록 (GET /api/posts/{postId}/likes) 키셋 페이징용 인덱스
+-- - post_id 동등 조건 뒤 like_id 역순 범위 스캔 → 정렬(filesort)/OFFSET 없이 LIMIT에서 멈춤
+-- - user_id, created_at까지 포함 (커버링) → 조회 컬럼을 인덱스에서 모두 읽고 users PK로 닉네임/프로필 이미지만 조인
+--   (post_likes 클러스터 인덱스 미접근)
+-- =====================================================================
+
+ALTER TABLE post_likes ADD KEY idx_post_likes_post_like (post_id, like_id, user_id, created_at);
@@ -0,0 +1,7 @@
+-- =====================================================================
+-- V9: post_view_hourly 보관 기간 정리용 인덱스 (ViewHistoryService)
+-- - PK가 (post_id, bucket_hour)라 bucket_hour 단독 조건은 전체 스캔
+-- - DELETE ... WHERE bucket_hour < ? ORDER BY bucket_hour LIMIT ? 가 오래된 구간부터 범위 스캔 후 LIMIT에서 멈춤
+-- =====================================================================
+
+ALTER TABLE post_view_hourly ADD KEY idx_post_view_hourly_bucket (bucket_hour);
@@ -0,0 +1,34 @@
+package ktb.cloud_james.community.controller;
+
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.global.exception.ErrorCode;
+import ktb.cloud_james.community.service.PostSearchService;
+import ktb.cloud_james.community.service.PostService;
+import ktb.cloud_james.community.service.ViewHistoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.WebRequest;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PostControllerTest {
+
+    @Test
+    @DisplayName("lastSeenId와 before를 함께 보내면 조회하지 않고 거부한다")
+    void getPostList_rejectsLastSeenIdWithBefore() {
+        // given
+        PostService postService = mock(PostService.class);
+        PostController controller = new PostController(
+                postService, mock(ViewHistoryService.class), mock(PostSearchService.class));
+
+        // when & then
+        assertThatThrownBy(() -> controller.getPostList(
+                21L, 40L, null, null, 10, "latest", null, 1L, mock(WebRequest.class)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        verifyNoInteractions(postService);
+    }
+}
@@ -0,0 +1,107 @@
+package ktb.cloud_james.community.global.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("한글은 bigram, 영문은 소문자 단어로 자른다")
+    void tokenize_hangulBigramAndLatinWords() {
+        assertThat(NgramTokenizer.tokenize("스프링 Boot3 입문!"))
+                .containsExactly("스프", "프링", "boot3", "입문");
+        assertThat(NgramTokenizer.tokenize("JPA와")).containsExactly("jpa", "와");
+    }
+
+    @Test
+    @DisplayName("모든 검색어를 포함한 게시글만, 많이 포함한 순으로 찾는다")
+    void search_andSemanticsRankedByBm25() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, NgramTokenizer.tokenize("스프링 캐시 정리"), 1);
+        index.put(2L, NgramTokenizer.tokenize("스프링 캐시 캐시 캐시 적용기"), 1);
+        index.put(3L, NgramTokenizer.tokenize("스프링 시큐리티"), 1);
+
+        // when
+        List<InvertedIndex.Hit> hits = index.search(NgramTokenizer.tokenize("스프링 캐시"), null, 10);
+
+        // then
+        assertThat(hits).extracting(InvertedIndex.Hit::getDocId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("커서 이후 결과만 이어서 찾는다")
+    void search_afterCursor() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, NgramTokenizer.tokenize("같은 제목"), 1);
+        }
+
+        // when
+        List<InvertedIndex.Hit> first = index.search(NgramTokenizer.tokenize("제목"), null, 2);
+        List<InvertedIndex.Hit> second = index.search(NgramTokenizer.tokenize("제목"), first.get(1), 10);
+
+        // then (점수가 같으면 최신 게시글 먼저)
+        assertThat(first).extracting(InvertedIndex.Hit::getDocId).containsExactly(5L, 4L);
+        assertThat(second).extracting(InvertedIndex.Hit::getDocId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 반영되고, 오래된 버전의 수정은 무시한다")
+    void putAndRemove_versions() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, NgramTokenizer.tokenize("처음 제목"), 10);
+
+        // when
+        index.put(1L, NgramTokenizer.tokenize("바뀐 제목"), 20);
+        boolean stale = index.put(1L, NgramTokenizer.tokenize("처음 제목"), 15);
+
+        // then
+        assertThat(stale).isFalse();
+        assertThat(index.search(NgramTokenizer.tokenize("처음"), null, 10)).isEmpty();
+        assertThat(index.search(NgramTokenizer.tokenize("바뀐"), null, 10)).hasSize(1);
+
+        index.remove(1L);
+        assertThat(index.search(NgramTokenizer.tokenize("제목"), null, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.termCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 색인을 그대로 복원하고, 손상된 파일은 거부한다")
+    void writeToAndReadFrom(@TempDir Path dir) throws IOException {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, NgramTokenizer.tokenize("스프링 캐시 정리"), 100);
+        index.put(300L, NgramTokenizer.tokenize("스프링 캐시 캐시 적용기"), 200);
+        index.put(7L, NgramTokenizer.tokenize("JPA 지연 로딩"), 300);
+        Path file = dir.resolve("posts.idx");
+
+        // when
+        index.writeTo(file);
+        InvertedIndex restored = InvertedIndex.readFrom(file);
+
+        // then
+        assertThat(restored.versions()).isEqualTo(index.versions());
+        assertThat(restored.termCount()).isEqualTo(index.termCount());
+        assertThat(restored.search(NgramTokenizer.tokenize("스프링 캐시"), null, 10))
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(index.search(NgramTokenizer.tokenize("스프링 캐시"), null, 10));
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file, bytes);
+        assertThatThrownBy(() -> InvertedIndex.readFrom(file)).isInstanceOf(IOException.class);
+    }
+}
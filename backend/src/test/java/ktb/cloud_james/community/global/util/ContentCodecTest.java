@@ -0,0 +1,50 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodecTest {
+
+    @Test
+    @DisplayName("기준 크기 미만은 원문, 이상이면 압축하고 그대로 복원한다")
+    void encode_threshold() {
+        // given
+        String shortContent = "짧은 글";
+        String longContent = "스프링 캐시 적용기. ".repeat(500);
+
+        // when
+        ContentCodec.Encoded raw = ContentCodec.encode(shortContent, 1024);
+        ContentCodec.Encoded compressed = ContentCodec.encode(longContent, 1024);
+
+        // then
+        assertThat(raw.getEncoding()).isEqualTo(ContentCodec.RAW);
+        assertThat(ContentCodec.decode(raw.getEncoding(), raw.getBody())).isEqualTo(shortContent);
+
+        assertThat(compressed.getEncoding()).isEqualTo(ContentCodec.DEFLATE);
+        assertThat(compressed.getRawLength()).isEqualTo(longContent.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(compressed.getBody().length).isLessThan(compressed.getRawLength() / 10);
+        assertThat(ContentCodec.decode(compressed.getEncoding(), compressed.getBody())).isEqualTo(longContent);
+    }
+
+    @Test
+    @DisplayName("압축해도 작아지지 않는 글은 원문으로 저장한다")
+    void encode_incompressible() {
+        // given
+        byte[] random = new byte[4096];
+        new Random(1).nextBytes(random);
+        String content = Base64.getEncoder().encodeToString(random).substring(0, 1100);
+
+        // when
+        ContentCodec.Encoded encoded = ContentCodec.encode(content, 1024);
+
+        // then
+        assertThat(ContentCodec.decode(encoded.getEncoding(), encoded.getBody())).isEqualTo(content);
+        assertThat(encoded.getBody().length).isLessThanOrEqualTo(encoded.getRawLength());
+    }
+}
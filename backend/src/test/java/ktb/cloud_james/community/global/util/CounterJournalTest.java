@@ -0,0 +1,100 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterJournalTest {
+
+    private static final int SEGMENT_SIZE = 1024; // 레코드 64개
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("닫지 않고 다시 열어도 (크래시) 기록된 증가분이 key별로 복구된다")
+    void recover_afterCrash() throws Exception {
+        // given
+        CounterJournal journal = CounterJournal.open(dir, "views", SEGMENT_SIZE);
+        journal.append(1L, 1, (k, d) -> d);
+        journal.append(1L, 1, (k, d) -> d);
+        journal.append(2L, 5, (k, d) -> d);
+
+        // when: close/truncate 없이 새로 열기
+        CounterJournal reopened = CounterJournal.open(dir, "views", SEGMENT_SIZE);
+        Map<Long, Long> recovered = reopened.recover();
+
+        // then
+        assertThat(recovered).containsEntry(1L, 2L).containsEntry(2L, 5L).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("봉인 후 비운 세그먼트는 복구 대상에서 빠지고, 새 세그먼트 기록만 남는다")
+    void sealAndTruncate() throws Exception {
+        // given
+        CounterJournal journal = CounterJournal.open(dir, "views", SEGMENT_SIZE);
+        journal.append(1L, 1, (k, d) -> d);
+
+        // when
+        int sealed = journal.seal();
+        journal.append(2L, 1, (k, d) -> d); // 전환된 세그먼트에 기록
+        journal.truncate(sealed);
+
+        // then
+        Map<Long, Long> recovered = CounterJournal.open(dir, "views", SEGMENT_SIZE).recover();
+        assertThat(recovered).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차도 인메모리 반영은 계속되고 overflow로 집계된다")
+    void overflow_stillApplies() throws Exception {
+        // given
+        CounterJournal journal = CounterJournal.open(dir, "views", SEGMENT_SIZE);
+        AtomicLong applied = new AtomicLong();
+
+        // when
+        for (int i = 0; i < 70; i++) {
+            journal.append(1L, 1, (k, d) -> applied.addAndGet(d));
+        }
+
+        // then
+        assertThat(applied.get()).isEqualTo(70);
+        assertThat(journal.getOverflowCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("동시 기록 중 봉인해도 두 세그먼트 합계와 인메모리 합계가 일치한다")
+    void seal_concurrentWriters() throws Exception {
+        // given
+        CounterJournal journal = CounterJournal.open(dir, "views", 1024 * 1024);
+        ConcurrentHashMap<Long, AtomicLong> memory = new ConcurrentHashMap<>();
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    journal.append(7L, 1, (k, d) ->
+                            memory.computeIfAbsent(k, x -> new AtomicLong()).addAndGet(d));
+                }
+            });
+            writers[t].start();
+        }
+
+        // when
+        journal.seal();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        // then
+        Map<Long, Long> recovered = CounterJournal.open(dir, "views", 1024 * 1024).recover();
+        assertThat(memory.get(7L).get()).isEqualTo(20_000L);
+        assertThat(recovered).containsEntry(7L, 20_000L);
+    }
+}
@@ -0,0 +1,38 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcerptUtilTest {
+
+    @Test
+    @DisplayName("짧은 본문은 공백만 정리하고 그대로 미리보기로 쓴다")
+    void excerpt_short() {
+        assertThat(ExcerptUtil.excerpt("  첫 줄\n\n둘째   줄\t끝 ")).isEqualTo("첫 줄 둘째 줄 끝");
+        assertThat(ExcerptUtil.excerpt(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("긴 본문은 100자로 자르고 말줄임표를 붙인다 (서로게이트 쌍을 쪼개지 않음)")
+    void excerpt_long() {
+        // given
+        String content = "😀".repeat(150);
+
+        // when
+        String excerpt = ExcerptUtil.excerpt(content);
+
+        // then
+        assertThat(excerpt.codePointCount(0, excerpt.length())).isEqualTo(ExcerptUtil.EXCERPT_LENGTH);
+        assertThat(excerpt).endsWith("😀…");
+    }
+
+    @Test
+    @DisplayName("단어 수는 공백으로 구분된 어절 수")
+    void wordCount() {
+        assertThat(ExcerptUtil.wordCount("스프링 캐시\n적용기  입니다 ")).isEqualTo(4);
+        assertThat(ExcerptUtil.wordCount("   ")).isZero();
+        assertThat(ExcerptUtil.wordCount(null)).isZero();
+    }
+}
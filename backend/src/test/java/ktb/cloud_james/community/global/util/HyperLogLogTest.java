@@ -0,0 +1,64 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 방문자가 반복 조회해도 한 번만 센다")
+    void offer_duplicateKeys() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer("u:1");
+            sketch.offer("c:127.0.0.1|curl");
+        }
+
+        // then
+        assertThat(sketch.estimate()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("고유 방문자 10만 명 - 오차 10% 이내로 추정한다")
+    void estimate_largeCardinality() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            sketch.offer("u:" + i);
+        }
+
+        // then
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(10_000.0));
+    }
+
+    @Test
+    @DisplayName("병합/직렬화 - 나눠 센 스케치를 합치면 전체를 한 번에 센 것과 같다")
+    void merge_equalsUnion() {
+        // given
+        HyperLogLog whole = new HyperLogLog();
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        for (int i = 0; i < 5_000; i++) {
+            whole.offer("u:" + i);
+            (i % 2 == 0 ? left : right).offer("u:" + i);
+            right.offer("u:" + (i % 100)); // 겹치는 방문자
+        }
+
+        // when
+        HyperLogLog merged = HyperLogLog.fromBytes(left.toBytes());
+        merged.merge(right);
+
+        // then
+        assertThat(merged.toBytes()).isEqualTo(whole.toBytes());
+        assertThat(merged.estimate()).isEqualTo(whole.estimate());
+        assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+    }
+}
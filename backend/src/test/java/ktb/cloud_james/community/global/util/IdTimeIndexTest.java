@@ -0,0 +1,63 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdTimeIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Test
+    @DisplayName("시각 이후 작성된 첫 게시글 ID를 찾는다")
+    void firstIdAfter() {
+        // given - ID 사이에 빈 번호(삭제/롤백) 존재
+        IdTimeIndex index = new IdTimeIndex();
+        index.append(3, BASE);
+        index.append(7, BASE.plusMinutes(10));
+        index.append(8, BASE.plusMinutes(10));
+        index.append(20, BASE.plusHours(2));
+
+        // then
+        assertThat(index.firstIdAfter(BASE.minusDays(1))).isEqualTo(3);
+        assertThat(index.firstIdAfter(BASE)).isEqualTo(7);
+        assertThat(index.firstIdAfter(BASE.plusMinutes(10))).isEqualTo(20);
+        assertThat(index.firstIdAfter(BASE.plusHours(2))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("ID 순서와 시각이 어긋난 게시글은 앞선 시각으로 취급하고, 이미 있는 ID는 건너뛴다")
+    void append_outOfOrder() {
+        // given
+        IdTimeIndex index = new IdTimeIndex();
+        index.append(1, BASE.plusSeconds(5));
+        index.append(2, BASE.plusSeconds(3)); // 동시 작성으로 시각이 더 이름
+
+        // when
+        boolean duplicated = index.append(2, BASE.plusSeconds(9));
+
+        // then
+        assertThat(duplicated).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.firstIdAfter(BASE.plusSeconds(4))).isEqualTo(1);
+        assertThat(index.getLastTime()).isEqualTo(BASE.plusSeconds(5));
+    }
+
+    @Test
+    @DisplayName("INT UNSIGNED 범위 ID와 배열 확장을 처리한다")
+    void unsignedIdsAndGrowth() {
+        // given
+        IdTimeIndex index = new IdTimeIndex();
+        for (int i = 0; i < 5000; i++) {
+            index.append(3_000_000_000L + i, BASE.plusSeconds(i));
+        }
+
+        // then
+        assertThat(index.getLastId()).isEqualTo(3_000_004_999L);
+        assertThat(index.firstIdAfter(BASE.plusSeconds(4000))).isEqualTo(3_000_004_001L);
+        assertThat(index.getSizeInBytes()).isLessThan(8L * 8192 + 1);
+    }
+}
@@ -0,0 +1,93 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회수 캐시 맵 비교 벤치마크 (게시글 100만 건)
+ * - ConcurrentHashMap<Long, AtomicLong> (기존) vs LongCounterMap
+ * - 측정: 증가 처리 시간, 증가 중 할당량 (스레드 할당 바이트), 유지 메모리 (GC 후 힙 사용량 차이)
+ *
+ * 일반 테스트에서는 제외 (./gradlew benchmark 로 실행)
+ */
+@Tag("benchmark")
+class LongCounterMapBenchmark {
+
+    private static final int DISTINCT_POSTS = 1_000_000;
+    private static final int ROUNDS = 5; // 게시글당 조회 수
+
+    @Test
+    @DisplayName("게시글 100만 건 조회수 증가 - 시간/할당량/유지 메모리 비교")
+    void compareWithConcurrentHashMap() {
+        // 워밍업 (JIT)
+        runConcurrentHashMap(100_000);
+        runLongCounterMap(100_000);
+
+        Result chm = measure(() -> runConcurrentHashMap(DISTINCT_POSTS));
+        Result primitive = measure(() -> runLongCounterMap(DISTINCT_POSTS));
+
+        System.out.printf("%-40s %10s %15s %15s%n", "map", "time(ms)", "allocated(MB)", "retained(MB)");
+        System.out.printf("%-40s %10d %15.1f %15.1f%n", "ConcurrentHashMap<Long, AtomicLong>",
+                chm.millis, chm.allocatedBytes / 1048576.0, chm.retainedBytes / 1048576.0);
+        System.out.printf("%-40s %10d %15.1f %15.1f%n", "LongCounterMap",
+                primitive.millis, primitive.allocatedBytes / 1048576.0, primitive.retainedBytes / 1048576.0);
+    }
+
+    private static Object runConcurrentHashMap(int posts) {
+        ConcurrentHashMap<Long, AtomicLong> map = new ConcurrentHashMap<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (long postId = 1; postId <= posts; postId++) {
+                map.computeIfAbsent(postId, k -> new AtomicLong(0)).incrementAndGet();
+            }
+        }
+        return map;
+    }
+
+    private static Object runLongCounterMap(int posts) {
+        LongCounterMap map = new LongCounterMap();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (long postId = 1; postId <= posts; postId++) {
+                map.addAndGet(postId, 1);
+            }
+        }
+        return map;
+    }
+
+    private static Result measure(java.util.function.Supplier<Object> task) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long before = usedHeapAfterGc();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        Object map = task.get();
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        long retained = usedHeapAfterGc() - before;
+
+        // 측정 끝날 때까지 map이 수거되지 않도록 참조 유지
+        if (map.hashCode() == 42) {
+            System.out.println();
+        }
+        return new Result(millis, allocated, retained);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private record Result(long millis, long allocatedBytes, long retainedBytes) {
+    }
+}
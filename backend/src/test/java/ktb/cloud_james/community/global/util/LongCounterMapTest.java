@@ -0,0 +1,100 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongCounterMapTest {
+
+    @Test
+    @DisplayName("증가/조회 - 확장이 일어나도 값이 유지된다")
+    void addAndGet_acrossGrowth() {
+        // given
+        LongCounterMap map = new LongCounterMap(4);
+
+        // when
+        for (long key = 1; key <= 10_000; key++) {
+            map.addAndGet(key, key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.get(1)).isEqualTo(1);
+        assertThat(map.get(10_000)).isEqualTo(10_000);
+        assertThat(map.get(10_001)).isZero();
+    }
+
+    @Test
+    @DisplayName("drain - 값을 떼어가고, 다음 주기까지 증가가 없던 키는 정리된다")
+    void drain_resetsAndCompacts() {
+        // given
+        LongCounterMap map = new LongCounterMap();
+        map.addAndGet(1, 3);
+        map.addAndGet(2, 1);
+
+        // when
+        Map<Long, Long> first = new HashMap<>();
+        map.drain(first::put);
+        map.drain((key, value) -> { });
+
+        // then
+        assertThat(first).containsEntry(1L, 3L).containsEntry(2L, 1L);
+        assertThat(map.get(1)).isZero();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 증가 + 동시 drain - 증가분 합계가 정확히 보존된다")
+    void concurrentAddAndDrain_noLoss() throws Exception {
+        // given
+        LongCounterMap map = new LongCounterMap();
+        AtomicLong drained = new AtomicLong();
+        AtomicBoolean stop = new AtomicBoolean();
+
+        Thread drainer = new Thread(() -> {
+            while (!stop.get()) {
+                map.drain((key, value) -> drained.addAndGet(value));
+            }
+        });
+        drainer.start();
+
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 100_000; i++) {
+                    map.addAndGet(1 + random.nextInt(5_000), 1);
+                }
+            });
+            writers[t].start();
+        }
+
+        // when
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        stop.set(true);
+        drainer.join();
+        map.drain((key, value) -> drained.addAndGet(value));
+
+        // then
+        assertThat(drained.get()).isEqualTo(400_000L);
+    }
+
+    @Test
+    @DisplayName("key 0은 빈 슬롯 표시로 예약되어 사용할 수 없다")
+    void zeroKey_rejected() {
+        LongCounterMap map = new LongCounterMap();
+
+        assertThatThrownBy(() -> map.addAndGet(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package ktb.cloud_james.community.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoaringBitmapTest {
+
+    @Test
+    @DisplayName("무작위 추가/제거 결과가 HashSet과 같다 (청크 경계, 최댓값 포함)")
+    void addRemove_matchesHashSet() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            long value = switch (random.nextInt(3)) {
+                case 0 -> random.nextInt(20_000);                  // 한 청크에 밀집 (비트맵 컨테이너)
+                case 1 -> 65_536L * random.nextInt(100) + random.nextInt(50);
+                default -> 0xFFFF_FFFFL - random.nextInt(10);       // 최댓값 근처
+            };
+            if (random.nextInt(4) == 0) {
+                assertThat(bitmap.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(bitmap.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        // then
+        assertThat(bitmap.getCardinality()).isEqualTo(expected.size());
+        for (long value = 0; value < 70_000; value++) {
+            assertThat(bitmap.contains(value)).isEqualTo(expected.contains(value));
+        }
+        expected.forEach(value -> assertThat(bitmap.contains(value)).isTrue());
+        assertThat(bitmap.contains(-1)).isFalse();
+        assertThatThrownBy(() -> bitmap.add(0x1_0000_0000L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("밀집 청크는 비트맵으로 바꿔 8KB 남짓에 담고, 다시 줄어들면 배열로 되돌린다")
+    void sizeInBytes_switchesContainers() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        // when
+        for (long value = 0; value < 60_000; value++) {
+            bitmap.add(value);
+        }
+        long dense = bitmap.getSizeInBytes();
+
+        for (long value = 100; value < 60_000; value++) {
+            bitmap.remove(value);
+        }
+        long sparse = bitmap.getSizeInBytes();
+
+        // then (60,000건을 Long 집합으로 들면 수 MB)
+        assertThat(dense).isBetween(8_192L, 9_000L);
+        assertThat(sparse).isLessThan(1_000L);
+        assertThat(bitmap.getCardinality()).isEqualTo(100);
+        assertThat(bitmap.contains(99)).isTrue();
+        assertThat(bitmap.contains(100)).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package ktb.cloud_james.community.repository;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 드라이버로 나가는 SELECT 문 수집 (QueryPlanTest) + 전체 문장 수 집계 (LikeToggleBenchmark)
+ * - JDBC URL의 queryInterceptors 파라미터로 등록
+ * - 클라이언트 측 PreparedStatement는 파라미터가 채워진 SQL이 그대로 전달되므로 바로 EXPLAIN 가능
+ * - 문장 수 = DB round trip 수 (트랜잭션 제어 문장 포함)
+ */
+public class CapturingQueryInterceptor implements QueryInterceptor {
+
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    // 지금까지 수집한 SELECT 문을 꺼내고 비움
+    public static List<String> drain() {
+        List<String> statements = new ArrayList<>(CAPTURED);
+        CAPTURED.clear();
+        return statements;
+    }
+
+    // 지금까지 실행된 전체 문장 수를 꺼내고 0으로
+    public static long drainStatementCount() {
+        return STATEMENTS.getAndSet(0);
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        STATEMENTS.incrementAndGet();
+        String statement = sql.get();
+        if (statement != null && statement.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            CAPTURED.add(statement);
+        }
+        return null; // 원래 쿼리 그대로 실행
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery,
+                                               T originalResultSet, ServerSession serverSession) {
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package ktb.cloud_james.community.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PostStatsRepositoryImplTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PostStatsRepositoryImpl postStatsRepository = new PostStatsRepositoryImpl(jdbcTemplate);
+
+    @Test
+    @DisplayName("청크 전체를 UPDATE ... CASE 문장 하나로 만든다 (WHEN 파라미터 → IN 파라미터 순)")
+    void bulkIncrementViewCounts_singleStatement() {
+        // given
+        Map<Long, Long> chunk = new LinkedHashMap<>();
+        chunk.put(10L, 3L);
+        chunk.put(20L, 1L);
+
+        // when
+        postStatsRepository.bulkIncrementViewCounts(chunk);
+
+        // then
+        verify(jdbcTemplate).update(
+                "UPDATE post_stats SET view_count = view_count + CASE post_id"
+                        + " WHEN ? THEN ? WHEN ? THEN ? ELSE 0 END WHERE post_id IN (?, ?)",
+                10L, 3L, 20L, 1L, 10L, 20L);
+    }
+
+    @Test
+    @DisplayName("빈 청크는 DB를 호출하지 않는다")
+    void bulkIncrementViewCounts_empty() {
+        assertThat(postStatsRepository.bulkIncrementViewCounts(Map.of())).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
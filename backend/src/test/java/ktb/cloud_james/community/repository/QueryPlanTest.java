@@ -0,0 +1,149 @@
+package ktb.cloud_james.community.repository;
+
+import ktb.cloud_james.community.global.config.QueryDslConfig;
+import ktb.cloud_james.community.global.metrics.ContentReadMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/상세 QueryDSL 쿼리 플랜 검증
+ * - Flyway 마이그레이션 + 테스트 데이터(db/explain-seed)를 적용한 MySQL 컨테이너에서 실제 SQL을 EXPLAIN
+ * - 풀 스캔(type=ALL) 또는 filesort가 하나라도 있으면 실패 → 인덱스가 빠지거나 쿼리가 바뀌면 바로 드러남
+ * - Docker가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest(properties = "spring.flyway.locations=classpath:db/migration,classpath:db/contract,classpath:db/explain-seed")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, ContentReadMetrics.class})
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> {
+            String url = mysql.getJdbcUrl();
+            return url + (url.contains("?") ? "&" : "?")
+                    + "queryInterceptors=" + CapturingQueryInterceptor.class.getName();
+        });
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("게시글 목록 - 첫 페이지 / 커서 이후")
+    void findPostsWithCursor() {
+        assertIndexed(() -> postRepository.findPostsWithCursor(null, 10));
+        assertIndexed(() -> postRepository.findPostsWithCursor(15000L, 10));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 - 기준 이후 새 게시글 / 시각 색인 적재")
+    void findPostsAfterCursor() {
+        assertIndexed(() -> postRepository.findPostsAfterCursor(15000L, 10));
+        assertIndexed(() -> postRepository.findPostTimes(15000L, 1000));
+    }
+
+    @Test
+    @DisplayName("작성자별 게시글 목록 - 첫 페이지 / 커서 이후")
+    void findPostsByAuthorWithCursor() {
+        assertIndexed(() -> postRepository.findPostsByAuthorWithCursor(7L, null, 10));
+        assertIndexed(() -> postRepository.findPostsByAuthorWithCursor(7L, 15000L, 10));
+    }
+
+    @Test
+    @DisplayName("게시글 요약 - ID 목록")
+    void findPostSummariesByIds() {
+        assertIndexed(() -> postRepository.findPostSummariesByIds(List.of(10L, 200L, 3000L)));
+    }
+
+    @Test
+    @DisplayName("인기 랭킹 후보")
+    void findRankingSources() {
+        assertIndexed(() -> postRepository.findRankingSources(LocalDateTime.now().minusDays(7), 40000L, 1000));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 - 본문 / 통계 + 좋아요 여부")
+    void findPostDetail() {
+        assertIndexed(() -> postRepository.findPostDetailContent(300L));
+        assertIndexed(() -> postRepository.findPostDetailOverlay(300L, 7L, false));
+        assertIndexed(() -> postRepository.findPostDetailOverlay(300L, 7L, true));
+    }
+
+    @Test
+    @DisplayName("댓글 목록 - 첫 페이지 / 커서 이후")
+    void findCommentsWithCursor() {
+        assertIndexed(() -> commentRepository.findCommentsWithCursor(100L, null, 10, 7L));
+        assertIndexed(() -> commentRepository.findCommentsWithCursor(100L, 40000L, 10, 7L));
+    }
+
+    @Test
+    @DisplayName("좋아요 누른 사용자 목록 - 첫 페이지 / 커서 이후")
+    void findLikersWithCursor() {
+        assertIndexed(() -> postLikeRepository.findLikersWithCursor(100L, null, 51));
+        assertIndexed(() -> postLikeRepository.findLikersWithCursor(100L, 1000000L, 21));
+
+        // post_likes는 커버링 인덱스만 읽어야 함 (본 행 조회 없음)
+        CapturingQueryInterceptor.drain();
+        postLikeRepository.findLikersWithCursor(100L, null, 51);
+        String sql = CapturingQueryInterceptor.drain().get(0);
+        assertThat(jdbcTemplate.queryForList("EXPLAIN " + sql))
+                .filteredOn(row -> "pl".equals(row.get("table")))
+                .singleElement()
+                .satisfies(row -> assertThat(Objects.toString(row.get("Extra"), "").split("; "))
+                        .contains("Using index")); // "Using index condition"(ICP)은 커버링 아님
+    }
+
+    // 쿼리 실행 → 실행된 SELECT마다 EXPLAIN → 모든 테이블 접근이 인덱스를 타고 정렬 단계가 없어야 함
+    private void assertIndexed(Runnable query) {
+        CapturingQueryInterceptor.drain();
+        query.run();
+        List<String> statements = CapturingQueryInterceptor.drain();
+        assertThat(statements).as("실행된 SELECT 문").isNotEmpty();
+
+        for (String sql : statements) {
+            for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+                String table = Objects.toString(row.get("table"));
+                String extra = Objects.toString(row.get("Extra"), "");
+
+                assertThat(Objects.toString(row.get("type"), ""))
+                        .as("풀 스캔 - table: %s%nSQL: %s", table, sql)
+                        .isNotEqualTo("ALL");
+                assertThat(extra)
+                        .as("filesort - table: %s%nSQL: %s", table, sql)
+                        .doesNotContain("Using filesort");
+            }
+        }
+    }
+}
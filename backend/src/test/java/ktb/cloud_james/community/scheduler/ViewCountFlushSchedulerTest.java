@@ -0,0 +1,96 @@
+package ktb.cloud_james.community.scheduler;
+
+import ktb.cloud_james.community.service.ViewCountCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ViewCountFlushSchedulerTest {
+
+    private ViewCountCacheService viewCountCacheService;
+    private ViewCountFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        viewCountCacheService = mock(ViewCountCacheService.class);
+        scheduler = new ViewCountFlushScheduler(viewCountCacheService);
+
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "fixedDelay", 60_000L);
+        ReflectionTestUtils.setField(scheduler, "maxPendingKeys", 100);
+        ReflectionTestUtils.setField(scheduler, "maxPendingDelta", 1_000L);
+        ReflectionTestUtils.setField(scheduler, "minInterval", 0L);
+        ReflectionTestUtils.setField(scheduler, "slowFlushMillis", 2_000L);
+        ReflectionTestUtils.setField(scheduler, "maxBackoff", 300_000L);
+        scheduler.init();
+    }
+
+    @Test
+    @DisplayName("주기 전 + 임계치 미만이면 동기화하지 않는다")
+    void checkAndFlush_belowThreshold() {
+        // given
+        given(viewCountCacheService.getPendingDelta()).willReturn(10L);
+        given(viewCountCacheService.getPendingKeyCount()).willReturn(5);
+
+        // when
+        scheduler.checkAndFlush();
+
+        // then
+        verify(viewCountCacheService, never()).syncViewCountsToDB();
+    }
+
+    @Test
+    @DisplayName("대기 조회수가 임계치를 넘으면 주기 전이라도 조기 동기화한다")
+    void checkAndFlush_earlyFlush() {
+        // given
+        given(viewCountCacheService.getPendingDelta()).willReturn(1_000L);
+        given(viewCountCacheService.syncViewCountsToDB()).willReturn(true);
+
+        // when
+        scheduler.checkAndFlush();
+
+        // then
+        verify(viewCountCacheService, times(1)).syncViewCountsToDB();
+        assertThat(scheduler.getFlushStats().getEarlyFlushes()).isEqualTo(1);
+        assertThat(scheduler.getFlushStats().getCurrentDelay()).isEqualTo(60_000L);
+    }
+
+    @Test
+    @DisplayName("동기화가 실패하면 주기를 늘리고 백오프 동안 조기 동기화도 보류한다")
+    void checkAndFlush_backoffOnFailure() {
+        // given
+        given(viewCountCacheService.getPendingDelta()).willReturn(5_000L);
+        given(viewCountCacheService.syncViewCountsToDB()).willReturn(false);
+
+        // when
+        scheduler.checkAndFlush();
+        scheduler.checkAndFlush();
+
+        // then
+        verify(viewCountCacheService, times(1)).syncViewCountsToDB();
+        assertThat(scheduler.getFlushStats().getConsecutiveFailures()).isEqualTo(1);
+        assertThat(scheduler.getFlushStats().getCurrentDelay()).isEqualTo(120_000L);
+    }
+
+    @Test
+    @DisplayName("비활성화 설정이면 동기화하지 않는다")
+    void checkAndFlush_disabled() {
+        // given
+        ReflectionTestUtils.setField(scheduler, "enabled", false);
+        given(viewCountCacheService.getPendingDelta()).willReturn(5_000L);
+
+        // when
+        scheduler.checkAndFlush();
+
+        // then
+        verify(viewCountCacheService, never()).syncViewCountsToDB();
+    }
+}
@@ -0,0 +1,63 @@
+package ktb.cloud_james.community.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.cloud_james.community.global.metrics.ContentReadMetrics;
+import ktb.cloud_james.community.repository.ExportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class ExportServiceTest {
+
+    @Test
+    @DisplayName("행마다 JSON 객체 한 줄로 쓴다 (NDJSON)")
+    void exportComments_ndjson() throws Exception {
+        // given
+        ExportRepository exportRepository = mock(ExportRepository.class);
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("comment_id")).willReturn(1L, 2L);
+        given(rs.getLong("post_id")).willReturn(10L);
+        given(rs.getLong("user_id")).willReturn(7L);
+        given(rs.getString("content")).willReturn("첫 댓글\n줄바꿈", "두 번째 \"댓글\"");
+        given(rs.getTimestamp("created_at")).willReturn(Timestamp.valueOf(LocalDateTime.of(2025, 1, 2, 3, 4, 5)));
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(0);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).given(exportRepository).streamComments(any());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ExportService exportService = new ExportService(exportRepository, objectMapper, new ContentReadMetrics());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = exportService.exportComments(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty(); // 마지막 줄도 줄바꿈으로 끝남
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("commentId").asLong()).isEqualTo(1L);
+        assertThat(first.get("content").asText()).isEqualTo("첫 댓글\n줄바꿈");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2025-01-02 03:04:05");
+        assertThat(first.get("deletedAt").isNull()).isTrue();
+        assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEqualTo("두 번째 \"댓글\"");
+    }
+}
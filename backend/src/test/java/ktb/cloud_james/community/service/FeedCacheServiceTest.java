@@ -0,0 +1,166 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostListResponseDto;
+import ktb.cloud_james.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FeedCacheServiceTest {
+
+    private PostRepository postRepository;
+    private FeedCacheService feedCacheService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        feedCacheService = new FeedCacheService(postRepository);
+        ReflectionTestUtils.setField(feedCacheService, "enabled", true);
+        ReflectionTestUtils.setField(feedCacheService, "capacity", 5);
+    }
+
+    @Test
+    @DisplayName("캐시 구간 안의 페이지는 DB 조회 없이 응답하고, 구간을 벗어나면 null")
+    void findPage_servesWithinWindow() {
+        // given: 게시글 10..1 중 최신 5건(+1) 적재
+        given(postRepository.findPostsWithCursor(any(), anyInt())).willReturn(summaries(10, 5));
+
+        // when
+        List<PostListResponseDto.PostSummaryDto> first = feedCacheService.findPage(null, 2);
+        List<PostListResponseDto.PostSummaryDto> second = feedCacheService.findPage(9L, 2);
+        List<PostListResponseDto.PostSummaryDto> beyond = feedCacheService.findPage(8L, 2);
+
+        // then
+        assertThat(ids(first)).containsExactly(10L, 9L, 8L);
+        assertThat(ids(second)).containsExactly(8L, 7L, 6L);
+        assertThat(beyond).isNull();
+        verify(postRepository, times(1)).findPostsWithCursor(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("게시글이 캐시 크기보다 적으면 마지막 페이지까지 캐시로 응답")
+    void findPage_completeWindow() {
+        // given
+        given(postRepository.findPostsWithCursor(any(), anyInt())).willReturn(summaries(3, 3));
+
+        // when
+        List<PostListResponseDto.PostSummaryDto> page = feedCacheService.findPage(2L, 10);
+
+        // then
+        assertThat(ids(page)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("작성/삭제는 캐시에 바로 반영되고 용량을 넘지 않는다")
+    void addAndRemove() {
+        // given
+        given(postRepository.findPostsWithCursor(any(), anyInt())).willReturn(summaries(10, 5));
+        feedCacheService.findPage(null, 1);
+
+        // when
+        feedCacheService.add(summary(11L));
+        feedCacheService.remove(9L);
+
+        // then
+        assertThat(ids(feedCacheService.findPage(null, 3))).containsExactly(11L, 10L, 8L, 7L);
+        assertThat(feedCacheService.findPage(null, 4)).isNull();
+    }
+
+    @Test
+    @DisplayName("작성 커밋이 ID 역순으로 끝나거나 재적재가 먼저 담아도 내림차순/중복 없음 유지")
+    void add_keepsDescendingOrder() {
+        // given
+        given(postRepository.findPostsWithCursor(any(), anyInt())).willReturn(summaries(100, 5));
+        feedCacheService.findPage(null, 1);
+
+        // when: 102가 101보다 먼저 커밋, 102는 재적재로 이미 담긴 뒤 afterCommit 도착
+        feedCacheService.add(summary(102L));
+        feedCacheService.add(summary(101L));
+        feedCacheService.add(summary(102L));
+        feedCacheService.add(summary(50L)); // 캐시 구간(96~)보다 오래된 게시글
+
+        // then
+        assertThat(ids(feedCacheService.findPage(null, 4))).containsExactly(102L, 101L, 100L, 99L, 98L);
+        assertThat(ids(feedCacheService.findPageAfter(100L, 2))).containsExactly(101L, 102L);
+    }
+
+    @Test
+    @DisplayName("ID 목록 중 캐시에 있는 게시글만 반환하고, 적재 전이면 DB를 조회하지 않는다")
+    void findByIds() {
+        // given
+        given(postRepository.findPostsWithCursor(any(), anyInt())).willReturn(summaries(10, 5));
+        assertThat(feedCacheService.findByIds(List.of(10L))).isEmpty();
+        verify(postRepository, times(0)).findPostsWithCursor(any(), anyInt());
+
+        feedCacheService.findPage(null, 1);
+
+        // when
+        Map<Long, PostListResponseDto.PostSummaryDto> found = feedCacheService.findByIds(List.of(9L, 3L, 6L));
+
+        // then
+        assertThat(found).containsOnlyKeys(9L, 6L);
+    }
+
+    @Test
+    @DisplayName("주기 재조회 결과가 같으면 버전을 유지하고, 바뀌면 올린다")
+    void refreshStats_keepsVersionWhenUnchanged() {
+        // given
+        given(postRepository.findPostsWithCursor(any(), anyInt())).willReturn(summaries(10, 5));
+        feedCacheService.findPage(null, 1);
+        long loaded = feedCacheService.getVersion();
+
+        // when: 같은 내용
+        feedCacheService.refreshStats();
+
+        // then
+        assertThat(feedCacheService.getVersion()).isEqualTo(loaded);
+
+        // when: 새 게시글
+        given(postRepository.findPostsWithCursor(any(), anyInt())).willReturn(summaries(11, 5));
+        feedCacheService.refreshStats();
+
+        // then
+        assertThat(feedCacheService.getVersion()).isGreaterThan(loaded);
+    }
+
+    // id가 top부터 내림차순인 요약 (limit + 1건까지, 전체 게시글 수가 top)
+    private static List<PostListResponseDto.PostSummaryDto> summaries(long top, int capacity) {
+        List<PostListResponseDto.PostSummaryDto> result = new ArrayList<>();
+        LongStream.iterate(top, id -> id - 1)
+                .limit(Math.min(top, capacity + 1))
+                .forEach(id -> result.add(summary(id)));
+        return result;
+    }
+
+    private static PostListResponseDto.PostSummaryDto summary(Long postId) {
+        return PostListResponseDto.PostSummaryDto.builder()
+                .postId(postId)
+                .title("제목" + postId)
+                .authorNickname("작성자")
+                .isAuthorDeleted(false)
+                .createdAt(LocalDateTime.now())
+                .likeCount(0L)
+                .commentCount(0L)
+                .viewCount(0L)
+                .build();
+    }
+
+    private static List<Long> ids(List<PostListResponseDto.PostSummaryDto> posts) {
+        return posts.stream().map(PostListResponseDto.PostSummaryDto::getPostId).toList();
+    }
+}
@@ -0,0 +1,125 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostRankingSourceDto;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class HotRankingServiceTest {
+
+    private PostRepository postRepository;
+    private PostTimeIndexService postTimeIndexService;
+    private HotRankingService hotRankingService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        ViewCountCacheService viewCountCacheService = mock(ViewCountCacheService.class);
+        given(viewCountCacheService.getCachedViewCount(anyLong())).willReturn(0L);
+
+        LikeCountCacheService likeCountCacheService = mock(LikeCountCacheService.class);
+        given(likeCountCacheService.getPendingLikeCount(anyLong())).willReturn(0L);
+
+        postTimeIndexService = mock(PostTimeIndexService.class);
+
+        hotRankingService = new HotRankingService(
+                postRepository, viewCountCacheService, likeCountCacheService, postTimeIndexService);
+        ReflectionTestUtils.setField(hotRankingService, "windowHours", 168L);
+        ReflectionTestUtils.setField(hotRankingService, "maxSize", 1000);
+        ReflectionTestUtils.setField(hotRankingService, "candidateLimit", 10000);
+        ReflectionTestUtils.setField(hotRankingService, "likeWeight", 4.0);
+        ReflectionTestUtils.setField(hotRankingService, "commentWeight", 2.0);
+        ReflectionTestUtils.setField(hotRankingService, "viewWeight", 0.1);
+        ReflectionTestUtils.setField(hotRankingService, "gravity", 1.5);
+    }
+
+    @Test
+    @DisplayName("점수 순으로 정렬되고, 같은 반응이면 최근 글이 앞선다")
+    void refresh_ordersByDecayedScore() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(postRepository.findRankingSources(any(), any(), anyInt())).willReturn(List.of(
+                source(1L, now.minusHours(48), 10),
+                source(2L, now.minusHours(1), 10),
+                source(3L, now.minusHours(1), 50)
+        ));
+
+        // when
+        hotRankingService.refresh();
+        HotRankingService.Page page = hotRankingService.getPage(null, 10);
+
+        // then
+        assertThat(page.getPostIds()).containsExactly(3L, 2L, 1L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 도중 랭킹이 갱신되어도 커서의 스냅샷 순서로 이어서 조회한다")
+    void getPage_cursorSurvivesRefresh() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(postRepository.findRankingSources(any(), any(), anyInt())).willReturn(List.of(
+                source(1L, now, 40), source(2L, now, 30), source(3L, now, 20), source(4L, now, 10)
+        ));
+        hotRankingService.refresh();
+        HotRankingService.Page first = hotRankingService.getPage(null, 2);
+
+        // when: 순위가 뒤집힌 새 랭킹
+        given(postRepository.findRankingSources(any(), any(), anyInt())).willReturn(List.of(
+                source(1L, now, 10), source(2L, now, 20), source(3L, now, 30), source(4L, now, 40)
+        ));
+        hotRankingService.refresh();
+        HotRankingService.Page second = hotRankingService.getPage(first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getPostIds()).containsExactly(1L, 2L);
+        assertThat(second.getPostIds()).containsExactly(3L, 4L);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("랭킹 후보는 게시글 시각 색인의 ID 하한부터 조회한다")
+    void refresh_boundsCandidatesById() {
+        // given
+        given(postTimeIndexService.resolveLowerBound(any())).willReturn(500L);
+        given(postRepository.findRankingSources(any(), any(), anyInt())).willReturn(List.of());
+
+        // when
+        hotRankingService.refresh();
+
+        // then
+        verify(postRepository).findRankingSources(any(), eq(500L), eq(10000));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외")
+    void getPage_invalidCursor() {
+        // given
+        given(postRepository.findRankingSources(any(), any(), anyInt())).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> hotRankingService.getPage("not-a-cursor", 10))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private static PostRankingSourceDto source(Long postId, LocalDateTime createdAt, long likes) {
+        return new PostRankingSourceDto(postId, createdAt, likes, 0L, 0L);
+    }
+}
@@ -0,0 +1,123 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.repository.PostStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LikeCountCacheServiceTest {
+
+    private PostStatsRepository postStatsRepository;
+    private LikeCountCacheService likeCountCacheService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postStatsRepository = mock(PostStatsRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        willAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        likeCountCacheService = new LikeCountCacheService(postStatsRepository, transactionTemplate);
+        ReflectionTestUtils.setField(likeCountCacheService, "batchSize", 500);
+    }
+
+    @Test
+    @DisplayName("좋아요/취소 증감분을 모아 게시글당 한 번에 반영한다")
+    void sync_aggregatesDeltas() {
+        // given - 좋아요 3번, 취소 1번
+        likeCountCacheService.add(1L, 1);
+        likeCountCacheService.add(1L, 1);
+        likeCountCacheService.add(1L, 1);
+        likeCountCacheService.add(1L, -1);
+        likeCountCacheService.add(2L, -1);
+        given(postStatsRepository.bulkAddLikeCounts(anyMap())).willReturn(2);
+
+        // when
+        assertThat(likeCountCacheService.getPendingLikeCount(1L)).isEqualTo(2);
+        likeCountCacheService.syncLikeCountsToDB();
+
+        // then
+        verify(postStatsRepository, times(1)).bulkAddLikeCounts(Map.of(1L, 2L, 2L, -1L));
+        assertThat(likeCountCacheService.getPendingLikeCount(1L)).isZero();
+        assertThat(likeCountCacheService.getPendingLikeCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 증감분을 되돌려 다음 주기에 재시도한다")
+    void sync_restoresOnFailure() {
+        // given
+        likeCountCacheService.add(1L, 1);
+        given(postStatsRepository.bulkAddLikeCounts(anyMap()))
+                .willThrow(new QueryTimeoutException("lock wait timeout"))
+                .willReturn(1);
+
+        // when
+        likeCountCacheService.syncLikeCountsToDB();
+
+        // then
+        assertThat(likeCountCacheService.getPendingLikeCount(1L)).isEqualTo(1);
+
+        likeCountCacheService.syncLikeCountsToDB();
+        assertThat(likeCountCacheService.getPendingLikeCount(1L)).isZero();
+        verify(postStatsRepository, times(2)).bulkAddLikeCounts(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("실패한 청크는 반영 중 증감분에서 빠지고 캐시에만 한 번 남는다")
+    void sync_restoredDeltaNotCountedTwice() {
+        // given - 청크 1건씩, 첫 청크만 실패
+        ReflectionTestUtils.setField(likeCountCacheService, "batchSize", 1);
+        likeCountCacheService.add(1L, 1);
+        likeCountCacheService.add(2L, 1);
+        given(postStatsRepository.bulkAddLikeCounts(anyMap()))
+                .willThrow(new QueryTimeoutException("lock wait timeout"))
+                .willReturn(1);
+
+        // when
+        likeCountCacheService.syncLikeCountsToDB();
+
+        // then - 실패한 게시글(첫 청크)은 캐시에만 남음
+        assertThat(likeCountCacheService.getPendingLikeCount(1L)).isEqualTo(1);
+        assertThat(likeCountCacheService.getPendingLikeCount(2L)).isZero();
+        assertThat(ReflectionTestUtils.getField(likeCountCacheService, "inFlight")).asInstanceOf(MAP).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 중(Drain 후 커밋 전)에도 반영 대기 증감분에 포함한다")
+    void getPending_includesInFlight() {
+        // given
+        likeCountCacheService.add(1L, 1);
+        likeCountCacheService.add(1L, 1);
+        long[] duringFlush = new long[1];
+        given(postStatsRepository.bulkAddLikeCounts(anyMap())).willAnswer(invocation -> {
+            duringFlush[0] = likeCountCacheService.getPendingLikeCount(1L);
+            return 1;
+        });
+
+        // when
+        likeCountCacheService.syncLikeCountsToDB();
+
+        // then
+        assertThat(duringFlush[0]).isEqualTo(2);
+        assertThat(likeCountCacheService.getPendingLikeCount(1L)).isZero();
+    }
+}
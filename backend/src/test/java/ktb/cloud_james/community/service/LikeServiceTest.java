@@ -0,0 +1,148 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.like.LikeResponseDto;
+import ktb.cloud_james.community.dto.like.LikerListResponseDto;
+import ktb.cloud_james.community.global.exception.CustomException;
+import ktb.cloud_james.community.repository.PostLikeRepository;
+import ktb.cloud_james.community.repository.PostLikeRepositoryCustom;
+import ktb.cloud_james.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LikeServiceTest {
+
+    private PostLikeRepository postLikeRepository;
+    private PostRepository postRepository;
+    private LikedPostCacheService likedPostCacheService;
+    private LikeCountCacheService likeCountCacheService;
+    private LikerCacheService likerCacheService;
+    private LikeService likeService;
+
+    @BeforeEach
+    void setUp() {
+        postLikeRepository = mock(PostLikeRepository.class);
+        postRepository = mock(PostRepository.class);
+        likedPostCacheService = mock(LikedPostCacheService.class);
+        likeCountCacheService = mock(LikeCountCacheService.class);
+        likerCacheService = new LikerCacheService();
+        ReflectionTestUtils.setField(likerCacheService, "enabled", true);
+        ReflectionTestUtils.setField(likerCacheService, "maxSize", 10);
+        ReflectionTestUtils.setField(likerCacheService, "ttlMillis", 60_000L);
+        likeService = new LikeService(postLikeRepository, postRepository, likedPostCacheService,
+                likeCountCacheService, likerCacheService);
+    }
+
+    @Test
+    @DisplayName("PUT 재시도는 좋아요 수를 다시 올리지 않는다")
+    void putLike_idempotent() {
+        // given - 첫 요청만 실제로 추가됨
+        given(postLikeRepository.insertLikeIfPostActive(1L, 7L)).willReturn(1, 0);
+        given(postLikeRepository.findLikeState(1L, 7L))
+                .willReturn(Optional.of(new PostLikeRepositoryCustom.LikeState(10, true)));
+        given(likeCountCacheService.getPendingLikeCount(1L)).willReturn(0L, 1L);
+
+        // when
+        LikeResponseDto first = likeService.putLike(7L, 1L);
+        LikeResponseDto retry = likeService.putLike(7L, 1L);
+
+        // then
+        assertThat(first.getIsLiked()).isTrue();
+        assertThat(first.getLikeCount()).isEqualTo(11L);
+        assertThat(retry.getIsLiked()).isTrue();
+        assertThat(retry.getLikeCount()).isEqualTo(11L);
+        verify(likeCountCacheService, times(1)).add(1L, 1);
+    }
+
+    @Test
+    @DisplayName("이미 취소된 좋아요의 DELETE는 변경 없이 성공한다")
+    void deleteLike_alreadyUnliked() {
+        // given
+        given(postLikeRepository.deleteLikeIfPostActive(1L, 7L)).willReturn(0);
+        given(postLikeRepository.findLikeState(1L, 7L))
+                .willReturn(Optional.of(new PostLikeRepositoryCustom.LikeState(3, false)));
+
+        // when
+        LikeResponseDto response = likeService.deleteLike(7L, 1L);
+
+        // then
+        assertThat(response.getIsLiked()).isFalse();
+        assertThat(response.getLikeCount()).isEqualTo(3L);
+        verify(likeCountCacheService, never()).add(1L, -1);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글이면 404")
+    void putLike_deletedPost() {
+        // given
+        given(postLikeRepository.insertLikeIfPostActive(1L, 7L)).willReturn(0);
+        given(postLikeRepository.findLikeState(1L, 7L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> likeService.putLike(7L, 1L)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("인기 게시글 첫 페이지는 한 번만 조회하고 limit별로 잘라서 응답")
+    void getLikers_cachesHotFirstPage() {
+        // given - 좋아요가 최대 페이지 크기보다 많은 게시글 (51행 → 가득 찬 첫 페이지)
+        List<LikerListResponseDto.LikerDto> rows = LongStream.rangeClosed(1, 51)
+                .mapToObj(i -> liker(100 - i, i == 1))
+                .toList();
+        given(postRepository.existsByIdAndDeletedAtIsNull(1L)).willReturn(true);
+        given(postLikeRepository.findLikersWithCursor(1L, null, 51)).willReturn(rows);
+
+        // when
+        LikerListResponseDto first = likeService.getLikers(1L, null, 20);
+        LikerListResponseDto second = likeService.getLikers(1L, null, 5);
+
+        // then
+        assertThat(first.getLikers()).hasSize(20);
+        assertThat(first.getLikers().get(0).getNickname()).isEqualTo("탈퇴한 회원");
+        assertThat(first.getPagination().getCursor()).isEqualTo(80L);
+        assertThat(first.getPagination().getHasNext()).isTrue();
+        assertThat(second.getLikers()).hasSize(5);
+        assertThat(second.getPagination().getCursor()).isEqualTo(95L);
+        verify(postLikeRepository, times(1)).findLikersWithCursor(1L, null, 51);
+        verify(postRepository, times(1)).existsByIdAndDeletedAtIsNull(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요가 적은 게시글은 캐시하지 않고, 다음 페이지는 커서로 조회")
+    void getLikers_smallPostNotCached() {
+        // given
+        given(postRepository.existsByIdAndDeletedAtIsNull(1L)).willReturn(true);
+        given(postLikeRepository.findLikersWithCursor(1L, null, 51)).willReturn(List.of(liker(3, false)));
+        given(postLikeRepository.findLikersWithCursor(1L, 3L, 21)).willReturn(List.of());
+
+        // when
+        likeService.getLikers(1L, null, null);
+        likeService.getLikers(1L, null, null);
+        LikerListResponseDto next = likeService.getLikers(1L, 3L, null);
+
+        // then
+        assertThat(next.getLikers()).isEmpty();
+        assertThat(next.getPagination().getCursor()).isNull();
+        assertThat(next.getPagination().getHasNext()).isFalse();
+        verify(postLikeRepository, times(2)).findLikersWithCursor(1L, null, 51);
+    }
+
+    private static LikerListResponseDto.LikerDto liker(long likeId, boolean deleted) {
+        return new LikerListResponseDto.LikerDto(
+                likeId, likeId, "user" + likeId, null, deleted, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,177 @@
+package ktb.cloud_james.community.service;
+
+import jakarta.persistence.EntityManager;
+import ktb.cloud_james.community.entity.Post;
+import ktb.cloud_james.community.entity.PostLike;
+import ktb.cloud_james.community.entity.User;
+import ktb.cloud_james.community.global.config.QueryDslConfig;
+import ktb.cloud_james.community.global.metrics.ContentReadMetrics;
+import ktb.cloud_james.community.repository.CapturingQueryInterceptor;
+import ktb.cloud_james.community.repository.PostLikeRepository;
+import ktb.cloud_james.community.repository.PostRepository;
+import ktb.cloud_james.community.repository.PostStatsRepository;
+import ktb.cloud_james.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 좋아요 토글 벤치마크 (MySQL 컨테이너, db/explain-seed 데이터)
+ * - 기존: 게시글/사용자/좋아요 엔티티 조회 → INSERT/DELETE → post_stats UPDATE → post_stats 재조회
+ * - 현재: 상태 조회 1회 → INSERT IGNORE/DELETE 1회 (LikeService.like)
+ * - 측정: 좋아요 1회당 지연 시간(평균/p50/p99), DB 문장 수(트랜잭션 제어 포함)
+ *
+ * 일반 테스트에서는 제외 (./gradlew benchmark 로 실행, Docker 필요)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.flyway.locations=classpath:db/migration,classpath:db/contract,classpath:db/explain-seed",
+        "scheduler.like-count-sync.journal.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, ContentReadMetrics.class,
+        LikeService.class, LikeCountCacheService.class, LikedPostCacheService.class, LikerCacheService.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 좋아요마다 실제 커밋
+class LikeToggleBenchmark {
+
+    private static final long POST_ID = 301L; // 삭제되지 않은 시드 게시글
+    private static final int USERS = 500;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int ROUNDS = 4;      // 사용자마다 좋아요/취소 반복 횟수 (짝수 → 원래 상태로 복귀)
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> {
+            String url = mysql.getJdbcUrl();
+            return url + (url.contains("?") ? "&" : "?")
+                    + "queryInterceptors=" + CapturingQueryInterceptor.class.getName();
+        });
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("좋아요 토글 - 기존(엔티티 적재) vs 현재(문장 2개) 지연 시간/DB 문장 수")
+    void compareTogglePaths() {
+        run(WARMUP_ROUNDS, this::legacyLike);
+        run(WARMUP_ROUNDS, userId -> likeService.like(userId, POST_ID));
+
+        Result legacy = run(ROUNDS, this::legacyLike);
+        Result lean = run(ROUNDS, userId -> likeService.like(userId, POST_ID));
+
+        System.out.printf("%-28s %8s %10s %10s %10s %12s%n",
+                "path", "likes", "avg(us)", "p50(us)", "p99(us)", "statements");
+        print("legacy (entity load)", legacy);
+        print("lean (state + write)", lean);
+    }
+
+    /**
+     * 기존 LikeService.like 흐름 (비교용 재현)
+     */
+    private void legacyLike(long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postRepository.findById(POST_ID).orElseThrow();
+            User user = userRepository.findById(userId).orElseThrow();
+
+            List<PostLike> existing = entityManager.createQuery(
+                            "SELECT pl FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId",
+                            PostLike.class)
+                    .setParameter("postId", POST_ID)
+                    .setParameter("userId", userId)
+                    .getResultList();
+
+            if (!existing.isEmpty()) {
+                postLikeRepository.delete(existing.get(0));
+                entityManager.flush();
+                jdbcTemplate.update("UPDATE post_stats SET like_count = like_count - 1 "
+                        + "WHERE post_id = ? AND like_count > 0", POST_ID);
+            } else {
+                postLikeRepository.save(PostLike.builder().post(post).user(user).build());
+                jdbcTemplate.update("UPDATE post_stats SET like_count = like_count + 1 WHERE post_id = ?", POST_ID);
+            }
+
+            entityManager.clear(); // @Modifying(clearAutomatically 없음) 이후 재조회와 같은 효과
+            postStatsRepository.findById(POST_ID).orElseThrow();
+        });
+    }
+
+    private Result run(int rounds, UserAction action) {
+        long[] nanos = new long[rounds * USERS];
+        CapturingQueryInterceptor.drainStatementCount();
+
+        int index = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                long start = System.nanoTime();
+                action.like(userId);
+                nanos[index++] = System.nanoTime() - start;
+            }
+        }
+
+        long statements = CapturingQueryInterceptor.drainStatementCount();
+        Arrays.sort(nanos);
+        return new Result(nanos, statements);
+    }
+
+    private static void print(String name, Result result) {
+        long[] nanos = result.nanos;
+        double avg = Arrays.stream(nanos).average().orElse(0) / 1000.0;
+        System.out.printf("%-28s %8d %10.0f %10.0f %10.0f %12.1f%n",
+                name, nanos.length, avg,
+                nanos[nanos.length / 2] / 1000.0,
+                nanos[(int) (nanos.length * 0.99)] / 1000.0,
+                (double) result.statements / nanos.length);
+    }
+
+    @FunctionalInterface
+    private interface UserAction {
+        void like(long userId);
+    }
+
+    private record Result(long[] nanos, long statements) {
+    }
+}
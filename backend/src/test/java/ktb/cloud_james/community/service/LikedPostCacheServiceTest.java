@@ -0,0 +1,81 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostListResponseDto;
+import ktb.cloud_james.community.repository.PostLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LikedPostCacheServiceTest {
+
+    private PostLikeRepository postLikeRepository;
+    private LikedPostCacheService likedPostCacheService;
+
+    @BeforeEach
+    void setUp() {
+        postLikeRepository = mock(PostLikeRepository.class);
+        given(postLikeRepository.findPostIdsByUserId(1L)).willReturn(List.of(10L, 30L));
+        given(postLikeRepository.findPostIdsByUserId(2L))
+                .willReturn(LongStream.rangeClosed(1, 10_000).boxed().toList());
+
+        likedPostCacheService = new LikedPostCacheService(postLikeRepository);
+        ReflectionTestUtils.setField(likedPostCacheService, "enabled", true);
+        ReflectionTestUtils.setField(likedPostCacheService, "maxMemoryBytes", 8_400L);
+        ReflectionTestUtils.setField(likedPostCacheService, "ttlMillis", 60_000L);
+    }
+
+    @Test
+    @DisplayName("복사본에 좋아요 여부를 표시하고, 좋아요 변경은 DB 재조회 없이 반영")
+    void annotate_andLikeChanged() {
+        // given
+        List<PostListResponseDto.PostSummaryDto> page = List.of(summary(30L), summary(20L), summary(10L));
+
+        // when
+        List<PostListResponseDto.PostSummaryDto> first = likedPostCacheService.annotate(1L, page);
+        likedPostCacheService.onLikeChanged(1L, 20L, true);
+        likedPostCacheService.onLikeChanged(1L, 30L, false);
+        List<PostListResponseDto.PostSummaryDto> second = likedPostCacheService.annotate(1L, page);
+
+        // then
+        assertThat(first).extracting(PostListResponseDto.PostSummaryDto::getIsLiked).containsExactly(true, false, true);
+        assertThat(second).extracting(PostListResponseDto.PostSummaryDto::getIsLiked).containsExactly(false, true, true);
+        assertThat(page).extracting(PostListResponseDto.PostSummaryDto::getIsLiked).containsOnlyNulls(); // 원본 유지
+        assertThat(likedPostCacheService.annotate(null, page)).isSameAs(page);
+        verify(postLikeRepository, times(1)).findPostIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘으면 가장 오래 안 쓴 사용자 비트맵부터 제거")
+    void evictBySize() {
+        // given
+        List<PostListResponseDto.PostSummaryDto> page = List.of(summary(10L));
+
+        // when (2번 사용자는 비트맵 컨테이너 8KB 남짓 → 상한 8,400B에서 1번과 함께 못 들어감)
+        likedPostCacheService.annotate(1L, page);
+        likedPostCacheService.annotate(2L, page);
+
+        // then
+        assertThat(likedPostCacheService.getMemoryBytes(1L)).isZero();
+        assertThat(likedPostCacheService.getMemoryBytes(2L)).isGreaterThan(8_192L);
+
+        likedPostCacheService.annotate(1L, page);
+        verify(postLikeRepository, times(2)).findPostIdsByUserId(1L);
+    }
+
+    private static PostListResponseDto.PostSummaryDto summary(Long postId) {
+        return new PostListResponseDto.PostSummaryDto(
+                postId, "title" + postId, "nick", null, false, LocalDateTime.now(),
+                "excerpt", 1, null, 0L, 0L, 0L);
+    }
+}
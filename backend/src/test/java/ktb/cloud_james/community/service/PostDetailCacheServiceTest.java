@@ -0,0 +1,128 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostDetailContentDto;
+import ktb.cloud_james.community.dto.post.PostDetailResponseDto;
+import ktb.cloud_james.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostDetailCacheServiceTest {
+
+    private PostRepository postRepository;
+    private PostDetailCacheService postDetailCacheService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        given(postRepository.findPostDetailContent(anyLong()))
+                .willAnswer(invocation -> Optional.of(content(invocation.getArgument(0), 100L)));
+
+        postDetailCacheService = new PostDetailCacheService(postRepository);
+        ReflectionTestUtils.setField(postDetailCacheService, "enabled", true);
+        ReflectionTestUtils.setField(postDetailCacheService, "maxSize", 2);
+        ReflectionTestUtils.setField(postDetailCacheService, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(postDetailCacheService, "maxEntryBytes", 1_000_000L);
+        ReflectionTestUtils.setField(postDetailCacheService, "ttlMillis", 60_000L);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터 캐시에서 응답하고, 용량을 넘으면 가장 오래 안 쓴 게시글부터 제거")
+    void getContent_lru() {
+        // when
+        postDetailCacheService.getContent(1L);
+        postDetailCacheService.getContent(2L);
+        postDetailCacheService.getContent(1L); // 1번을 최근 사용으로
+        postDetailCacheService.getContent(3L); // 2번 제거
+        postDetailCacheService.getContent(1L);
+        postDetailCacheService.getContent(2L);
+
+        // then
+        verify(postRepository, times(1)).findPostDetailContent(1L);
+        verify(postRepository, times(2)).findPostDetailContent(2L);
+        verify(postRepository, times(1)).findPostDetailContent(3L);
+    }
+
+    @Test
+    @DisplayName("본문 크기 합계가 상한을 넘으면 오래된 게시글부터 제거하고, 한 건 상한을 넘는 본문은 캐시하지 않음")
+    void getContent_boundedByBytes() {
+        // given - 본문 100자 = 200바이트 (제목 포함 약 206바이트)
+        ReflectionTestUtils.setField(postDetailCacheService, "maxSize", 100);
+        ReflectionTestUtils.setField(postDetailCacheService, "maxBytes", 500L);
+        ReflectionTestUtils.setField(postDetailCacheService, "maxEntryBytes", 300L);
+        given(postRepository.findPostDetailContent(anyLong()))
+                .willAnswer(invocation -> Optional.of(content(invocation.getArgument(0), 100L, "가".repeat(100))));
+        given(postRepository.findPostDetailContent(9L))
+                .willReturn(Optional.of(content(9L, 100L, "가".repeat(1000))));
+
+        // when
+        postDetailCacheService.getContent(1L);
+        postDetailCacheService.getContent(2L);
+        postDetailCacheService.getContent(3L); // 합계 초과 → 1번 제거
+        postDetailCacheService.getContent(9L); // 한 건 상한 초과 → 캐시 안 함
+        postDetailCacheService.getContent(9L);
+        postDetailCacheService.getContent(1L);
+
+        // then
+        verify(postRepository, times(2)).findPostDetailContent(1L);
+        verify(postRepository, times(2)).findPostDetailContent(9L);
+        assertThat(postDetailCacheService.getTotalBytes()).isLessThanOrEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("게시글/작성자 단위 무효화 후에는 DB에서 다시 조회")
+    void evict() {
+        // given
+        postDetailCacheService.getContent(1L);
+        postDetailCacheService.getContent(2L);
+
+        // when
+        postDetailCacheService.evict(1L);
+        postDetailCacheService.evictByAuthor(100L);
+        postDetailCacheService.getContent(1L);
+        postDetailCacheService.getContent(2L);
+
+        // then
+        verify(postRepository, times(2)).findPostDetailContent(1L);
+        verify(postRepository, times(2)).findPostDetailContent(2L);
+        assertThat(postDetailCacheService.getTotalBytes()).isEqualTo(2 * (3 + 2) * 2L); // "제목N" + "본문"
+    }
+
+    @Test
+    @DisplayName("탈퇴한 작성자는 캐시에 넣기 전에 마스킹")
+    void getContent_masksDeletedAuthor() {
+        // given
+        PostDetailContentDto withdrawn = new PostDetailContentDto(
+                5L, "제목", "본문", null, LocalDateTime.now(), LocalDateTime.now(), 7L,
+                new PostDetailResponseDto.AuthorInfo("작성자", "profile.png", true));
+        given(postRepository.findPostDetailContent(5L)).willReturn(Optional.of(withdrawn));
+
+        // when
+        PostDetailContentDto found = postDetailCacheService.getContent(5L).orElseThrow();
+
+        // then
+        assertThat(found.getAuthor().getNickname()).isEqualTo("탈퇴한 회원");
+        assertThat(found.getAuthor().getProfileImage()).isNull();
+    }
+
+    private static PostDetailContentDto content(Long postId, Long authorId) {
+        return content(postId, authorId, "본문");
+    }
+
+    private static PostDetailContentDto content(Long postId, Long authorId, String body) {
+        return new PostDetailContentDto(
+                postId, "제목" + postId, body, null, LocalDateTime.now(), LocalDateTime.now(), authorId,
+                new PostDetailResponseDto.AuthorInfo("작성자", null, false));
+    }
+}
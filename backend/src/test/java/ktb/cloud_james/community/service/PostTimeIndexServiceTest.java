@@ -0,0 +1,70 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.dto.post.PostTimeDto;
+import ktb.cloud_james.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostTimeIndexServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private PostRepository postRepository;
+    private PostTimeIndexService postTimeIndexService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        given(postRepository.findPostTimes(anyLong(), anyInt())).willReturn(List.of());
+        given(postRepository.findPostTimes(0L, 100)).willReturn(List.of(
+                new PostTimeDto(1L, BASE),
+                new PostTimeDto(2L, BASE.plusDays(1))));
+
+        postTimeIndexService = new PostTimeIndexService(postRepository);
+        ReflectionTestUtils.setField(postTimeIndexService, "enabled", true);
+        ReflectionTestUtils.setField(postTimeIndexService, "batchSize", 100);
+        postTimeIndexService.sync();
+    }
+
+    @Test
+    @DisplayName("색인 안의 시각은 DB 조회 없이 경계 ID로 변환")
+    void resolveBefore_withinIndex() {
+        assertThat(postTimeIndexService.resolveBefore(BASE.plusHours(1))).isEqualTo(2L);
+        verify(postRepository, times(1)).findPostTimes(anyLong(), anyInt()); // 초기 적재만
+    }
+
+    @Test
+    @DisplayName("현재 이후 시각은 추가 적재 없이 최신부터, 색인 이후 과거 시각은 1초에 한 번만 추가 적재")
+    void resolveBefore_limitsInlineCatchUp() {
+        // when
+        Long future = postTimeIndexService.resolveBefore(LocalDateTime.of(2099, 1, 1, 0, 0));
+        for (int i = 0; i < 5; i++) {
+            postTimeIndexService.resolveBefore(BASE.plusDays(2));
+        }
+
+        // then (초기 적재 1회 + 요청 스레드 추가 적재 1회)
+        assertThat(future).isNull();
+        verify(postRepository, times(2)).findPostTimes(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("ID 하한은 추가 적재 없이 색인만 사용, 시각 이후 게시글이 없으면 마지막 ID 다음")
+    void resolveLowerBound() {
+        assertThat(postTimeIndexService.resolveLowerBound(BASE.plusHours(1))).isEqualTo(2L);
+        assertThat(postTimeIndexService.resolveLowerBound(BASE.plusDays(2))).isEqualTo(3L);
+        verify(postRepository, times(1)).findPostTimes(anyLong(), anyInt()); // 초기 적재만
+    }
+}
@@ -0,0 +1,143 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.repository.PostStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ViewCountCacheServiceTest {
+
+    private PostStatsRepository postStatsRepository;
+    private ViewCountCacheService viewCountCacheService;
+
+    @BeforeEach
+    void setUp() {
+        postStatsRepository = mock(PostStatsRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        willAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+
+        viewCountCacheService = new ViewCountCacheService(
+                postStatsRepository,
+                mock(ViewCountClusterService.class),
+                mock(UniqueViewerService.class),
+                mock(ViewHistoryService.class),
+                transactionTemplate);
+        ReflectionTestUtils.setField(viewCountCacheService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("증가분을 batch-size 청크로 나눠 청크마다 다중 행 UPDATE 1회로 반영한다")
+    void sync_flushesInChunks() {
+        // given - 게시글 3건 (청크 2건 + 1건)
+        view(1L, 3);
+        view(2L, 1);
+        view(3L, 2);
+        given(postStatsRepository.bulkIncrementViewCounts(anyMap()))
+                .willAnswer(invocation -> invocation.getArgument(0, Map.class).size());
+
+        // when
+        boolean flushed = viewCountCacheService.syncViewCountsToDB();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> chunks = ArgumentCaptor.forClass(Map.class);
+        verify(postStatsRepository, times(2)).bulkIncrementViewCounts(chunks.capture());
+        Map<Long, Long> merged = new HashMap<>();
+        chunks.getAllValues().forEach(chunk -> {
+            assertThat(chunk.size()).isLessThanOrEqualTo(2);
+            merged.putAll(chunk);
+        });
+
+        assertThat(flushed).isTrue();
+        assertThat(merged).isEqualTo(Map.of(1L, 3L, 2L, 1L, 3L, 2L));
+        assertThat(viewCountCacheService.getCachedViewCount(1L)).isZero();
+        assertThat(viewCountCacheService.getPendingDelta()).isZero();
+
+        ViewCountCacheService.SyncStats stats = viewCountCacheService.getSyncStats();
+        assertThat(stats.getDrained()).isEqualTo(6);
+        assertThat(stats.getPersisted()).isEqualTo(6);
+        assertThat(stats.getDropped()).isZero();
+        assertThat(stats.getRestored()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패한 청크는 캐시로 되돌려 다음 주기에 재시도한다")
+    void sync_restoresFailedChunk() {
+        // given
+        view(1L, 2);
+        view(2L, 1);
+        given(postStatsRepository.bulkIncrementViewCounts(anyMap()))
+                .willThrow(new QueryTimeoutException("lock wait timeout"))
+                .willReturn(2);
+
+        // when
+        boolean first = viewCountCacheService.syncViewCountsToDB();
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(viewCountCacheService.getCachedViewCount(1L)).isEqualTo(2);
+        assertThat(viewCountCacheService.getCachedViewCount(2L)).isEqualTo(1);
+        assertThat(viewCountCacheService.getPendingDelta()).isEqualTo(3);
+
+        ViewCountCacheService.SyncStats failed = viewCountCacheService.getSyncStats();
+        assertThat(failed.getDrained()).isEqualTo(3);
+        assertThat(failed.getRestored()).isEqualTo(3);
+        assertThat(failed.getPersisted()).isZero();
+
+        // when - 다음 주기
+        boolean second = viewCountCacheService.syncViewCountsToDB();
+
+        // then - drained == persisted + dropped + restored
+        ViewCountCacheService.SyncStats stats = viewCountCacheService.getSyncStats();
+        assertThat(second).isTrue();
+        assertThat(viewCountCacheService.getCachedViewCount(1L)).isZero();
+        assertThat(stats.getDrained()).isEqualTo(6);
+        assertThat(stats.getPersisted()).isEqualTo(3);
+        assertThat(stats.getDrained())
+                .isEqualTo(stats.getPersisted() + stats.getDropped() + stats.getRestored());
+    }
+
+    @Test
+    @DisplayName("삭제되어 post_stats가 없는 게시글의 조회수는 버린 양으로 집계한다")
+    void sync_countsDroppedRows() {
+        // given
+        view(1L, 4);
+        view(2L, 1);
+        given(postStatsRepository.bulkIncrementViewCounts(anyMap())).willReturn(1);
+        given(postStatsRepository.findExistingPostIds(any())).willReturn(List.of(1L));
+
+        // when
+        viewCountCacheService.syncViewCountsToDB();
+
+        // then
+        ViewCountCacheService.SyncStats stats = viewCountCacheService.getSyncStats();
+        assertThat(stats.getDrained()).isEqualTo(5);
+        assertThat(stats.getPersisted()).isEqualTo(4);
+        assertThat(stats.getDropped()).isEqualTo(1);
+    }
+
+    private void view(long postId, int times) {
+        for (int i = 0; i < times; i++) {
+            viewCountCacheService.incrementViewCount(postId);
+        }
+    }
+}
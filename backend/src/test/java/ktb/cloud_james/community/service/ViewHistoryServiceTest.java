@@ -0,0 +1,91 @@
+package ktb.cloud_james.community.service;
+
+import ktb.cloud_james.community.repository.PostRepository;
+import ktb.cloud_james.community.repository.PostViewHourlyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ViewHistoryServiceTest {
+
+    private PostViewHourlyRepository postViewHourlyRepository;
+    private ViewHistoryService viewHistoryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postViewHourlyRepository = mock(PostViewHourlyRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        willAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+        willAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        viewHistoryService = new ViewHistoryService(
+                mock(PostRepository.class), postViewHourlyRepository, transactionTemplate);
+        ReflectionTestUtils.setField(viewHistoryService, "enabled", true);
+        ReflectionTestUtils.setField(viewHistoryService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 구간을 batch-size 청크로 나눠 남은 행이 없을 때까지 삭제한다")
+    void sync_purgesExpiredInChunks() {
+        // given - 2건, 2건, 1건 순으로 삭제됨
+        given(postViewHourlyRepository.deleteOlderThan(any(LocalDateTime.class), eq(2)))
+                .willReturn(2, 2, 1);
+
+        // when
+        viewHistoryService.syncToDB();
+
+        // then
+        verify(postViewHourlyRepository, times(3)).deleteOlderThan(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    @DisplayName("같은 구간 안에서는 보관 기간 정리를 한 번만 실행한다")
+    void sync_purgesOncePerHour() {
+        given(postViewHourlyRepository.deleteOlderThan(any(LocalDateTime.class), anyInt())).willReturn(0);
+
+        viewHistoryService.syncToDB();
+        viewHistoryService.syncToDB();
+
+        verify(postViewHourlyRepository, times(1)).deleteOlderThan(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("정리 중 예외가 나도 조회수 구간 반영은 계속한다")
+    void sync_purgeFailureDoesNotBlockUpsert() {
+        // given
+        given(postViewHourlyRepository.deleteOlderThan(any(LocalDateTime.class), anyInt()))
+                .willThrow(new QueryTimeoutException("timeout"));
+        viewHistoryService.recordView(1L);
+
+        // when
+        viewHistoryService.syncToDB();
+
+        // then
+        verify(postViewHourlyRepository).upsertHourlyViews(any(LocalDateTime.class), eq(Map.of(1L, 1L)));
+        assertThat(ReflectionTestUtils.getField(viewHistoryService, "lastPurgedHour"))
+                .isNotEqualTo(Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,36 @@
+-- =====================================================================
+-- 쿼리 플랜 테스트용 데이터 (QueryPlanTest 전용, 운영 마이그레이션 아님)
+-- - 빈 테이블에서는 옵티마이저가 인덱스 대신 풀 스캔을 고르므로 운영과 비슷한 분포로 채움
+-- =====================================================================
+
+SET SESSION cte_max_recursion_depth = 100000;
+
+INSERT INTO users (email, password, nickname, is_active, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT CONCAT('user', n, '@test.com'), 'password', CONCAT('u', n), 1, NOW() FROM seq;
+
+INSERT INTO posts (user_id, title, created_at, deleted_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT (n % 1000) + 1, CONCAT('title', n),
+       NOW() - INTERVAL (20000 - n) MINUTE,
+       IF(n % 20 = 0, NOW(), NULL)
+FROM seq;
+
+INSERT INTO post_contents (post_id, encoding, raw_length, body)
+SELECT post_id, 0, 400, CAST(REPEAT('content ', 50) AS BINARY) FROM posts;
+
+INSERT INTO post_stats (post_id, view_count, like_count, comment_count)
+SELECT post_id, post_id % 500, post_id % 50, post_id % 30 FROM posts;
+
+INSERT INTO post_images (post_id, image_url, image_order, is_main, created_at)
+SELECT post_id, CONCAT('https://img.test/', post_id, '.png'), 0, 1, NOW() FROM posts WHERE post_id % 3 = 0;
+
+INSERT INTO post_likes (post_id, user_id, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 50000)
+SELECT DISTINCT (n % 20000) + 1, (n * 7 % 1000) + 1, NOW() FROM seq;
+
+INSERT INTO comments (content, post_id, user_id, created_at, deleted_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100000)
+SELECT CONCAT('comment', n), (n % 20000) + 1, (n % 1000) + 1, NOW(), IF(n % 10 = 0, NOW(), NULL) FROM seq;
+
+ANALYZE TABLE users, posts, post_contents, post_stats, post_images, post_likes, comments;